@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time required to write the library files of an export to a <code>.tar.gz</code> archive using the
+ * given number of compression threads. Each invocation writes a new archive, which is deleted afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ArchiveCompressionBenchmark {
+
+    @Param({ "1000" })
+    private int libraryCount;
+
+    @Param({ "32768" })
+    private int librarySize;
+
+    @Param({ "1", "2", "4", "8" })
+    private int compressionThreads;
+
+    private File libraryFolder;
+    private File archiveFolder;
+    private List<File> libraryFiles;
+
+    /**
+     * Generates the library files to be archived.
+     * 
+     * @throws IOException thrown if the library files cannot be created
+     */
+    @Setup(Level.Trial)
+    public void createLibraries() throws IOException {
+        libraryFolder = BenchmarkData.newTempFolder( "otm_bench_libraries_" );
+        archiveFolder = BenchmarkData.newTempFolder( "otm_bench_archives_" );
+        libraryFiles = BenchmarkData.newLibraryFiles( libraryFolder, libraryCount, librarySize );
+    }
+
+    /**
+     * Writes every library file to a new compressed tar archive.
+     * 
+     * @return long
+     * @throws IOException thrown if the archive cannot be written
+     */
+    @Benchmark
+    public long writeArchive() throws IOException {
+        File archiveFile = new File( archiveFolder, "export.tar.gz" );
+        ArchiveExportSink sink = new ArchiveExportSink( archiveFile );
+
+        sink.setCompressionThreads( compressionThreads );
+
+        try (ExportWriter writer = sink.openWriter()) {
+            for (File libraryFile : libraryFiles) {
+                writer.add( libraryFile.getName(), libraryFile );
+            }
+            writer.commit();
+        }
+        return archiveFile.length();
+    }
+
+    /**
+     * Deletes the generated library files and archives.
+     * 
+     * @throws IOException thrown if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        BenchmarkData.deleteFolder( libraryFolder );
+        BenchmarkData.deleteFolder( archiveFolder );
+    }
+
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the synthetic namespaces and OTM library files that are used by the exporter benchmarks. All data is
+ * generated from a fixed seed so that every benchmark run measures exactly the same workload.
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 20260101L;
+    private static final String OTM_ROOT_NAMESPACE = "http://www.opentravel.org/OTM/";
+    private static final String[] DOMAINS =
+        { "Common", "Air", "Hotel", "Rail", "Cruise", "Car", "Insurance", "Loyalty", "Payment", "Profile" };
+    private static final String[] EXCLUDED_SEGMENTS = { "strawman", "test", "demo" };
+    private static final String[] FOREIGN_ROOTS =
+        { "http://www.example.com/ns/", "http://opentravel.org/legacy/", "urn:opentravel:otm:" };
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BenchmarkData() {}
+
+    /**
+     * Returns the given number of namespaces with a mix similar to a production OTM repository: most are versioned
+     * OTM namespaces, about one in ten contains an excluded segment, and about one in twenty is outside the OTM root.
+     * 
+     * @param count the number of namespaces to generate
+     * @return List&lt;String&gt;
+     */
+    public static List<String> newNamespaces(int count) {
+        Random random = new Random( SEED );
+        List<String> namespaces = new ArrayList<>( count );
+
+        for (int i = 0; i < count; i++) {
+            String domain = DOMAINS[random.nextInt( DOMAINS.length )];
+            int roll = random.nextInt( 20 );
+
+            if (roll == 0) {
+                namespaces.add( FOREIGN_ROOTS[random.nextInt( FOREIGN_ROOTS.length )] + domain + "/v0" + i );
+
+            } else if (roll <= 2) {
+                namespaces.add( OTM_ROOT_NAMESPACE + domain + "/"
+                    + EXCLUDED_SEGMENTS[random.nextInt( EXCLUDED_SEGMENTS.length )] + "/v" + (i % 10) );
+
+            } else {
+                namespaces.add( OTM_ROOT_NAMESPACE + domain + "/Sub" + (i % 50) + "/v0" + (i % 5) );
+            }
+        }
+        return namespaces;
+    }
+
+    /**
+     * Returns the filenames of the given number of libraries, using the same mix of excluded names as
+     * {@link #newNamespaces(int)}.
+     * 
+     * @param count the number of filenames to generate
+     * @return List&lt;String&gt;
+     */
+    public static List<String> newLibraryFilenames(int count) {
+        Random random = new Random( SEED );
+        List<String> filenames = new ArrayList<>( count );
+
+        for (int i = 0; i < count; i++) {
+            String domain = DOMAINS[random.nextInt( DOMAINS.length )];
+
+            if (random.nextInt( 10 ) == 0) {
+                domain += "_" + EXCLUDED_SEGMENTS[random.nextInt( EXCLUDED_SEGMENTS.length )];
+            }
+            filenames.add( domain + "_Library" + i + "_0_" + (i % 4) + ".otm" );
+        }
+        return filenames;
+    }
+
+    /**
+     * Creates the given number of OTM library files of approximately the given size in the specified folder and
+     * returns them in creation order.
+     * 
+     * @param folder the folder in which to create the files
+     * @param count the number of library files to create
+     * @param size the approximate size of each file (in bytes)
+     * @return List&lt;File&gt;
+     * @throws IOException thrown if a file cannot be written
+     */
+    public static List<File> newLibraryFiles(File folder, int count, int size) throws IOException {
+        Random random = new Random( SEED );
+        List<File> files = new ArrayList<>( count );
+
+        for (String filename : newLibraryFilenames( count )) {
+            File file = new File( folder, filename );
+
+            Files.write( file.toPath(), newLibraryContent( filename, size, random ) );
+            files.add( file );
+        }
+        return files;
+    }
+
+    /**
+     * Returns the content of a synthetic OTM library of approximately the given size. The content is XML with a
+     * realistic amount of repetition so that it compresses like a real library.
+     * 
+     * @param name the name of the library
+     * @param size the approximate size of the content (in bytes)
+     * @param random the random number generator used to vary the content
+     * @return byte[]
+     */
+    public static byte[] newLibraryContent(String name, int size, Random random) {
+        StringBuilder content = new StringBuilder( size + 256 );
+
+        content.append( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" );
+        content.append( "<Library xmlns=\"http://www.OpenTravel.org/ns/OTA2/LibraryModel_v01_06\">\n" );
+        content.append( "    <Name>" ).append( name ).append( "</Name>\n" );
+
+        for (int i = 0; content.length() < size; i++) {
+            content.append( "    <BusinessObject name=\"Object" ).append( i ).append( "\" notExtendable=\"false\">\n" );
+            content.append( "        <Attribute name=\"attr" ).append( random.nextInt( 1000 ) )
+                .append( "\" type=\"xsd:string\"/>\n" );
+            content.append( "    </BusinessObject>\n" );
+        }
+        content.append( "</Library>\n" );
+        return content.toString().getBytes( StandardCharsets.UTF_8 );
+    }
+
+    /**
+     * Creates a new temporary folder for benchmark data.
+     * 
+     * @param prefix the prefix of the folder name
+     * @return File
+     * @throws IOException thrown if the folder cannot be created
+     */
+    public static File newTempFolder(String prefix) throws IOException {
+        return Files.createTempDirectory( prefix ).toFile();
+    }
+
+    /**
+     * Deletes the given folder and all of its contents (if it exists).
+     * 
+     * @param folder the folder to delete (may be null)
+     * @throws IOException thrown if the folder cannot be deleted
+     */
+    public static void deleteFolder(File folder) throws IOException {
+        if ((folder != null) && folder.exists()) {
+            FileUtils.deleteDirectory( folder );
+        }
+    }
+
+}
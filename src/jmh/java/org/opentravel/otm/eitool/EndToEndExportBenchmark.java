@@ -0,0 +1,149 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures complete runs of <code>RepositoryExporter.exportRepository()</code> without any live services. The OTM
+ * repository is replaced by a {@link SyntheticRemoteRepository} of <code>namespaceCount</code> &times;
+ * <code>librariesPerNamespace</code> libraries, the GitHub REST API by a {@link MockGitHubServer}, and GitHub itself
+ * by local bare Git repositories. Each invocation exports the whole synthetic repository to a newly created remote,
+ * so every invocation downloads, stages, indexes, commits, and pushes every library; the throughput of an export is
+ * the number of libraries divided by the reported time.
+ * 
+ * <p>
+ * The benchmark JVM runs with <code>user.home</code> set to <code>target/benchmark-home</code> so that the local
+ * repository, export history, and run reports of the benchmark do not affect those of the user. The JSON run report
+ * of each export (with the timings of each phase) is retained in the <code>export-reports</code> folder there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Duser.home=target/benchmark-home")
+public class EndToEndExportBenchmark {
+
+    private static final String OWNER_NAME = "OpenTravel";
+    private static final String ACCESS_TOKEN = "benchmark-token";
+
+    @Param({ "20" })
+    private int namespaceCount;
+
+    @Param({ "100" })
+    private int librariesPerNamespace;
+
+    @Param({ "32768" })
+    private int librarySize;
+
+    @Param({ "0" })
+    private long downloadLatencyMillis;
+
+    @Param({ "false", "true" })
+    private boolean directTreeExport;
+
+    private File remoteFolder;
+    private File reportFolder;
+    private SyntheticRemoteRepository otmRepository;
+    private MockGitHubServer gitHubServer;
+    private RepositoryExporter exporter;
+    private int exportCount;
+
+    /**
+     * Starts the local stand-ins for the OTM repository and GitHub.
+     * 
+     * @throws RepositoryException thrown if the local repository cannot be accessed
+     * @throws IOException thrown if the mock GitHub server cannot be started
+     */
+    @Setup(Level.Trial)
+    public void startServices() throws RepositoryException, IOException {
+        remoteFolder = BenchmarkData.newTempFolder( "otm_bench_remotes_" );
+        reportFolder = new File( System.getProperty( "user.home" ), "export-reports" );
+        reportFolder.mkdirs();
+        otmRepository = new SyntheticRemoteRepository( RepositoryManager.getDefault().getFileManager(),
+            namespaceCount, librariesPerNamespace, librarySize );
+        otmRepository.setLatencyMillis( downloadLatencyMillis );
+        gitHubServer = new MockGitHubServer( remoteFolder, OWNER_NAME );
+        gitHubServer.start();
+    }
+
+    /**
+     * Creates the exporter for the next invocation, which exports to a new remote repository. The content downloaded
+     * by the previous invocation is deleted so that every invocation downloads every library.
+     * 
+     * @throws RepositoryException thrown if the local repository cannot be accessed
+     * @throws IOException thrown if the previous downloads cannot be deleted
+     */
+    @Setup(Level.Invocation)
+    public void createExporter() throws RepositoryException, IOException {
+        String repositoryName = "otm-export-" + (++exportCount);
+
+        otmRepository.deleteDownloads();
+        exporter = new RepositoryExporter( OWNER_NAME, true, repositoryName, ACCESS_TOKEN, gitHubServer.getApiUrl(),
+            gitHubServer.getRemoteUrlTemplate() );
+        exporter.setRemoteRepository( otmRepository.getRepository() );
+        exporter.setDirectTreeExport( directTreeExport );
+        exporter.setReportFile( new File( reportFolder, repositoryName + (directTreeExport ? "-direct" : "")
+            + "-report.json" ) );
+    }
+
+    /**
+     * Exports the synthetic repository to the local GitHub stand-in.
+     * 
+     * @return ExportMetrics
+     * @throws RepositoryException thrown if an error occurrs while accessing the synthetic repository
+     * @throws GitAPIException thrown if an error occurrs while committing or pushing the export
+     * @throws IOException thrown if an error occurrs while creating the export
+     */
+    @Benchmark
+    public ExportMetrics exportRepository() throws RepositoryException, GitAPIException, IOException {
+        exporter.exportRepository( null );
+        return exporter.getMetrics();
+    }
+
+    /**
+     * Closes the exporter of the last invocation, which deletes its export folder.
+     * 
+     * @throws Exception thrown if the exporter cannot be closed
+     */
+    @TearDown(Level.Invocation)
+    public void closeExporter() throws Exception {
+        exporter.close();
+    }
+
+    /**
+     * Stops the local stand-ins and deletes the remote repositories and downloaded content.
+     * 
+     * @throws RepositoryException thrown if the local repository cannot be accessed
+     * @throws IOException thrown if the remote repositories or downloads cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void stopServices() throws RepositoryException, IOException {
+        gitHubServer.close();
+        otmRepository.deleteDownloads();
+        BenchmarkData.deleteFolder( remoteFolder );
+    }
+
+}
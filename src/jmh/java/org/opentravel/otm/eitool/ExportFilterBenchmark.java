@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the namespace and filename filters that are applied to every item listed from the OTM repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExportFilterBenchmark {
+
+    @Param({ "500", "5000" })
+    private int itemCount;
+
+    private List<String> namespaces;
+    private List<String> filenames;
+
+    /**
+     * Generates the namespaces and filenames to be filtered.
+     */
+    @Setup
+    public void setup() {
+        namespaces = BenchmarkData.newNamespaces( itemCount );
+        filenames = BenchmarkData.newLibraryFilenames( itemCount );
+    }
+
+    /**
+     * Applies the namespace filter to every generated namespace.
+     * 
+     * @param blackhole the sink for the filter results
+     */
+    @Benchmark
+    public void isValidNamespace(Blackhole blackhole) {
+        for (String ns : namespaces) {
+            blackhole.consume( RepositoryExporter.isValidNamespace( ns ) );
+        }
+    }
+
+    /**
+     * Applies the exclusion filter to every generated library filename.
+     * 
+     * @param blackhole the sink for the filter results
+     */
+    @Benchmark
+    public void isExcluded(Blackhole blackhole) {
+        for (String filename : filenames) {
+            blackhole.consume( RepositoryExporter.isExcluded( filename ) );
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentravel.otm.eitool.FileStager.StagingStrategy;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time required to stage the library files of an export using each of the staging strategies that are
+ * available to <code>RepositoryExporter.stageItem()</code>. Each invocation stages every library file into an empty
+ * export folder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FileStagingBenchmark {
+
+    @Param({ "COPY", "ZERO_COPY", "HARD_LINK" })
+    private StagingStrategy strategy;
+
+    @Param({ "2000" })
+    private int libraryCount;
+
+    @Param({ "32768" })
+    private int librarySize;
+
+    private File repositoryFolder;
+    private File exportFolder;
+    private List<File> libraryFiles;
+    private FileStager fileStager;
+
+    /**
+     * Generates the library files of the local repository.
+     * 
+     * @throws IOException thrown if the library files cannot be created
+     */
+    @Setup(Level.Trial)
+    public void createRepository() throws IOException {
+        repositoryFolder = BenchmarkData.newTempFolder( "otm_bench_repository_" );
+        libraryFiles = BenchmarkData.newLibraryFiles( repositoryFolder, libraryCount, librarySize );
+    }
+
+    /**
+     * Creates an empty export folder and a file stager for the next invocation.
+     * 
+     * @throws IOException thrown if the export folder cannot be created
+     */
+    @Setup(Level.Invocation)
+    public void createExportFolder() throws IOException {
+        exportFolder = BenchmarkData.newTempFolder( "otm_bench_export_" );
+        fileStager = new FileStager( strategy, repositoryFolder, exportFolder );
+    }
+
+    /**
+     * Stages every library file in the export folder.
+     * 
+     * @return FileStager
+     * @throws IOException thrown if a file cannot be staged
+     */
+    @Benchmark
+    public FileStager stageLibraries() throws IOException {
+        for (File libraryFile : libraryFiles) {
+            fileStager.stage( libraryFile, new File( exportFolder, libraryFile.getName() ) );
+        }
+        return fileStager;
+    }
+
+    /**
+     * Deletes the export folder of the last invocation.
+     * 
+     * @throws IOException thrown if the export folder cannot be deleted
+     */
+    @TearDown(Level.Invocation)
+    public void deleteExportFolder() throws IOException {
+        BenchmarkData.deleteFolder( exportFolder );
+    }
+
+    /**
+     * Deletes the library files of the local repository.
+     * 
+     * @throws IOException thrown if the library files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteRepository() throws IOException {
+        BenchmarkData.deleteFolder( repositoryFolder );
+    }
+
+}
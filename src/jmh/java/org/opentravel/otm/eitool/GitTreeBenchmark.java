@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of the Git tree and commit of an export from thousands of OTM library files. Each
+ * invocation builds the commit in a new bare repository using an in-memory index, which is the path taken by direct
+ * tree exports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class GitTreeBenchmark {
+
+    @Param({ "1000", "5000" })
+    private int libraryCount;
+
+    @Param({ "32768" })
+    private int librarySize;
+
+    private File libraryFolder;
+    private List<File> libraryFiles;
+    private File gitFolder;
+    private Git git;
+
+    /**
+     * Generates the library files to be committed.
+     * 
+     * @throws IOException thrown if the library files cannot be created
+     */
+    @Setup(Level.Trial)
+    public void createLibraries() throws IOException {
+        libraryFolder = BenchmarkData.newTempFolder( "otm_bench_libraries_" );
+        libraryFiles = BenchmarkData.newLibraryFiles( libraryFolder, libraryCount, librarySize );
+    }
+
+    /**
+     * Creates an empty bare repository for the next invocation.
+     * 
+     * @throws IOException thrown if the repository folder cannot be created
+     * @throws GitAPIException thrown if the repository cannot be initialized
+     */
+    @Setup(Level.Invocation)
+    public void createRepository() throws IOException, GitAPIException {
+        gitFolder = BenchmarkData.newTempFolder( "otm_bench_git_" );
+        git = Git.init().setBare( true ).setDirectory( gitFolder ).call();
+    }
+
+    /**
+     * Inserts every library file into the object database and creates the tree and commit of the export.
+     * 
+     * @return Object
+     * @throws IOException thrown if the objects, tree, or commit cannot be written
+     */
+    @Benchmark
+    public Object buildCommit() throws IOException {
+        try (GitIndexWriter writer = new GitIndexWriter( git.getRepository(), true )) {
+            for (File libraryFile : libraryFiles) {
+                writer.add( libraryFile.getName(), libraryFile );
+            }
+            writer.commit();
+            return writer.createCommit( "Benchmark export" );
+        }
+    }
+
+    /**
+     * Deletes the repository of the last invocation.
+     * 
+     * @throws IOException thrown if the repository cannot be deleted
+     */
+    @TearDown(Level.Invocation)
+    public void deleteRepository() throws IOException {
+        git.close();
+        BenchmarkData.deleteFolder( gitFolder );
+    }
+
+    /**
+     * Deletes the generated library files.
+     * 
+     * @throws IOException thrown if the library files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteLibraries() throws IOException {
+        BenchmarkData.deleteFolder( libraryFolder );
+    }
+
+}
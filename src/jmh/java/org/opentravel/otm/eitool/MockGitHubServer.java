@@ -0,0 +1,206 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the parts of the GitHub REST API that are used by the exporter. Repository existence checks and
+ * repository creation are answered on a loopback port, and each repository that is created is backed by a bare Git
+ * repository in a local folder so that exports can be pushed to it using a <code>file:</code> URL.
+ */
+public class MockGitHubServer implements AutoCloseable {
+
+    public static final String DEFAULT_BRANCH = "master";
+
+    private static final Pattern REPO_PATH_PATTERN = Pattern.compile( "/repos/([^/]+)/([^/]+)" );
+    private static final Pattern CREATE_PATH_PATTERN = Pattern.compile( "/(?:orgs/([^/]+)|user)/repos" );
+    private static final Pattern NAME_PATTERN = Pattern.compile( "\"name\"\\s*:\\s*\"([^\"]+)\"" );
+
+    private File remoteFolder;
+    private String userName;
+    private HttpServer server;
+    private Set<String> repositories = ConcurrentHashMap.newKeySet();
+    private AtomicInteger requestCount = new AtomicInteger();
+
+    /**
+     * Constructor that specifies the folder where the bare Git repositories will be created and the name of the
+     * authenticated user (used as the owner of repositories that are created for a personal account).
+     * 
+     * @param remoteFolder the folder in which bare repositories will be created
+     * @param userName the name of the authenticated user
+     */
+    public MockGitHubServer(File remoteFolder, String userName) {
+        this.remoteFolder = remoteFolder;
+        this.userName = userName;
+    }
+
+    /**
+     * Starts the server on an ephemeral loopback port.
+     * 
+     * @throws IOException thrown if the server cannot be started
+     */
+    public void start() throws IOException {
+        server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+        server.createContext( "/", this::handle );
+        server.start();
+    }
+
+    /**
+     * Returns the base URL of the mock REST API.
+     * 
+     * @return String
+     */
+    public String getApiUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the template of the URLs of the bare Git repositories, with <code>{owner}</code> and <code>{repo}</code>
+     * placeholders for the owner and repository names.
+     * 
+     * @return String
+     */
+    public String getRemoteUrlTemplate() {
+        return remoteFolder.toURI().toString() + "{owner}/{repo}.git";
+    }
+
+    /**
+     * Returns the number of API requests that have been received.
+     * 
+     * @return int
+     */
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Stops the server.
+     * 
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop( 0 );
+        }
+    }
+
+    /**
+     * Handles a single API request.
+     * 
+     * @param exchange the HTTP exchange to handle
+     * @throws IOException thrown if the response cannot be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        Matcher repoMatcher = REPO_PATH_PATTERN.matcher( path );
+        Matcher createMatcher = CREATE_PATH_PATTERN.matcher( path );
+
+        requestCount.incrementAndGet();
+
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            String body = new String( requestBody.readAllBytes(), StandardCharsets.UTF_8 );
+
+            if ("GET".equals( exchange.getRequestMethod() ) && repoMatcher.matches()) {
+                if (repositories.contains( repoMatcher.group( 1 ) + "/" + repoMatcher.group( 2 ) )) {
+                    sendResponse( exchange, 200, "{\"name\":\"" + repoMatcher.group( 2 ) + "\",\"default_branch\":\""
+                        + DEFAULT_BRANCH + "\"}" );
+                } else {
+                    sendResponse( exchange, 404, "{\"message\":\"Not Found\"}" );
+                }
+
+            } else if ("POST".equals( exchange.getRequestMethod() ) && createMatcher.matches()) {
+                String ownerName = (createMatcher.group( 1 ) != null) ? createMatcher.group( 1 ) : userName;
+                Matcher nameMatcher = NAME_PATTERN.matcher( body );
+
+                if (!nameMatcher.find()) {
+                    sendResponse( exchange, 400, "{\"message\":\"Problems parsing JSON\"}" );
+
+                } else if (!createRepository( ownerName, nameMatcher.group( 1 ) )) {
+                    sendResponse( exchange, 422, "{\"message\":\"Repository creation failed.\"}" );
+
+                } else {
+                    sendResponse( exchange, 201, "{\"name\":\"" + nameMatcher.group( 1 ) + "\"}" );
+                }
+
+            } else {
+                sendResponse( exchange, 404, "{\"message\":\"Not Found\"}" );
+            }
+        }
+    }
+
+    /**
+     * Creates the bare Git repository that backs the specified repository. Returns false if the repository already
+     * exists or cannot be created.
+     * 
+     * @param ownerName the name of the repository owner
+     * @param repositoryName the name of the repository
+     * @return boolean
+     */
+    private boolean createRepository(String ownerName, String repositoryName) {
+        boolean created = false;
+
+        if (repositories.add( ownerName + "/" + repositoryName )) {
+            try {
+                Git.init().setBare( true ).setDirectory( getRemoteFolder( ownerName, repositoryName ) )
+                    .setInitialBranch( DEFAULT_BRANCH ).call().close();
+                created = true;
+
+            } catch (GitAPIException e) {
+                repositories.remove( ownerName + "/" + repositoryName );
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Returns the folder of the bare Git repository that backs the specified repository.
+     * 
+     * @param ownerName the name of the repository owner
+     * @param repositoryName the name of the repository
+     * @return File
+     */
+    private File getRemoteFolder(String ownerName, String repositoryName) {
+        return new File( remoteFolder, ownerName + "/" + repositoryName + ".git" );
+    }
+
+    /**
+     * Sends a JSON response with the given status code.
+     * 
+     * @param exchange the HTTP exchange
+     * @param statusCode the HTTP status code of the response
+     * @param json the JSON content of the response
+     * @throws IOException thrown if the response cannot be written
+     */
+    private static void sendResponse(HttpExchange exchange, int statusCode, String json) throws IOException {
+        byte[] content = json.getBytes( StandardCharsets.UTF_8 );
+
+        exchange.getResponseHeaders().set( "Content-Type", "application/json" );
+        exchange.sendResponseHeaders( statusCode, content.length );
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write( content );
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the progress callbacks that the download and stage threads make for every library. The
+ * callbacks are made concurrently by several threads, as they are during an export, and the percent complete advances
+ * with every call so that the console monitor writes a line for each whole-number change.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ProgressMonitorBenchmark {
+
+    private static final String MESSAGE = "Downloading: Common_Library_0_1.otm";
+
+    /**
+     * The progress monitors that receive the callbacks. The console monitor writes to a discarded stream, and the
+     * coalescing monitor delivers its updates to a monitor that ignores them.
+     */
+    @State(Scope.Benchmark)
+    public static class Monitors {
+
+        private ProgressMonitor consoleMonitor;
+        private ProgressMonitor coalescingMonitor;
+
+        /**
+         * Creates and starts the progress monitors.
+         */
+        @Setup
+        public void setup() {
+            consoleMonitor = new ConsoleProgressMonitor( new PrintStream( OutputStream.nullOutputStream() ) );
+            coalescingMonitor = new CoalescingProgressMonitor( new NullProgressMonitor() );
+            consoleMonitor.jobStarted( "Benchmark" );
+            coalescingMonitor.jobStarted( "Benchmark" );
+        }
+
+        /**
+         * Stops the progress monitors.
+         */
+        @TearDown
+        public void tearDown() {
+            consoleMonitor.jobComplete();
+            coalescingMonitor.jobComplete();
+        }
+
+    }
+
+    /**
+     * The progress of the calling thread, which completes the job every 10,000 callbacks.
+     */
+    @State(Scope.Thread)
+    public static class ThreadProgress {
+
+        private int callCount;
+
+        /**
+         * Returns the percent complete for the next callback.
+         * 
+         * @return double
+         */
+        public double next() {
+            callCount = (callCount + 1) % 10000;
+            return callCount / 10000.0;
+        }
+
+    }
+
+    /**
+     * Reports progress to the console monitor.
+     * 
+     * @param monitors the progress monitors
+     * @param progress the progress of the calling thread
+     */
+    @Benchmark
+    public void consoleProgress(Monitors monitors, ThreadProgress progress) {
+        monitors.consoleMonitor.progress( progress.next(), MESSAGE );
+    }
+
+    /**
+     * Reports progress to the coalescing monitor that is used by the Swing UI.
+     * 
+     * @param monitors the progress monitors
+     * @param progress the progress of the calling thread
+     */
+    @Benchmark
+    public void coalescingProgress(Monitors monitors, ThreadProgress progress) {
+        monitors.coalescingMonitor.progress( progress.next(), MESSAGE );
+    }
+
+    /**
+     * Progress monitor that ignores all callbacks.
+     */
+    private static class NullProgressMonitor implements ProgressMonitor {
+
+        /**
+         * @see org.opentravel.otm.eitool.ProgressMonitor#jobStarted(java.lang.String)
+         */
+        @Override
+        public void jobStarted(String message) {}
+
+        /**
+         * @see org.opentravel.otm.eitool.ProgressMonitor#progress(double, java.lang.String)
+         */
+        @Override
+        public void progress(double percentComplete, String message) {}
+
+        /**
+         * @see org.opentravel.otm.eitool.ProgressMonitor#jobComplete()
+         */
+        @Override
+        public void jobComplete() {}
+
+        /**
+         * @see org.opentravel.otm.eitool.ProgressMonitor#jobError(java.lang.String)
+         */
+        @Override
+        public void jobError(String message) {}
+
+    }
+
+}
@@ -0,0 +1,246 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.schemacompiler.model.TLLibraryStatus;
+import org.opentravel.schemacompiler.repository.RemoteRepository;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryFileManager;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+import org.opentravel.schemacompiler.repository.impl.RepositoryItemImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the OTM repository that generates a configurable number of namespaces, each containing a configurable
+ * number of libraries of a fixed size. Listings are generated on demand, and downloads write deterministic library
+ * content to the local repository, optionally after a simulated network latency. Only the repository operations used
+ * by the exporter are supported; all other operations throw an <code>UnsupportedOperationException</code>.
+ */
+public class SyntheticRemoteRepository implements InvocationHandler {
+
+    public static final String REPOSITORY_ID = "SyntheticBenchmark";
+    public static final String NAMESPACE_PREFIX = "http://www.opentravel.org/OTM/Benchmark/Synthetic";
+
+    private static final String LIBRARY_VERSION = "1.0.0";
+
+    private RepositoryFileManager fileManager;
+    private int namespaceCount;
+    private int librariesPerNamespace;
+    private int librarySize;
+    private long latencyMillis;
+    private RemoteRepository repository;
+    private AtomicLong downloadCount = new AtomicLong();
+
+    /**
+     * Constructor that specifies the shape of the synthetic repository.
+     * 
+     * @param fileManager the file manager of the local repository to which content will be downloaded
+     * @param namespaceCount the number of base namespaces in the repository
+     * @param librariesPerNamespace the number of libraries in each base namespace
+     * @param librarySize the approximate size of each library (in bytes)
+     */
+    public SyntheticRemoteRepository(RepositoryFileManager fileManager, int namespaceCount, int librariesPerNamespace,
+        int librarySize) {
+        this.fileManager = fileManager;
+        this.namespaceCount = namespaceCount;
+        this.librariesPerNamespace = librariesPerNamespace;
+        this.librarySize = librarySize;
+        this.repository = (RemoteRepository) Proxy.newProxyInstance( RemoteRepository.class.getClassLoader(),
+            new Class<?>[] { RemoteRepository.class }, this );
+    }
+
+    /**
+     * Assigns the simulated latency of each listing and download call.
+     * 
+     * @param latencyMillis the latency of each call (in milliseconds)
+     */
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = Math.max( 0, latencyMillis );
+    }
+
+    /**
+     * Returns the remote repository that is backed by this synthetic repository.
+     * 
+     * @return RemoteRepository
+     */
+    public RemoteRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * Returns the total number of libraries in the synthetic repository.
+     * 
+     * @return int
+     */
+    public int getLibraryCount() {
+        return namespaceCount * librariesPerNamespace;
+    }
+
+    /**
+     * Returns the number of library downloads that have been performed.
+     * 
+     * @return long
+     */
+    public long getDownloadCount() {
+        return downloadCount.get();
+    }
+
+    /**
+     * Deletes the content of all synthetic libraries from the local repository.
+     * 
+     * @throws RepositoryException thrown if the location of a library cannot be determined
+     * @throws IOException thrown if a library file cannot be deleted
+     */
+    public void deleteDownloads() throws RepositoryException, IOException {
+        for (String baseNS : listBaseNamespaces()) {
+            for (RepositoryItem item : listItems( baseNS )) {
+                Files.deleteIfExists( getContentFile( item ).toPath() );
+            }
+        }
+    }
+
+    /**
+     * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Object result = null;
+
+        switch (method.getName()) {
+            case "getId":
+                result = REPOSITORY_ID;
+                break;
+            case "getEndpointUrl":
+                result = "synthetic:" + REPOSITORY_ID;
+                break;
+            case "getUserAuthorization":
+                break;
+            case "listBaseNamespaces":
+                simulateLatency();
+                result = listBaseNamespaces();
+                break;
+            case "listItems":
+                simulateLatency();
+                result = listItems( (String) args[0] );
+                break;
+            case "downloadContent":
+                simulateLatency();
+                downloadContent( (RepositoryItem) args[0] );
+                break;
+            case "equals":
+                result = (proxy == args[0]);
+                break;
+            case "hashCode":
+                result = System.identityHashCode( proxy );
+                break;
+            case "toString":
+                result = "SyntheticRemoteRepository[" + namespaceCount + "x" + librariesPerNamespace + "]";
+                break;
+            default:
+                throw new UnsupportedOperationException( "Not supported by the synthetic repository: " + method );
+        }
+        return result;
+    }
+
+    /**
+     * Returns the base namespaces of the synthetic repository.
+     * 
+     * @return List&lt;String&gt;
+     */
+    private List<String> listBaseNamespaces() {
+        List<String> namespaces = new ArrayList<>( namespaceCount );
+
+        for (int i = 0; i < namespaceCount; i++) {
+            namespaces.add( NAMESPACE_PREFIX + i );
+        }
+        return namespaces;
+    }
+
+    /**
+     * Returns the library items of the given base namespace.
+     * 
+     * @param baseNS the base namespace whose items are to be listed
+     * @return List&lt;RepositoryItem&gt;
+     */
+    private List<RepositoryItem> listItems(String baseNS) {
+        List<RepositoryItem> items = new ArrayList<>( librariesPerNamespace );
+        String nsName = baseNS.substring( baseNS.lastIndexOf( '/' ) + 1 );
+
+        for (int i = 0; i < librariesPerNamespace; i++) {
+            RepositoryItemImpl item = new RepositoryItemImpl();
+            String libraryName = nsName + "_Library" + i;
+
+            item.setRepository( repository );
+            item.setBaseNamespace( baseNS );
+            item.setNamespace( baseNS + "/v01" );
+            item.setLibraryName( libraryName );
+            item.setFilename( libraryName + "_" + LIBRARY_VERSION.replace( '.', '_' ) + ".otm" );
+            item.setVersion( LIBRARY_VERSION );
+            item.setStatus( TLLibraryStatus.DRAFT );
+            items.add( item );
+        }
+        return items;
+    }
+
+    /**
+     * Writes the deterministic content of the given item to the local repository.
+     * 
+     * @param item the repository item whose content is to be downloaded
+     * @throws RepositoryException thrown if the content cannot be written
+     */
+    private void downloadContent(RepositoryItem item) throws RepositoryException {
+        File contentFile = getContentFile( item );
+
+        try {
+            contentFile.getParentFile().mkdirs();
+            Files.write( contentFile.toPath(), BenchmarkData.newLibraryContent( item.getLibraryName(), librarySize,
+                new Random( item.getFilename().hashCode() ) ) );
+            downloadCount.incrementAndGet();
+
+        } catch (IOException e) {
+            throw new RepositoryException( "Unable to write synthetic library: " + item.getFilename(), e );
+        }
+    }
+
+    /**
+     * Returns the location of the given item's content in the local repository.
+     * 
+     * @param item the repository item
+     * @return File
+     * @throws RepositoryException thrown if the location cannot be determined
+     */
+    private File getContentFile(RepositoryItem item) throws RepositoryException {
+        return fileManager.getLibraryContentLocation( item.getBaseNamespace(), item.getFilename(), item.getVersion() );
+    }
+
+    /**
+     * Waits for the simulated latency of a remote call. Since the repository operations do not declare an interrupted
+     * exception, an interrupt is reported as a repository error (with the interrupt status of the thread restored).
+     * 
+     * @throws RepositoryException thrown if the calling thread is interrupted while waiting
+     */
+    private void simulateLatency() throws RepositoryException {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep( latencyMillis );
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RepositoryException( "Synthetic repository call interrupted", e );
+            }
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+/**
+ * Concurrency limiter that adapts the number of calls permitted to be in progress at one time using an additive
+ * increase / multiplicative decrease (AIMD) policy. While the limit is fully used and call latency stays close to its
+ * baseline, the limit grows by roughly one call per round of calls. When a call fails, or when the smoothed latency
+ * rises beyond a tolerance of the baseline, the limit is reduced by a constant ratio. Only calls that started after the
+ * most recent reduction can trigger another one, so a single burst of slow calls reduces the limit just once.
+ */
+public class AdaptiveLimiter {
+
+    public static final double DEFAULT_BACKOFF_RATIO = 0.75;
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+    private static final double LATENCY_SMOOTHING = 0.2;
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private int minLimit;
+    private int maxLimit;
+    private double limit;
+    private int inFlight;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+    private double smoothedLatencyNanos;
+    private double baselineLatencyNanos;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    /**
+     * Constructor that specifies the range and initial value of the concurrency limit.
+     * 
+     * @param minLimit the smallest limit that may be assigned
+     * @param initialLimit the limit to use until the first calls have completed
+     * @param maxLimit the largest limit that may be assigned
+     */
+    public AdaptiveLimiter(int minLimit, int initialLimit, int maxLimit) {
+        this.minLimit = Math.max( 1, minLimit );
+        this.maxLimit = Math.max( this.minLimit, maxLimit );
+        this.limit = Math.max( this.minLimit, Math.min( this.maxLimit, initialLimit ) );
+    }
+
+    /**
+     * Assigns the ratio by which the limit is multiplied when a call fails or latency rises.
+     * 
+     * @param backoffRatio the backoff ratio (between zero and one)
+     */
+    public synchronized void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = Math.max( 0.1, Math.min( 0.95, backoffRatio ) );
+    }
+
+    /**
+     * Assigns the factor by which the smoothed latency may exceed the baseline latency before the limit is reduced.
+     * 
+     * @param latencyTolerance the latency tolerance (greater than one)
+     */
+    public synchronized void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = Math.max( 1.1, latencyTolerance );
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     * 
+     * @return int
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Returns the number of calls that are currently in progress.
+     * 
+     * @return int
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Waits until a call is permitted under the current limit and returns the start time of the call. The value that
+     * is returned must be passed to {@link #recordSuccess(long)} or {@link #recordFailure(long)} when the call
+     * completes, or {@link #recordAbandoned()} must be called if its outcome is unknown.
+     * 
+     * @return long
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting
+     */
+    public synchronized long acquire() throws InterruptedException {
+        while (inFlight >= (int) limit) {
+            wait();
+        }
+        inFlight++;
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the successful completion of a call. The limit is increased if it was fully used and latency remains
+     * within tolerance, or reduced if latency has risen.
+     * 
+     * @param startNanos the start time that was returned when the call was acquired
+     */
+    public synchronized void recordSuccess(long startNanos) {
+        long endNanos = System.nanoTime();
+        double latencyNanos = endNanos - startNanos;
+
+        smoothedLatencyNanos = (smoothedLatencyNanos == 0) ? latencyNanos
+            : (smoothedLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - smoothedLatencyNanos));
+        baselineLatencyNanos = (baselineLatencyNanos == 0) ? smoothedLatencyNanos
+            : Math.min( smoothedLatencyNanos,
+                baselineLatencyNanos + BASELINE_DRIFT * (smoothedLatencyNanos - baselineLatencyNanos) );
+
+        if (smoothedLatencyNanos > (latencyTolerance * baselineLatencyNanos)) {
+            decrease( startNanos, endNanos );
+
+        } else if (inFlight >= (int) limit) {
+            limit = Math.min( maxLimit, limit + (1.0 / limit) );
+        }
+        release();
+    }
+
+    /**
+     * Records the failure of a call and reduces the limit.
+     * 
+     * @param startNanos the start time that was returned when the call was acquired
+     */
+    public synchronized void recordFailure(long startNanos) {
+        decrease( startNanos, System.nanoTime() );
+        release();
+    }
+
+    /**
+     * Records that a call was abandoned before its outcome was known. The limit is not changed.
+     */
+    public synchronized void recordAbandoned() {
+        release();
+    }
+
+    /**
+     * Reduces the limit unless it was already reduced after the given call was started.
+     * 
+     * @param startNanos the start time of the call that triggered the reduction
+     * @param endNanos the end time of the call that triggered the reduction
+     */
+    private void decrease(long startNanos, long endNanos) {
+        if ((startNanos - lastDecreaseNanos) > 0) {
+            limit = Math.max( minLimit, limit * backoffRatio );
+            lastDecreaseNanos = endNanos;
+        }
+    }
+
+    /**
+     * Releases the permit of a completed call and wakes any threads that are waiting for a permit.
+     */
+    private void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+}
@@ -0,0 +1,500 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Export sink that writes the exported files into a <code>.tar.gz</code> or <code>.zip</code> archive. Files are
+ * recorded as they leave the export pipeline and appended to the archive in the order of their paths when the export
+ * is committed, so the order of the entries does not depend on the order in which the libraries were downloaded. Only
+ * the file references are held in memory until then. The archive is written to a <code>.part</code> file next to the
+ * target and renamed only when the export is committed, so an existing archive is not replaced by an incomplete one.
+ * 
+ * <p>
+ * Tar archives are compressed by a {@link ParallelGzipOutputStream}, so the compression of a large export is spread
+ * across all available processors instead of limiting the throughput of the export pipeline. The entries of zip
+ * archives are compressed individually by the writing thread.
+ */
+public class ArchiveExportSink implements FileExportSink {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int TAR_BLOCK_SIZE = 512;
+    private static final int TAR_NAME_LENGTH = 100;
+    private static final int TAR_FILE_MODE = 0644;
+
+    /**
+     * The archive formats that are supported by this sink.
+     */
+    public enum ArchiveFormat {
+
+        /** A tar archive compressed with gzip. */
+        TAR_GZ(".tar.gz", ".tgz"),
+
+        /** A zip archive whose entries are compressed with deflate. */
+        ZIP(".zip");
+
+        private List<String> extensions;
+
+        /**
+         * Constructor that specifies the file extensions of the format.
+         * 
+         * @param extensions the file extensions that identify the format
+         */
+        private ArchiveFormat(String... extensions) {
+            this.extensions = Arrays.asList( extensions );
+        }
+
+        /**
+         * Returns the archive format that is identified by the extension of the given file, or null if the extension
+         * is not recognized.
+         * 
+         * @param archiveFile the archive file whose format is to be returned
+         * @return ArchiveFormat
+         */
+        public static ArchiveFormat forFile(File archiveFile) {
+            String filename = archiveFile.getName().toLowerCase();
+            ArchiveFormat result = null;
+
+            for (ArchiveFormat format : values()) {
+                if (format.extensions.stream().anyMatch( filename::endsWith )) {
+                    result = format;
+                    break;
+                }
+            }
+            return result;
+        }
+
+    }
+
+    private File archiveFile;
+    private ArchiveFormat format;
+    private int compressionThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Constructor that specifies the archive file, whose format is determined by its extension.
+     * 
+     * @param archiveFile the archive file to create (replaced if it already exists)
+     * @throws IllegalArgumentException thrown if the extension of the file is not a supported archive format
+     */
+    public ArchiveExportSink(File archiveFile) {
+        this( archiveFile, ArchiveFormat.forFile( archiveFile ) );
+    }
+
+    /**
+     * Constructor that specifies the archive file and its format.
+     * 
+     * @param archiveFile the archive file to create (replaced if it already exists)
+     * @param format the format of the archive
+     * @throws IllegalArgumentException thrown if the format is null
+     */
+    public ArchiveExportSink(File archiveFile, ArchiveFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException(
+                "Unsupported archive format (expected .tar.gz, .tgz, or .zip): " + archiveFile.getName() );
+        }
+        this.archiveFile = archiveFile.getAbsoluteFile();
+        this.format = format;
+    }
+
+    /**
+     * Returns the format of the archive.
+     * 
+     * @return ArchiveFormat
+     */
+    public ArchiveFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Assigns the number of threads that will compress the blocks of <code>.tar.gz</code> archives. By default, one
+     * thread is used for each available processor.
+     * 
+     * @param compressionThreads the number of compression threads
+     * @throws IllegalArgumentException thrown if the number of threads is not positive
+     */
+    public void setCompressionThreads(int compressionThreads) {
+        if (compressionThreads < 1) {
+            throw new IllegalArgumentException( "The number of compression threads must be positive." );
+        }
+        this.compressionThreads = compressionThreads;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportSink#getDescription()
+     */
+    @Override
+    public String getDescription() {
+        return "archive " + archiveFile.getPath();
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.FileExportSink#openWriter()
+     */
+    @Override
+    public ExportWriter openWriter() throws IOException {
+        Path partFile = new File( archiveFile.getPath() + ".part" ).toPath();
+        OutputStream out;
+
+        Files.createDirectories( partFile.getParent() );
+        out = new BufferedOutputStream( Files.newOutputStream( partFile ), BUFFER_SIZE );
+
+        try {
+            return (format == ArchiveFormat.ZIP) ? new ZipArchiveWriter( partFile, out )
+                : new TarArchiveWriter( partFile, new ParallelGzipOutputStream( out, compressionThreads ) );
+
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Base class for writers that append each file of the export to an archive. Since every export produces a new
+     * archive, the destination never contains files from a previous export.
+     */
+    private abstract class ArchiveWriter implements ExportWriter {
+
+        private Path partFile;
+        private Map<String, File> entries = new TreeMap<>();
+        protected OutputStream out;
+        private boolean committed;
+
+        /**
+         * Constructor that specifies the partial archive file and the stream to which its content is written.
+         * 
+         * @param partFile the file to which the archive is written until it is committed
+         * @param out the output stream of the archive
+         */
+        protected ArchiveWriter(Path partFile, OutputStream out) {
+            this.partFile = partFile;
+            this.out = out;
+        }
+
+        /**
+         * Appends the content of the given file to the archive.
+         * 
+         * @param path the archive-relative path of the file
+         * @param file the file whose content is to be appended
+         * @throws IOException thrown if the file cannot be read or the archive cannot be written
+         */
+        protected abstract void writeEntry(String path, File file) throws IOException;
+
+        /**
+         * Writes the trailer of the archive after the last entry.
+         * 
+         * @throws IOException thrown if the archive cannot be written
+         */
+        protected abstract void finish() throws IOException;
+
+        /**
+         * Closes the archive stream without completing the archive, since an archive that was not committed is
+         * discarded.
+         * 
+         * @throws IOException thrown if the archive stream cannot be closed
+         */
+        protected abstract void abort() throws IOException;
+
+        /**
+         * @see org.opentravel.otm.eitool.ExportWriter#contains(java.lang.String)
+         */
+        @Override
+        public boolean contains(String path) {
+            return false;
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ExportWriter#getPaths()
+         */
+        @Override
+        public List<String> getPaths() {
+            return Collections.emptyList();
+        }
+
+        /**
+         * Records the file to be appended to the archive when the export is committed. The file must not be deleted
+         * or modified before then.
+         * 
+         * @see org.opentravel.otm.eitool.ExportWriter#add(java.lang.String, java.io.File)
+         */
+        @Override
+        public boolean add(String path, File file) {
+            entries.put( path, file );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ExportWriter#remove(java.lang.String)
+         */
+        @Override
+        public void remove(String path) {
+            // Files of previous exports are never part of a new archive
+        }
+
+        /**
+         * Appends the recorded files to the archive in the order of their paths, completes the archive, and replaces
+         * the target archive file with it.
+         * 
+         * @see org.opentravel.otm.eitool.ExportWriter#commit()
+         */
+        @Override
+        public void commit() throws IOException {
+            for (Map.Entry<String,File> entry : entries.entrySet()) {
+                writeEntry( entry.getKey(), entry.getValue() );
+            }
+            entries.clear();
+            finish();
+            out.close();
+
+            try {
+                Files.move( partFile, archiveFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE );
+
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move( partFile, archiveFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+            }
+            committed = true;
+        }
+
+        /**
+         * Aborts and deletes the partial archive if the export was not committed.
+         * 
+         * @see org.opentravel.otm.eitool.ExportWriter#close()
+         */
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                try {
+                    abort();
+
+                } finally {
+                    Files.deleteIfExists( partFile );
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Writer that appends each file to a zip archive.
+     */
+    private class ZipArchiveWriter extends ArchiveWriter {
+
+        private OutputStream archiveOut;
+        private ZipOutputStream zipOut;
+
+        /**
+         * Constructor that specifies the partial archive file and the stream to which its content is written.
+         * 
+         * @param partFile the file to which the archive is written until it is committed
+         * @param out the output stream of the archive
+         */
+        public ZipArchiveWriter(Path partFile, OutputStream out) {
+            super( partFile, new ZipOutputStream( out, StandardCharsets.UTF_8 ) );
+            this.archiveOut = out;
+            this.zipOut = (ZipOutputStream) this.out;
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ArchiveExportSink.ArchiveWriter#writeEntry(java.lang.String, java.io.File)
+         */
+        @Override
+        protected void writeEntry(String path, File file) throws IOException {
+            ZipEntry entry = new ZipEntry( path );
+
+            entry.setTime( file.lastModified() );
+            zipOut.putNextEntry( entry );
+            Files.copy( file.toPath(), zipOut );
+            zipOut.closeEntry();
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ArchiveExportSink.ArchiveWriter#finish()
+         */
+        @Override
+        protected void finish() throws IOException {
+            zipOut.finish();
+        }
+
+        /**
+         * Closes the archive file directly, since closing the zip stream would write its central directory.
+         * 
+         * @see org.opentravel.otm.eitool.ArchiveExportSink.ArchiveWriter#abort()
+         */
+        @Override
+        protected void abort() throws IOException {
+            archiveOut.close();
+        }
+
+    }
+
+    /**
+     * Writer that appends each file to a compressed tar archive in POSIX (ustar) format. Paths that do not fit in the
+     * name field of the tar header are recorded in a PAX extended header.
+     */
+    private class TarArchiveWriter extends ArchiveWriter {
+
+        private ParallelGzipOutputStream gzipOut;
+
+        /**
+         * Constructor that specifies the partial archive file and the compressed stream to which its content is
+         * written.
+         * 
+         * @param partFile the file to which the archive is written until it is committed
+         * @param out the compressed output stream of the archive
+         */
+        public TarArchiveWriter(Path partFile, ParallelGzipOutputStream out) {
+            super( partFile, out );
+            this.gzipOut = out;
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ArchiveExportSink.ArchiveWriter#writeEntry(java.lang.String, java.io.File)
+         */
+        @Override
+        protected void writeEntry(String path, File file) throws IOException {
+            byte[] name = path.getBytes( StandardCharsets.UTF_8 );
+            long size = file.length();
+            long modifiedSeconds = file.lastModified() / 1000;
+
+            if (name.length > TAR_NAME_LENGTH) {
+                byte[] paxRecords = newPaxRecord( "path", path );
+
+                writeHeader( "PaxHeader".getBytes( StandardCharsets.US_ASCII ), paxRecords.length, modifiedSeconds,
+                    (byte) 'x' );
+                out.write( paxRecords );
+                writePadding( paxRecords.length );
+            }
+            writeHeader( name, size, modifiedSeconds, (byte) '0' );
+
+            if (Files.copy( file.toPath(), out ) != size) {
+                throw new IOException( "File was modified while it was being archived: " + file.getPath() );
+            }
+            writePadding( size );
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ArchiveExportSink.ArchiveWriter#finish()
+         */
+        @Override
+        protected void finish() throws IOException {
+            out.write( new byte[TAR_BLOCK_SIZE * 2] );
+        }
+
+        /**
+         * Stops the compression threads without compressing the pending blocks or writing the gzip trailer.
+         * 
+         * @see org.opentravel.otm.eitool.ArchiveExportSink.ArchiveWriter#abort()
+         */
+        @Override
+        protected void abort() throws IOException {
+            gzipOut.abort();
+        }
+
+        /**
+         * Writes a ustar header block for an entry of the given type.
+         * 
+         * @param name the name of the entry (truncated if longer than the name field)
+         * @param size the size of the entry content
+         * @param modifiedSeconds the modification time of the entry (in seconds since the epoch)
+         * @param typeFlag the type of the entry
+         * @throws IOException thrown if the header cannot be written
+         */
+        private void writeHeader(byte[] name, long size, long modifiedSeconds, byte typeFlag) throws IOException {
+            byte[] header = new byte[TAR_BLOCK_SIZE];
+            long checksum = 0;
+
+            System.arraycopy( name, 0, header, 0, Math.min( name.length, TAR_NAME_LENGTH ) );
+            putOctal( header, 100, 8, TAR_FILE_MODE );
+            putOctal( header, 108, 8, 0 );
+            putOctal( header, 116, 8, 0 );
+            putOctal( header, 124, 12, size );
+            putOctal( header, 136, 12, modifiedSeconds );
+            Arrays.fill( header, 148, 156, (byte) ' ' );
+            header[156] = typeFlag;
+            System.arraycopy( "ustar\000".getBytes( StandardCharsets.US_ASCII ), 0, header, 257, 6 );
+            header[263] = '0';
+            header[264] = '0';
+
+            for (byte b : header) {
+                checksum += b & 0xff;
+            }
+            putOctal( header, 148, 7, checksum );
+            out.write( header );
+        }
+
+        /**
+         * Pads the content of an entry of the given size to a whole number of tar blocks.
+         * 
+         * @param size the size of the entry content
+         * @throws IOException thrown if the padding cannot be written
+         */
+        private void writePadding(long size) throws IOException {
+            int remainder = (int) (size % TAR_BLOCK_SIZE);
+
+            if (remainder > 0) {
+                out.write( new byte[TAR_BLOCK_SIZE - remainder] );
+            }
+        }
+
+        /**
+         * Returns a PAX extended header record for the given keyword and value. The length prefix of the record
+         * includes its own digits.
+         * 
+         * @param keyword the keyword of the record
+         * @param value the value of the record
+         * @return byte[]
+         */
+        private byte[] newPaxRecord(String keyword, String value) {
+            int baseLength = (" " + keyword + "=" + value + "\n").getBytes( StandardCharsets.UTF_8 ).length;
+            int length = baseLength + String.valueOf( baseLength ).length();
+
+            if (String.valueOf( length ).length() > String.valueOf( baseLength ).length()) {
+                length++;
+            }
+            return (length + " " + keyword + "=" + value + "\n").getBytes( StandardCharsets.UTF_8 );
+        }
+
+        /**
+         * Writes the given value as a zero-padded, NUL-terminated octal number into a field of the header.
+         * 
+         * @param header the header block
+         * @param offset the offset of the field
+         * @param length the length of the field (including the terminating NUL)
+         * @param value the value to write
+         * @throws IOException thrown if the value does not fit in the field
+         */
+        private void putOctal(byte[] header, int offset, int length, long value) throws IOException {
+            String octal = Long.toOctalString( value );
+
+            if (octal.length() >= length) {
+                throw new IOException( "Value is too large for a tar header field: " + value );
+            }
+            for (int i = 0; i < length - 1; i++) {
+                int digit = i - (length - 1 - octal.length());
+
+                header[offset + i] = (byte) ((digit < 0) ? '0' : octal.charAt( digit ));
+            }
+            header[offset + length - 1] = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.eclipse.jgit.lib.EmptyProgressMonitor;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Token used to request the cooperative cancellation of a repository export. Long-running operations either poll the
+ * token between units of work or register a listener that aborts their blocking calls (e.g. by interrupting a thread
+ * or cancelling an HTTP call) as soon as cancellation is requested.
+ */
+public class CancellationToken {
+
+    private volatile boolean cancelled;
+    private List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Requests cancellation and notifies all registered listeners. Calling this method more than once has no
+     * additional effect.
+     */
+    public void cancel() {
+        boolean notifyListeners;
+
+        synchronized (this) {
+            notifyListeners = !cancelled;
+            cancelled = true;
+        }
+        if (notifyListeners) {
+            for (Runnable listener : listeners) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Returns true if cancellation has been requested.
+     * 
+     * @return boolean
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Throws a <code>CancellationException</code> if cancellation has been requested.
+     * 
+     * @throws CancellationException thrown if the operation has been cancelled
+     */
+    public void throwIfCancelled() {
+        if (cancelled) {
+            throw new CancellationException( "Export cancelled" );
+        }
+    }
+
+    /**
+     * Registers a listener that will be run when cancellation is requested. If cancellation has already been
+     * requested, the listener is run immediately.
+     * 
+     * @param listener the listener to register
+     */
+    public void addListener(Runnable listener) {
+        listeners.add( listener );
+
+        if (cancelled && listeners.remove( listener )) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Unregisters a listener that was previously registered with this token.
+     * 
+     * @param listener the listener to unregister
+     */
+    public void removeListener(Runnable listener) {
+        listeners.remove( listener );
+    }
+
+    /**
+     * Returns a JGit progress monitor that reports this token's cancellation state, so that JGit transport operations
+     * stop when cancellation is requested.
+     * 
+     * @return EmptyProgressMonitor
+     */
+    public EmptyProgressMonitor asGitProgressMonitor() {
+        return new EmptyProgressMonitor() {
+            @Override
+            public boolean isCancelled() {
+                return cancelled;
+            }
+        };
+    }
+
+}
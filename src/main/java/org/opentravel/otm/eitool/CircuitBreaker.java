@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker that stops calls to a remote server while it appears to be unhealthy. The circuit opens after a
+ * number of consecutive failures, and all calls are rejected until the open interval has elapsed. After that, a single
+ * probe call is permitted; the circuit closes if the probe succeeds and opens again if it fails.
+ */
+public class CircuitBreaker {
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_OPEN_MILLIS = 30000;
+
+    /**
+     * Enumeration of the states of a circuit breaker.
+     */
+    public enum State {
+
+        /** Calls are permitted and failures are being counted. */
+        CLOSED,
+
+        /** Calls are rejected until the open interval has elapsed. */
+        OPEN,
+
+        /** A single probe call is permitted to test whether the server has recovered. */
+        HALF_OPEN
+
+    }
+
+    private int failureThreshold;
+    private long openNanos;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean probeInProgress;
+
+    /**
+     * Default constructor that uses the default failure threshold and open interval.
+     */
+    public CircuitBreaker() {
+        this( DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_MILLIS );
+    }
+
+    /**
+     * Constructor that specifies the failure threshold and open interval of the circuit breaker.
+     * 
+     * @param failureThreshold the number of consecutive failures that will open the circuit
+     * @param openMillis the time (in milliseconds) that the circuit remains open before a probe call is permitted
+     */
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = Math.max( 1, failureThreshold );
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos( Math.max( 0, openMillis ) );
+    }
+
+    /**
+     * Returns the current state of the circuit breaker.
+     * 
+     * @return State
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns true if a call is permitted. Every permitted call must be followed by a call to
+     * {@link #recordSuccess()}, {@link #recordFailure()}, or {@link #recordAbandoned()}.
+     * 
+     * @return boolean
+     */
+    public synchronized boolean tryAcquire() {
+        boolean permitted;
+
+        if ((state == State.OPEN) && (getRemainingOpenMillis() == 0)) {
+            state = State.HALF_OPEN;
+            probeInProgress = false;
+        }
+        switch (state) {
+            case CLOSED:
+                permitted = true;
+                break;
+            case HALF_OPEN:
+                permitted = !probeInProgress;
+                probeInProgress = true;
+                break;
+            default:
+                permitted = false;
+                break;
+        }
+        return permitted;
+    }
+
+    /**
+     * Returns the time (in milliseconds) until the open interval of the circuit expires, or zero if the circuit is not
+     * open.
+     * 
+     * @return long
+     */
+    public synchronized long getRemainingOpenMillis() {
+        long remainingNanos = (state == State.OPEN) ? (openedAtNanos + openNanos - System.nanoTime()) : 0;
+
+        return Math.max( 0, TimeUnit.NANOSECONDS.toMillis( remainingNanos ) );
+    }
+
+    /**
+     * Records the success of a permitted call and closes the circuit.
+     */
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInProgress = false;
+    }
+
+    /**
+     * Records the failure of a permitted call. The circuit is opened if the call was a probe or if the failure
+     * threshold has been reached.
+     * 
+     * @return boolean true if the failure opened a circuit that was closed
+     */
+    public synchronized boolean recordFailure() {
+        boolean opened = false;
+
+        consecutiveFailures++;
+
+        if ((state == State.HALF_OPEN) || ((state == State.CLOSED) && (consecutiveFailures >= failureThreshold))) {
+            opened = (state == State.CLOSED);
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+            probeInProgress = false;
+        }
+        return opened;
+    }
+
+    /**
+     * Returns the number of consecutive failures that have been recorded since the last successful call.
+     * 
+     * @return int
+     */
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Records that a permitted call was abandoned (e.g. because the calling thread was interrupted) before its outcome
+     * was known. The state of the circuit is not changed, but a new probe call will be permitted if the abandoned call
+     * was a probe.
+     */
+    public synchronized void recordAbandoned() {
+        probeInProgress = false;
+    }
+
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Progress monitor adapter that delivers updates to a Swing-based monitor on the Event Dispatch Thread. Progress
+ * updates from worker threads only replace the latest pending update (a single lock-free write), and a Swing timer
+ * delivers the most recent update at most a fixed number of times per second. Intermediate updates are discarded, so
+ * the UI is never flooded regardless of how many threads are reporting progress.
+ */
+public class CoalescingProgressMonitor implements ProgressMonitor {
+
+    public static final int DEFAULT_UPDATES_PER_SECOND = 10;
+
+    private ProgressMonitor delegate;
+    private AtomicReference<ProgressUpdate> pendingUpdate = new AtomicReference<>();
+    private Timer flushTimer;
+
+    /**
+     * Constructor that delivers updates to the given monitor at the default rate.
+     * 
+     * @param delegate the monitor that will receive updates on the Event Dispatch Thread
+     */
+    public CoalescingProgressMonitor(ProgressMonitor delegate) {
+        this( delegate, DEFAULT_UPDATES_PER_SECOND );
+    }
+
+    /**
+     * Constructor that specifies the maximum number of progress updates that will be delivered each second.
+     * 
+     * @param delegate the monitor that will receive updates on the Event Dispatch Thread
+     * @param maxUpdatesPerSecond the maximum number of progress updates to deliver per second
+     */
+    public CoalescingProgressMonitor(ProgressMonitor delegate, int maxUpdatesPerSecond) {
+        this.delegate = delegate;
+        this.flushTimer = new Timer( 1000 / Math.max( 1, Math.min( 1000, maxUpdatesPerSecond ) ), e -> flush() );
+        this.flushTimer.setCoalesce( true );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#jobStarted(java.lang.String)
+     */
+    @Override
+    public void jobStarted(String message) {
+        pendingUpdate.set( null );
+        SwingUtilities.invokeLater( () -> {
+            delegate.jobStarted( message );
+            flushTimer.start();
+        } );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#progress(double, java.lang.String)
+     */
+    @Override
+    public void progress(double percentComplete, String message) {
+        pendingUpdate.set( new ProgressUpdate( percentComplete, message ) );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#jobComplete()
+     */
+    @Override
+    public void jobComplete() {
+        SwingUtilities.invokeLater( () -> {
+            stopAndFlush();
+            delegate.jobComplete();
+        } );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#jobError(java.lang.String)
+     */
+    @Override
+    public void jobError(String message) {
+        SwingUtilities.invokeLater( () -> {
+            stopAndFlush();
+            delegate.jobError( message );
+        } );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#jobMessage(java.lang.String)
+     */
+    @Override
+    public void jobMessage(String message) {
+        SwingUtilities.invokeLater( () -> delegate.jobMessage( message ) );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#jobWarning(java.lang.String)
+     */
+    @Override
+    public void jobWarning(String message) {
+        SwingUtilities.invokeLater( () -> delegate.jobWarning( message ) );
+    }
+
+    /**
+     * Stops the flush timer and delivers any pending progress update so that the final state of the job is
+     * displayed. Must be called on the Event Dispatch Thread.
+     */
+    private void stopAndFlush() {
+        flushTimer.stop();
+        flush();
+    }
+
+    /**
+     * Delivers the latest pending progress update (if any) to the delegate monitor. Must be called on the Event
+     * Dispatch Thread.
+     */
+    private void flush() {
+        ProgressUpdate update = pendingUpdate.getAndSet( null );
+
+        if (update != null) {
+            delegate.progress( update.percentComplete, update.message );
+        }
+    }
+
+    /**
+     * Immutable snapshot of a single progress update.
+     */
+    private static class ProgressUpdate {
+
+        private double percentComplete;
+        private String message;
+
+        /**
+         * Constructor that specifies the progress values of the update.
+         * 
+         * @param percentComplete the percent complete of the job (between 0.0 and 1.0)
+         * @param message the message to be displayed for the job
+         */
+        public ProgressUpdate(double percentComplete, String message) {
+            this.percentComplete = percentComplete;
+            this.message = message;
+        }
+
+    }
+
+}
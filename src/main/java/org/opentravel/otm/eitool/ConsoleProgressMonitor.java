@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.io.PrintStream;
+
+/**
+ * Progress monitor that reports the progress of a background job as lines of text on a console stream. To keep the
+ * output readable for large exports, a progress line is only written when the whole-number percent complete changes.
+ */
+public class ConsoleProgressMonitor implements ProgressMonitor {
+
+    private PrintStream out;
+    private int lastPercent = -1;
+    private boolean errorReported;
+
+    /**
+     * Default constructor that reports progress to the standard output stream.
+     */
+    public ConsoleProgressMonitor() {
+        this( System.out );
+    }
+
+    /**
+     * Constructor that specifies the stream to which progress will be reported.
+     * 
+     * @param out the output stream for progress messages
+     */
+    public ConsoleProgressMonitor(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Returns true if the job was reported as terminating with an error.
+     * 
+     * @return boolean
+     */
+    public synchronized boolean isErrorReported() {
+        return errorReported;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#jobStarted(java.lang.String)
+     */
+    @Override
+    public synchronized void jobStarted(String message) {
+        lastPercent = -1;
+        out.println( message );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#progress(double, java.lang.String)
+     */
+    @Override
+    public synchronized void progress(double percentComplete, String message) {
+        int percent = (int) (Math.max( 0.0, Math.min( 1.0, percentComplete ) ) * 100.0);
+
+        if (percent != lastPercent) {
+            out.println( String.format( "[%3d%%] %s", percent, message ) );
+            lastPercent = percent;
+        }
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#jobComplete()
+     */
+    @Override
+    public synchronized void jobComplete() {
+        out.println( "Export Completed Successfully!" );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#jobError(java.lang.String)
+     */
+    @Override
+    public synchronized void jobError(String message) {
+        errorReported = true;
+        out.println( "ERROR: " + message );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#jobMessage(java.lang.String)
+     */
+    @Override
+    public synchronized void jobMessage(String message) {
+        out.println( message );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ProgressMonitor#jobWarning(java.lang.String)
+     */
+    @Override
+    public synchronized void jobWarning(String message) {
+        out.println( "WARNING: " + message );
+    }
+
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.otm.eitool.FileStager.StagingStrategy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Export sink that writes the exported files to a plain directory, such as a folder on a shared file server. Files
+ * whose content is unchanged since the previous export are not rewritten, and files that are no longer part of the
+ * export are deleted when the export is committed. Files are written in place, so readers of the directory may observe
+ * a partially updated export while the export is running.
+ */
+public class DirectoryExportSink implements FileExportSink {
+
+    private File directory;
+
+    /**
+     * Constructor that specifies the directory to which files will be exported.
+     * 
+     * @param directory the export directory (created if it does not exist)
+     */
+    public DirectoryExportSink(File directory) {
+        this.directory = directory.getAbsoluteFile();
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportSink#getDescription()
+     */
+    @Override
+    public String getDescription() {
+        return "directory " + directory.getPath();
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.FileExportSink#openWriter()
+     */
+    @Override
+    public ExportWriter openWriter() throws IOException {
+        Files.createDirectories( directory.toPath() );
+        return new DirectoryWriter();
+    }
+
+    /**
+     * Writer that copies each file to the export directory using zero-copy transfers. Hard links are never used
+     * because the exported files must not change when the local repository is updated.
+     */
+    private class DirectoryWriter implements ExportWriter {
+
+        private FileStager fileStager = new FileStager( StagingStrategy.ZERO_COPY, null, directory );
+        private Set<String> existingPaths = new HashSet<>();
+        private Set<String> removedPaths = new HashSet<>();
+
+        /**
+         * Constructor that records the files that the export directory contains from a previous export.
+         */
+        public DirectoryWriter() {
+            File[] existingFiles = directory.listFiles( File::isFile );
+
+            if (existingFiles != null) {
+                for (File existingFile : existingFiles) {
+                    existingPaths.add( existingFile.getName() );
+                }
+            }
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ExportWriter#contains(java.lang.String)
+         */
+        @Override
+        public boolean contains(String path) {
+            return existingPaths.contains( path );
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ExportWriter#getPaths()
+         */
+        @Override
+        public List<String> getPaths() {
+            return new ArrayList<>( existingPaths );
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ExportWriter#add(java.lang.String, java.io.File)
+         */
+        @Override
+        public boolean add(String path, File file) throws IOException {
+            File destFile = new File( directory, String.format( "/%s", path ) );
+            boolean modified = !destFile.exists() || (destFile.length() != file.length())
+                || (Files.mismatch( file.toPath(), destFile.toPath() ) >= 0);
+
+            if (modified) {
+                fileStager.stage( file, destFile );
+            }
+            return modified;
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ExportWriter#remove(java.lang.String)
+         */
+        @Override
+        public synchronized void remove(String path) {
+            removedPaths.add( path );
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ExportWriter#commit()
+         */
+        @Override
+        public synchronized void commit() throws IOException {
+            for (String path : removedPaths) {
+                Files.deleteIfExists( new File( directory, String.format( "/%s", path ) ).toPath() );
+            }
+            removedPaths.clear();
+        }
+
+        /**
+         * Returns the staging summary of the files that were written to the export directory.
+         * 
+         * @see org.opentravel.otm.eitool.ExportWriter#getSummary()
+         */
+        @Override
+        public String getSummary() {
+            return fileStager.getSummary();
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ExportWriter#close()
+         */
+        @Override
+        public void close() {
+            // Files are written in place, so there is nothing to release
+        }
+
+    }
+
+}
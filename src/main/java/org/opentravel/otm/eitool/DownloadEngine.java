@@ -0,0 +1,555 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Downloads the content of repository items from the remote OTM repository using a pool of concurrent workers.
+ * Transient failures are retried by the {@link ResilientRepositoryClient}, and failures that remain are collected on a
+ * per-item basis so that a single bad item does not prevent the remaining items from being downloaded.
+ * 
+ * <p>
+ * Items may be submitted while the engine is running, which allows downloads to begin before the full list of items to
+ * be exported is known. If a size estimator is assigned, waiting items are downloaded largest first so that a large
+ * library submitted late does not leave a single worker busy after all of the others have finished.
+ */
+public class DownloadEngine {
+
+    public static final int DEFAULT_THREAD_COUNT = 8;
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private ResilientRepositoryClient repositoryClient;
+    private int threadCount;
+    private boolean useVirtualThreads;
+    private int maxPendingItems = UNBOUNDED;
+    private DownloadListener listener;
+    private SizeEstimator sizeEstimator;
+    private ContentLocator contentLocator;
+    private CancellationToken cancellationToken;
+    private ProgressMonitor monitor;
+    private ExportMetrics metrics;
+    private ExecutorService executor;
+    private Semaphore permits;
+    private PriorityBlockingQueue<ScheduledItem> pendingItems;
+    private List<DownloadFailure> failures;
+    private int submittedCount;
+    private int completedCount;
+    private int pendingCount;
+    private double reportedPercent;
+    private boolean stopped;
+
+    /**
+     * Constructor that specifies the remote repository and the concurrency settings for the engine.
+     * 
+     * @param repositoryClient the client for the remote repository from which content will be downloaded
+     * @param threadCount the maximum number of downloads that may be in progress at one time
+     * @param useVirtualThreads flag indicating whether virtual threads should be used (if supported by the JVM)
+     */
+    public DownloadEngine(ResilientRepositoryClient repositoryClient, int threadCount, boolean useVirtualThreads) {
+        this.repositoryClient = repositoryClient;
+        this.threadCount = Math.max( 1, threadCount );
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    /**
+     * Assigns the maximum number of submitted items that may be waiting for (or undergoing) download at one time. Once
+     * this limit is reached, calls to {@link #submit(RepositoryItem)} will block until a download completes.
+     * 
+     * @param maxPendingItems the maximum number of pending items
+     */
+    public void setMaxPendingItems(int maxPendingItems) {
+        this.maxPendingItems = Math.max( 1, maxPendingItems );
+    }
+
+    /**
+     * Assigns the metrics collector that will record the latency of each download.
+     * 
+     * @param metrics the export metrics to assign (may be null)
+     */
+    public void setMetrics(ExportMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Assigns the listener that will be notified as each item is successfully downloaded.
+     * 
+     * @param listener the download listener to assign
+     */
+    public void setListener(DownloadListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Assigns the estimator of each item's download size. When assigned, the items that are waiting for a worker are
+     * downloaded in order of decreasing estimated size; otherwise, items are downloaded in the order submitted.
+     * 
+     * @param sizeEstimator the size estimator to assign (may be null)
+     */
+    public void setSizeEstimator(SizeEstimator sizeEstimator) {
+        this.sizeEstimator = sizeEstimator;
+    }
+
+    /**
+     * Assigns the locator of each item's downloaded content. When assigned, the size of the downloaded content is
+     * recorded in the export metrics along with the latency of each download.
+     * 
+     * @param contentLocator the content locator to assign (may be null)
+     */
+    public void setContentLocator(ContentLocator contentLocator) {
+        this.contentLocator = contentLocator;
+    }
+
+    /**
+     * Assigns the cancellation token of the job. Once the token is cancelled, items that have not yet obtained a
+     * download permit are abandoned without being downloaded.
+     * 
+     * @param cancellationToken the cancellation token to assign (may be null)
+     */
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * Downloads the content of each item in the list, returning a list of all items that could not be downloaded. An
+     * empty list is returned if all downloads were successful. This is equivalent to starting the engine, submitting
+     * each item, and awaiting the completion of the downloads.
+     * 
+     * @param items the list of repository items to download
+     * @param monitor the progress monitor for the job (may be null)
+     * @return List&lt;DownloadFailure&gt;
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for the downloads
+     */
+    public List<DownloadFailure> downloadAll(List<RepositoryItem> items, ProgressMonitor monitor)
+        throws InterruptedException {
+        start( monitor );
+
+        for (RepositoryItem item : items) {
+            submit( item );
+        }
+        return awaitCompletion();
+    }
+
+    /**
+     * Starts the engine so that it is ready to accept items for download.
+     * 
+     * @param monitor the progress monitor for the job (may be null)
+     */
+    public synchronized void start(ProgressMonitor monitor) {
+        this.monitor = monitor;
+        this.executor = newExecutor();
+        this.permits = new Semaphore( threadCount );
+        this.pendingItems = new PriorityBlockingQueue<>();
+        this.failures = Collections.synchronizedList( new ArrayList<>() );
+        this.submittedCount = 0;
+        this.completedCount = 0;
+        this.pendingCount = 0;
+        this.reportedPercent = 0.0;
+        this.stopped = false;
+
+        if (metrics != null) {
+            metrics.phaseStarted( ExportMetrics.Phase.DOWNLOAD );
+        }
+    }
+
+    /**
+     * Schedules the given item for download. The engine must have been started prior to calling this method. Items
+     * submitted after the engine has been shut down are ignored.
+     * 
+     * @param item the repository item to download
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for space in the backlog
+     */
+    public void submit(RepositoryItem item) throws InterruptedException {
+        long estimatedSize = (sizeEstimator == null) ? 0 : sizeEstimator.estimateSize( item );
+
+        synchronized (this) {
+            while (!stopped && (pendingCount >= maxPendingItems)) {
+                wait();
+            }
+            if (!stopped) {
+                pendingItems.add( new ScheduledItem( item, estimatedSize, submittedCount++ ) );
+                pendingCount++;
+                executor.execute( this::downloadNext );
+            }
+        }
+    }
+
+    /**
+     * Downloads the content of the highest-priority waiting item and notifies the listener if the download was
+     * successful. Each submitted item is paired with exactly one task, so a waiting item is always available. The item
+     * is selected only once a download permit has been obtained so that the selection reflects the latest submissions.
+     * If the worker is interrupted while waiting for a permit, or the job is cancelled before the download begins, the
+     * item is abandoned without being downloaded.
+     */
+    private void downloadNext() {
+        boolean success = false;
+        RepositoryItem item;
+
+        try {
+            permits.acquire();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            itemAbandoned();
+            return;
+        }
+        if ((cancellationToken != null) && cancellationToken.isCancelled()) {
+            permits.release();
+            itemAbandoned();
+            return;
+        }
+        item = pendingItems.poll().getItem();
+
+        try {
+            long startNanos = System.nanoTime();
+
+            repositoryClient.downloadContent( item, (attempt, maxAttempts, error) -> itemRetrying( item, attempt ) );
+            success = true;
+
+            if (metrics != null) {
+                metrics.recordItem( ExportMetrics.Phase.DOWNLOAD, System.nanoTime() - startNanos,
+                    getDownloadedSize( item ) );
+            }
+
+        } catch (Exception e) {
+            failures.add( new DownloadFailure( item, e ) );
+
+        } finally {
+            permits.release();
+        }
+
+        try {
+            if (success && (listener != null)) {
+                listener.itemDownloaded( item );
+            }
+
+        } catch (Exception e) {
+            failures.add( new DownloadFailure( item, e ) );
+
+        } finally {
+            itemCompleted( item );
+        }
+    }
+
+    /**
+     * Waits for all submitted downloads to complete (or for the engine to be shut down) and shuts down the engine. The
+     * list of items that could not be downloaded is returned; an empty list is returned if all downloads were
+     * successful.
+     * 
+     * @return List&lt;DownloadFailure&gt;
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for the downloads
+     */
+    public List<DownloadFailure> awaitCompletion() throws InterruptedException {
+        try {
+            synchronized (this) {
+                while (!stopped && (completedCount < submittedCount)) {
+                    wait();
+                }
+            }
+            if (metrics != null) {
+                metrics.phaseEnded( ExportMetrics.Phase.DOWNLOAD );
+            }
+
+        } finally {
+            shutdown();
+        }
+        return new ArrayList<>( failures );
+    }
+
+    /**
+     * Throws an exception if the given list of download failures is not empty. The details of every failure are
+     * reported to the monitor as warnings before the exception is thrown.
+     * 
+     * @param failures the list of download failures reported by the engine
+     * @param itemCount the total number of items that were to be downloaded
+     * @param monitor the progress monitor for the job (may be null)
+     * @throws RepositoryException thrown if one or more items could not be downloaded
+     */
+    public static void checkFailures(List<DownloadFailure> failures, int itemCount, ProgressMonitor monitor)
+        throws RepositoryException {
+        if (!failures.isEmpty()) {
+            DownloadFailure firstFailure = failures.get( 0 );
+
+            if (monitor != null) {
+                for (DownloadFailure failure : failures) {
+                    monitor.jobWarning( String.format( "Unable to download %s - %s", failure.getItem().getFilename(),
+                        failure.getError().getMessage() ) );
+                }
+            }
+            throw new RepositoryException( String.format( "%d of %d libraries could not be downloaded (first: %s)",
+                failures.size(), itemCount, firstFailure.getItem().getFilename() ), firstFailure.getError() );
+        }
+    }
+
+    /**
+     * Shuts down the engine immediately, abandoning any downloads that have not yet completed. Threads that are
+     * waiting to submit items or for the downloads to complete are released.
+     */
+    public synchronized void shutdown() {
+        stopped = true;
+        notifyAll();
+
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the size of the downloaded content of the given item, or zero if the content cannot be located.
+     * 
+     * @param item the item whose content was downloaded
+     * @return long
+     */
+    private long getDownloadedSize(RepositoryItem item) {
+        long size = 0;
+
+        if (contentLocator != null) {
+            try {
+                size = contentLocator.getContentFile( item ).length();
+
+            } catch (RepositoryException e) {
+                // Ignore and record an unknown size
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Records the completion of an item, releases its place in the backlog, and reports progress to the monitor.
+     * Progress updates are serialized so that they are delivered to the monitor in the order in which the downloads
+     * completed.
+     * 
+     * @param item the item whose download has completed
+     */
+    private synchronized void itemCompleted(RepositoryItem item) {
+        double percentComplete;
+
+        completedCount++;
+        percentComplete = getPercentComplete();
+        pendingCount--;
+        notifyAll();
+
+        if (monitor != null) {
+            monitor.progress( percentComplete, String.format( "Downloading: %s", item.getFilename() ) );
+        }
+    }
+
+    /**
+     * Records that a waiting item was abandoned without being downloaded and releases its place in the backlog. The
+     * abandoned item is removed from the waiting items so that each remaining task is still paired with one item.
+     */
+    private synchronized void itemAbandoned() {
+        pendingItems.poll();
+        completedCount++;
+        pendingCount--;
+        notifyAll();
+    }
+
+    /**
+     * Reports to the monitor that the download of an item is being retried.
+     * 
+     * @param item the item whose download is being retried
+     * @param attempt the number of the attempt that is about to be made
+     */
+    private synchronized void itemRetrying(RepositoryItem item, int attempt) {
+        if (monitor != null) {
+            monitor.progress( getPercentComplete(),
+                String.format( "Retrying: %s (attempt %d)", item.getFilename(), attempt ) );
+        }
+    }
+
+    /**
+     * Returns the percent complete to be reported to the monitor. Items may still be submitted while earlier items
+     * are being downloaded, so the ratio of completed to submitted items can fall; the highest percentage reported so
+     * far is returned in that case so that the progress reported to the monitor never goes backwards.
+     * 
+     * @return double
+     */
+    private synchronized double getPercentComplete() {
+        reportedPercent = Math.max( reportedPercent, ((double) completedCount) / ((double) submittedCount) );
+        return reportedPercent;
+    }
+
+    /**
+     * Returns true if the JVM supports virtual threads. If virtual threads are requested but not supported, the engine
+     * uses a pool of platform threads instead.
+     * 
+     * @return boolean
+     */
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+            return true;
+
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a new executor service for the download tasks. If virtual threads were requested and the JVM supports
+     * them, a virtual-thread-per-task executor is returned; otherwise, a fixed pool of platform threads is used.
+     * 
+     * @return ExecutorService
+     */
+    private ExecutorService newExecutor() {
+        ExecutorService newExecutor = null;
+
+        if (useVirtualThreads) {
+            try {
+                newExecutor = (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" )
+                    .invoke( null );
+
+            } catch (ReflectiveOperationException e) {
+                // Not supported by this JVM - use platform threads
+            }
+        }
+        if (newExecutor == null) {
+            newExecutor = Executors.newFixedThreadPool( threadCount, new NamedThreadFactory( "otm-download" ) );
+        }
+        return newExecutor;
+    }
+
+    /**
+     * Listener that is notified when the content of an item has been downloaded successfully.
+     */
+    public interface DownloadListener {
+
+        /**
+         * Called from the download worker thread once the content of the item has been downloaded.
+         * 
+         * @param item the repository item that was downloaded
+         * @throws Exception thrown if the listener is unable to process the downloaded item
+         */
+        public void itemDownloaded(RepositoryItem item) throws Exception;
+
+    }
+
+    /**
+     * Estimates the download size of repository items so that larger items can be downloaded first.
+     */
+    public interface SizeEstimator {
+
+        /**
+         * Returns the estimated download size of the given item in bytes, or a negative value if the size is unknown.
+         * Items of unknown size are downloaded before all others since they may be large.
+         * 
+         * @param item the repository item whose size is to be estimated
+         * @return long
+         */
+        public long estimateSize(RepositoryItem item);
+
+    }
+
+    /**
+     * Locates the local copy of the content of repository items once they have been downloaded.
+     */
+    public interface ContentLocator {
+
+        /**
+         * Returns the file in the local repository that contains the downloaded content of the given item.
+         * 
+         * @param item the repository item whose content is to be located
+         * @return File
+         * @throws RepositoryException thrown if the location of the content cannot be determined
+         */
+        public File getContentFile(RepositoryItem item) throws RepositoryException;
+
+    }
+
+    /**
+     * Item that is waiting for download, ordered so that items of unknown size come first, followed by the remaining
+     * items in order of decreasing size. Items of equal size are downloaded in the order they were submitted.
+     */
+    private static class ScheduledItem implements Comparable<ScheduledItem> {
+
+        private RepositoryItem item;
+        private long estimatedSize;
+        private long sequence;
+
+        /**
+         * Constructor that specifies the item and its scheduling attributes.
+         * 
+         * @param item the repository item to download
+         * @param estimatedSize the estimated download size of the item (negative if unknown)
+         * @param sequence the submission sequence number of the item
+         */
+        public ScheduledItem(RepositoryItem item, long estimatedSize, long sequence) {
+            this.item = item;
+            this.estimatedSize = (estimatedSize < 0) ? Long.MAX_VALUE : estimatedSize;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Returns the repository item to download.
+         * 
+         * @return RepositoryItem
+         */
+        public RepositoryItem getItem() {
+            return item;
+        }
+
+        /**
+         * @see java.lang.Comparable#compareTo(java.lang.Object)
+         */
+        @Override
+        public int compareTo(ScheduledItem other) {
+            int result = Long.compare( other.estimatedSize, estimatedSize );
+
+            return (result != 0) ? result : Long.compare( sequence, other.sequence );
+        }
+
+    }
+
+    /**
+     * Encapsulates an item that could not be downloaded and the error that caused the failure.
+     */
+    public static class DownloadFailure {
+
+        private RepositoryItem item;
+        private Exception error;
+
+        /**
+         * Constructor that specifies the item that failed and the cause of the failure.
+         * 
+         * @param item the repository item that could not be downloaded
+         * @param error the error that caused the failure
+         */
+        public DownloadFailure(RepositoryItem item, Exception error) {
+            this.item = item;
+            this.error = error;
+        }
+
+        /**
+         * Returns the repository item that could not be downloaded.
+         * 
+         * @return RepositoryItem
+         */
+        public RepositoryItem getItem() {
+            return item;
+        }
+
+        /**
+         * Returns the error that caused the failure.
+         * 
+         * @return Exception
+         */
+        public Exception getError() {
+            return error;
+        }
+
+    }
+
+}
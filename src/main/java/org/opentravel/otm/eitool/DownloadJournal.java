@@ -0,0 +1,265 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of the library downloads and staged files that have been completed by an export. Each record is
+ * written as a single line that is prefixed with its CRC-32 checksum, so that a record that was only partially written
+ * when the process died is detected and discarded when the journal is reloaded. A restarted export uses the journal
+ * to skip the downloads and file copies that were already completed by the failed run.
+ */
+public class DownloadJournal implements AutoCloseable {
+
+    private static final String DOWNLOAD_RECORD = "D";
+    private static final String STAGED_RECORD = "S";
+    private static final String FIELD_SEPARATOR = "|";
+
+    private File journalFile;
+    private FileChannel channel;
+    private Set<String> downloadedItems = ConcurrentHashMap.newKeySet();
+    private Map<String, String> stagedFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor that loads the existing records of the given journal file (if any) and opens the file for appending
+     * new records. Any incomplete record at the end of the file is truncated.
+     * 
+     * @param journalFile the journal file to open
+     * @throws IOException thrown if the journal file cannot be read or opened
+     */
+    public DownloadJournal(File journalFile) throws IOException {
+        long validLength = 0;
+
+        this.journalFile = journalFile;
+        journalFile.getParentFile().mkdirs();
+
+        if (journalFile.exists()) {
+            validLength = loadRecords( Files.readAllBytes( journalFile.toPath() ) );
+        }
+        this.channel = FileChannel.open( journalFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE );
+        this.channel.truncate( validLength );
+        this.channel.position( validLength );
+    }
+
+    /**
+     * Returns the journal file for exports of the specified GitHub repository. The journal is kept beside the
+     * persistent workspace of the export.
+     * 
+     * @param ghOwnerName the name of the user or organization that owns the export repository
+     * @param ghRepositoryName the name of the export repository
+     * @param bareWorkspace flag indicating whether the workspace is a bare Git repository
+     * @return File
+     */
+    public static File getJournalFile(String ghOwnerName, String ghRepositoryName, boolean bareWorkspace) {
+        File workspaceFolder = ExportManifest.getWorkspaceFolder( ghOwnerName, ghRepositoryName, bareWorkspace );
+
+        return new File( workspaceFolder.getParentFile(), workspaceFolder.getName() + ".journal" );
+    }
+
+    /**
+     * Returns the number of item downloads recorded in the journal.
+     * 
+     * @return int
+     */
+    public int getDownloadCount() {
+        return downloadedItems.size();
+    }
+
+    /**
+     * Returns true if the journal records a completed download of the given item.
+     * 
+     * @param item the repository item to check
+     * @return boolean
+     */
+    public boolean isDownloaded(RepositoryItem item) {
+        return downloadedItems.contains( getItemKey( item ) );
+    }
+
+    /**
+     * Records the completed download of the given item.
+     * 
+     * @param item the repository item that was downloaded
+     * @throws IOException thrown if the record cannot be written
+     */
+    public void recordDownload(RepositoryItem item) throws IOException {
+        String itemKey = getItemKey( item );
+
+        if (downloadedItems.add( itemKey )) {
+            append( DOWNLOAD_RECORD + FIELD_SEPARATOR + itemKey );
+        }
+    }
+
+    /**
+     * Returns true if the journal records that the given source file was staged for the item and the destination file
+     * still matches the staged content.
+     * 
+     * @param item the repository item to check
+     * @param sourceFile the library file in the local repository
+     * @param destFile the staged file in the export folder
+     * @return boolean
+     */
+    public boolean isStaged(RepositoryItem item, File sourceFile, File destFile) {
+        String stagedState = stagedFiles.get( item.getFilename() );
+
+        return (stagedState != null) && destFile.exists() && (destFile.length() == sourceFile.length())
+            && stagedState.equals( getStagedState( item, sourceFile ) );
+    }
+
+    /**
+     * Records that the source file for the given item has been staged in the export folder.
+     * 
+     * @param item the repository item that was staged
+     * @param sourceFile the library file in the local repository
+     * @throws IOException thrown if the record cannot be written
+     */
+    public void recordStaged(RepositoryItem item, File sourceFile) throws IOException {
+        String stagedState = getStagedState( item, sourceFile );
+
+        if (!stagedState.equals( stagedFiles.put( item.getFilename(), stagedState ) )) {
+            append( STAGED_RECORD + FIELD_SEPARATOR + item.getFilename() + FIELD_SEPARATOR + stagedState );
+        }
+    }
+
+    /**
+     * Closes and deletes the journal file. This should be called once the export has completed successfully.
+     * 
+     * @throws IOException thrown if the journal file cannot be deleted
+     */
+    public void delete() throws IOException {
+        close();
+        Files.deleteIfExists( journalFile.toPath() );
+    }
+
+    /**
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.force( false );
+            channel.close();
+        }
+    }
+
+    /**
+     * Appends a single record to the journal. The record and its checksum are written with a single write so that it
+     * reaches the operating system as soon as the work it describes has completed.
+     * 
+     * @param record the record to append
+     * @throws IOException thrown if the record cannot be written
+     */
+    private synchronized void append(String record) throws IOException {
+        String line = checksum( record ) + " " + record + "\n";
+        ByteBuffer buffer = ByteBuffer.wrap( line.getBytes( StandardCharsets.UTF_8 ) );
+
+        while (buffer.hasRemaining()) {
+            channel.write( buffer );
+        }
+    }
+
+    /**
+     * Loads the records from the given journal content and returns the length of the valid content. Loading stops at
+     * the first record that is incomplete or whose checksum does not match.
+     * 
+     * @param content the content of the journal file
+     * @return long
+     */
+    private long loadRecords(byte[] content) {
+        int lineStart = 0;
+        int lineEnd;
+
+        while ((lineEnd = indexOf( content, (byte) '\n', lineStart )) >= 0) {
+            String line = new String( content, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8 );
+            int spaceIdx = line.indexOf( ' ' );
+            String record = (spaceIdx < 0) ? null : line.substring( spaceIdx + 1 );
+
+            if ((record == null) || !line.substring( 0, spaceIdx ).equals( checksum( record ) )) {
+                break;
+            }
+            String[] fields = record.split( "\\" + FIELD_SEPARATOR, 2 );
+
+            if ((fields.length == 2) && fields[0].equals( DOWNLOAD_RECORD )) {
+                downloadedItems.add( fields[1] );
+
+            } else if ((fields.length == 2) && fields[0].equals( STAGED_RECORD )) {
+                String[] stagedFields = fields[1].split( "\\" + FIELD_SEPARATOR, 2 );
+
+                if (stagedFields.length == 2) {
+                    stagedFiles.put( stagedFields[0], stagedFields[1] );
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return lineStart;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the given byte at or after the starting index, or -1 if the byte
+     * does not occur.
+     * 
+     * @param content the content to search
+     * @param value the byte value to find
+     * @param fromIndex the index at which to begin the search
+     * @return int
+     */
+    private static int indexOf(byte[] content, byte value, int fromIndex) {
+        for (int i = fromIndex; i < content.length; i++) {
+            if (content[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the hex-encoded CRC-32 checksum of the given record.
+     * 
+     * @param record the record for which to compute the checksum
+     * @return String
+     */
+    private static String checksum(String record) {
+        CRC32 crc = new CRC32();
+
+        crc.update( record.getBytes( StandardCharsets.UTF_8 ) );
+        return String.format( "%08x", crc.getValue() );
+    }
+
+    /**
+     * Returns the key that identifies the given item in the journal.
+     * 
+     * @param item the repository item
+     * @return String
+     */
+    private static String getItemKey(RepositoryItem item) {
+        return String.join( FIELD_SEPARATOR, item.getBaseNamespace(), item.getFilename(), item.getVersion() );
+    }
+
+    /**
+     * Returns the staged state of the given item, which identifies the version and source file content that were
+     * staged.
+     * 
+     * @param item the repository item
+     * @param sourceFile the library file in the local repository
+     * @return String
+     */
+    private static String getStagedState(RepositoryItem item, File sourceFile) {
+        return String.join( FIELD_SEPARATOR, item.getVersion(), sourceFile.length() + "",
+            sourceFile.lastModified() + "" );
+    }
+
+}
@@ -0,0 +1,273 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records the base namespace, version, and content hash of each library that was included in the last successful
+ * export of a GitHub repository. The manifest is persisted in the <code>~/.ota2/exports</code> folder so that later
+ * exports can skip libraries that have not changed.
+ */
+public class ExportManifest {
+
+    public static final File EXPORTS_FOLDER = new File( PersistentProperties.OTA2_FOLDER, "/exports" );
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String FIELD_SEPARATOR = "|";
+
+    private PersistentProperties manifestProps;
+    private Map<String, ManifestEntry> entries = new HashMap<>();
+
+    /**
+     * Constructor that loads the manifest for the specified GitHub repository. If no manifest exists (e.g. the
+     * repository has never been exported), the new manifest will be empty.
+     * 
+     * @param ghOwnerName the name of the user or organization that owns the export repository
+     * @param ghRepositoryName the name of the export repository
+     * @param bareWorkspace flag indicating whether the manifest describes a bare (direct tree) workspace
+     * @throws IOException thrown if an existing manifest cannot be loaded
+     */
+    public ExportManifest(String ghOwnerName, String ghRepositoryName, boolean bareWorkspace) throws IOException {
+        this.manifestProps = new PersistentProperties( String.format( "/exports/%s/%s.manifest", ghOwnerName,
+            getWorkspaceName( ghRepositoryName, bareWorkspace ) ) );
+
+        for (String filename : manifestProps.stringPropertyNames()) {
+            String[] fields = manifestProps.getProperty( filename ).split( "\\" + FIELD_SEPARATOR );
+
+            if (fields.length == 4) {
+                try {
+                    entries.put( filename,
+                        new ManifestEntry( fields[0], filename, fields[1], fields[2], Long.parseLong( fields[3] ) ) );
+
+                } catch (NumberFormatException e) {
+                    // Ignore the invalid entry so that the library will be exported again
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the local workspace folder where exports of the specified GitHub repository are maintained between runs.
+     * Bare workspaces (used by direct tree exports) are kept separate from working tree workspaces so that each
+     * manifest always describes the content of its own workspace.
+     * 
+     * @param ghOwnerName the name of the user or organization that owns the export repository
+     * @param ghRepositoryName the name of the export repository
+     * @param bareWorkspace flag indicating whether the workspace is a bare Git repository
+     * @return File
+     */
+    public static File getWorkspaceFolder(String ghOwnerName, String ghRepositoryName, boolean bareWorkspace) {
+        return new File( EXPORTS_FOLDER,
+            String.format( "/%s/%s", ghOwnerName, getWorkspaceName( ghRepositoryName, bareWorkspace ) ) );
+    }
+
+    /**
+     * Returns the name of the workspace folder for the specified GitHub repository.
+     * 
+     * @param ghRepositoryName the name of the export repository
+     * @param bareWorkspace flag indicating whether the workspace is a bare Git repository
+     * @return String
+     */
+    private static String getWorkspaceName(String ghRepositoryName, boolean bareWorkspace) {
+        return bareWorkspace ? (ghRepositoryName + ".git") : ghRepositoryName;
+    }
+
+    /**
+     * Returns the manifest entry for the specified filename, or null if no such entry exists.
+     * 
+     * @param filename the filename of the exported library
+     * @return ManifestEntry
+     */
+    public synchronized ManifestEntry getEntry(String filename) {
+        return entries.get( filename );
+    }
+
+    /**
+     * Returns the filenames of all libraries recorded in the manifest.
+     * 
+     * @return Set&lt;String&gt;
+     */
+    public synchronized Set<String> getFilenames() {
+        return new HashSet<>( entries.keySet() );
+    }
+
+    /**
+     * Returns true if the content file for the given item matches the version and content hash that were recorded in
+     * the manifest during the last export.
+     * 
+     * @param item the repository item to check
+     * @param contentFile the local content file for the repository item
+     * @return boolean
+     * @throws IOException thrown if the content file cannot be read
+     */
+    public boolean isUnchanged(RepositoryItem item, File contentFile) throws IOException {
+        ManifestEntry entry = getEntry( item.getFilename() );
+        boolean unchanged = false;
+
+        if ((entry != null) && contentFile.exists() && (contentFile.length() == entry.getSize())
+            && entry.getBaseNamespace().equals( item.getBaseNamespace() )
+            && entry.getVersion().equals( item.getVersion() )) {
+            unchanged = entry.getContentHash().equals( computeHash( contentFile ) );
+        }
+        return unchanged;
+    }
+
+    /**
+     * Records the current version and content of the given item in the manifest.
+     * 
+     * @param item the repository item that was exported
+     * @param contentFile the local content file for the repository item
+     * @throws IOException thrown if the content file cannot be read
+     */
+    public void update(RepositoryItem item, File contentFile) throws IOException {
+        ManifestEntry entry = new ManifestEntry( item.getBaseNamespace(), item.getFilename(), item.getVersion(),
+            computeHash( contentFile ), contentFile.length() );
+
+        synchronized (this) {
+            entries.put( entry.getFilename(), entry );
+        }
+    }
+
+    /**
+     * Removes the entry for the specified filename from the manifest.
+     * 
+     * @param filename the filename of the library to remove
+     */
+    public synchronized void remove(String filename) {
+        entries.remove( filename );
+    }
+
+    /**
+     * Saves the manifest to its persistent file. The file is replaced atomically, so a failure while saving leaves the
+     * manifest of the previous export intact.
+     * 
+     * @throws IOException thrown if an error occurrs while saving the file
+     */
+    public synchronized void save() throws IOException {
+        manifestProps.clear();
+
+        for (ManifestEntry entry : entries.values()) {
+            manifestProps.setProperty( entry.getFilename(),
+                String.join( FIELD_SEPARATOR, entry.getBaseNamespace(), entry.getVersion(), entry.getContentHash(),
+                    entry.getSize() + "" ) );
+        }
+        manifestProps.saveProperties();
+    }
+
+    /**
+     * Returns the hex-encoded SHA-256 hash of the content of the given file.
+     * 
+     * @param file the file for which to compute the hash
+     * @return String
+     * @throws IOException thrown if the file cannot be read
+     */
+    public static String computeHash(File file) throws IOException {
+        try (InputStream is = new FileInputStream( file )) {
+            MessageDigest digest = MessageDigest.getInstance( HASH_ALGORITHM );
+            byte[] buffer = new byte[8192];
+            StringBuilder hash = new StringBuilder();
+            int bytesRead;
+
+            while ((bytesRead = is.read( buffer )) >= 0) {
+                digest.update( buffer, 0, bytesRead );
+            }
+            for (byte b : digest.digest()) {
+                hash.append( String.format( "%02x", b ) );
+            }
+            return hash.toString();
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException( "Hash algorithm not supported: " + HASH_ALGORITHM, e );
+        }
+    }
+
+    /**
+     * Manifest information for a single exported library.
+     */
+    public static class ManifestEntry {
+
+        private String baseNamespace;
+        private String filename;
+        private String version;
+        private String contentHash;
+        private long size;
+
+        /**
+         * Full constructor.
+         * 
+         * @param baseNamespace the base namespace of the library
+         * @param filename the filename of the library
+         * @param version the version identifier of the library
+         * @param contentHash the hex-encoded SHA-256 hash of the library content
+         * @param size the size of the library content in bytes
+         */
+        public ManifestEntry(String baseNamespace, String filename, String version, String contentHash, long size) {
+            this.baseNamespace = baseNamespace;
+            this.filename = filename;
+            this.version = version;
+            this.contentHash = contentHash;
+            this.size = size;
+        }
+
+        /**
+         * Returns the base namespace of the library.
+         * 
+         * @return String
+         */
+        public String getBaseNamespace() {
+            return baseNamespace;
+        }
+
+        /**
+         * Returns the filename of the library.
+         * 
+         * @return String
+         */
+        public String getFilename() {
+            return filename;
+        }
+
+        /**
+         * Returns the version identifier of the library.
+         * 
+         * @return String
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * Returns the hex-encoded SHA-256 hash of the library content.
+         * 
+         * @return String
+         */
+        public String getContentHash() {
+            return contentHash;
+        }
+
+        /**
+         * Returns the size of the library content in bytes.
+         * 
+         * @return long
+         */
+        public long getSize() {
+            return size;
+        }
+
+    }
+
+}
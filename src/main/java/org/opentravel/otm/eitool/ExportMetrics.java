@@ -0,0 +1,489 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Collects timers, item counts, byte counts, and per-item latency histograms for each phase of a repository export.
+ * All recording methods are thread-safe so that they may be called from the worker threads of every phase. Upon
+ * completion of the export, the metrics can be written as a JSON run report, and while the export is running they may
+ * optionally be observed over JMX.
+ */
+public class ExportMetrics implements ExportMetricsMXBean {
+
+    public static final String MBEAN_NAME = "org.opentravel.otm.eitool:type=ExportMetrics";
+
+    /**
+     * Enumeration of the phases of a repository export.
+     */
+    public enum Phase {
+
+        /** Listing of the items in each base namespace of the OTM repository. */
+        LISTING,
+
+        /** Download of library content from the OTM repository. */
+        DOWNLOAD,
+
+        /** Copying (or linking) of library files into the export folder. */
+        STAGING,
+
+        /** Insertion of library files into the Git object database and index. */
+        INDEXING,
+
+        /** Creation of the Git commit for the export. */
+        COMMIT,
+
+        /** Push of the export commit to GitHub. */
+        PUSH
+
+    }
+
+    private Map<Phase, PhaseMetrics> phases = new EnumMap<>( Phase.class );
+    private Map<String, String> attributes = new LinkedHashMap<>();
+    private Map<String, LongSupplier> gauges = new LinkedHashMap<>();
+    private long startNanos = System.nanoTime();
+    private Instant startTime = Instant.now();
+    private volatile long endNanos;
+    private volatile String status = "RUNNING";
+    private volatile String errorMessage;
+    private ObjectName registeredName;
+
+    /**
+     * Default constructor.
+     */
+    public ExportMetrics() {
+        for (Phase phase : Phase.values()) {
+            phases.put( phase, new PhaseMetrics() );
+        }
+    }
+
+    /**
+     * Assigns a descriptive attribute of the export (e.g. the repository name or a configuration setting) that will be
+     * included in the run report.
+     * 
+     * @param name the name of the attribute
+     * @param value the value of the attribute
+     */
+    public synchronized void setAttribute(String name, Object value) {
+        attributes.put( name, String.valueOf( value ) );
+    }
+
+    /**
+     * Registers a gauge whose current value will be published over JMX and included in the run report.
+     * 
+     * @param name the name of the gauge
+     * @param valueSupplier the supplier of the gauge's current value
+     */
+    public synchronized void registerGauge(String name, LongSupplier valueSupplier) {
+        gauges.put( name, valueSupplier );
+    }
+
+    /**
+     * Records the start of the given phase. If the phase is started more than once, its elapsed time is measured from
+     * the first start.
+     * 
+     * @param phase the phase that has started
+     */
+    public void phaseStarted(Phase phase) {
+        phases.get( phase ).start();
+    }
+
+    /**
+     * Records the end of the given phase. If the phase is ended more than once, its elapsed time is measured to the
+     * last end.
+     * 
+     * @param phase the phase that has ended
+     */
+    public void phaseEnded(Phase phase) {
+        phases.get( phase ).end();
+    }
+
+    /**
+     * Records the processing of a single item within the given phase.
+     * 
+     * @param phase the phase in which the item was processed
+     * @param latencyNanos the time required to process the item (in nanoseconds)
+     * @param bytes the number of bytes processed for the item (zero if not applicable)
+     */
+    public void recordItem(Phase phase, long latencyNanos, long bytes) {
+        phases.get( phase ).record( latencyNanos, bytes );
+    }
+
+    /**
+     * Records the retry of a failed remote call within the given phase.
+     * 
+     * @param phase the phase in which the call was retried
+     */
+    public void recordRetry(Phase phase) {
+        phases.get( phase ).retryCount.incrementAndGet();
+    }
+
+    /**
+     * Records the completion of the export.
+     * 
+     * @param error the error that caused the export to fail (null if the export was successful)
+     */
+    public void exportCompleted(Throwable error) {
+        endNanos = System.nanoTime();
+
+        if (error == null) {
+            status = "SUCCESS";
+        } else {
+            status = "FAILED";
+            errorMessage = String.valueOf( error.getMessage() );
+        }
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportMetricsMXBean#getStatus()
+     */
+    @Override
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportMetricsMXBean#getElapsedMillis()
+     */
+    @Override
+    public long getElapsedMillis() {
+        long end = (endNanos == 0) ? System.nanoTime() : endNanos;
+
+        return TimeUnit.NANOSECONDS.toMillis( end - startNanos );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportMetricsMXBean#getPhaseElapsedMillis()
+     */
+    @Override
+    public Map<String, Long> getPhaseElapsedMillis() {
+        Map<String, Long> values = new LinkedHashMap<>();
+
+        phases.forEach( (phase, metrics) -> values.put( phase.name(), metrics.getElapsedMillis() ) );
+        return values;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportMetricsMXBean#getPhaseItemCounts()
+     */
+    @Override
+    public Map<String, Long> getPhaseItemCounts() {
+        Map<String, Long> values = new LinkedHashMap<>();
+
+        phases.forEach( (phase, metrics) -> values.put( phase.name(), metrics.itemCount.get() ) );
+        return values;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportMetricsMXBean#getPhaseBytes()
+     */
+    @Override
+    public Map<String, Long> getPhaseBytes() {
+        Map<String, Long> values = new LinkedHashMap<>();
+
+        phases.forEach( (phase, metrics) -> values.put( phase.name(), metrics.byteCount.get() ) );
+        return values;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportMetricsMXBean#getPhaseRetryCounts()
+     */
+    @Override
+    public Map<String, Long> getPhaseRetryCounts() {
+        Map<String, Long> values = new LinkedHashMap<>();
+
+        phases.forEach( (phase, metrics) -> values.put( phase.name(), metrics.retryCount.get() ) );
+        return values;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportMetricsMXBean#getGauges()
+     */
+    @Override
+    public synchronized Map<String, Long> getGauges() {
+        Map<String, Long> values = new LinkedHashMap<>();
+
+        gauges.forEach( (name, valueSupplier) -> values.put( name, valueSupplier.getAsLong() ) );
+        return values;
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server, replacing the metrics of any previous export.
+     * 
+     * @throws JMException thrown if the metrics cannot be registered
+     */
+    public synchronized void registerMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName( MBEAN_NAME );
+
+        if (server.isRegistered( name )) {
+            server.unregisterMBean( name );
+        }
+        server.registerMBean( this, name );
+        registeredName = name;
+    }
+
+    /**
+     * Unregisters these metrics from the platform MBean server if they were previously registered.
+     */
+    public synchronized void unregisterMBean() {
+        if (registeredName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean( registeredName );
+
+            } catch (JMException e) {
+                // Ignore - the metrics were already unregistered
+            }
+            registeredName = null;
+        }
+    }
+
+    /**
+     * Writes the metrics to the given file as a JSON run report.
+     * 
+     * @param reportFile the file to which the report will be written
+     * @throws IOException thrown if the report cannot be written
+     */
+    public void writeReport(File reportFile) throws IOException {
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        Files.write( reportFile.toPath(), toJson().getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    /**
+     * Returns the metrics as a JSON document.
+     * 
+     * @return String
+     */
+    public synchronized String toJson() {
+        StringBuilder json = new StringBuilder();
+        boolean first = true;
+
+        json.append( "{\n" );
+        json.append( "  \"startTime\": " ).append( quote( startTime.toString() ) ).append( ",\n" );
+        json.append( "  \"status\": " ).append( quote( status ) ).append( ",\n" );
+
+        if (errorMessage != null) {
+            json.append( "  \"error\": " ).append( quote( errorMessage ) ).append( ",\n" );
+        }
+        json.append( "  \"elapsedMillis\": " ).append( getElapsedMillis() ).append( ",\n" );
+        json.append( "  \"attributes\": {" );
+
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            json.append( first ? "\n" : ",\n" ).append( "    " ).append( quote( entry.getKey() ) ).append( ": " )
+                .append( quote( entry.getValue() ) );
+            first = false;
+        }
+        json.append( first ? "},\n" : "\n  },\n" );
+        json.append( "  \"gauges\": {" );
+        first = true;
+
+        for (Map.Entry<String, Long> entry : getGauges().entrySet()) {
+            json.append( first ? "\n" : ",\n" ).append( "    " ).append( quote( entry.getKey() ) ).append( ": " )
+                .append( entry.getValue() );
+            first = false;
+        }
+        json.append( first ? "},\n" : "\n  },\n" );
+        json.append( "  \"phases\": {" );
+        first = true;
+
+        for (Map.Entry<Phase, PhaseMetrics> entry : phases.entrySet()) {
+            json.append( first ? "\n" : ",\n" ).append( "    " ).append( quote( entry.getKey().name() ) )
+                .append( ": " );
+            entry.getValue().appendJson( json, "    " );
+            first = false;
+        }
+        json.append( "\n  }\n}\n" );
+        return json.toString();
+    }
+
+    /**
+     * Returns the given string as a quoted JSON string literal.
+     * 
+     * @param value the string value to quote
+     * @return String
+     */
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder( "\"" );
+
+        for (char ch : value.toCharArray()) {
+            switch (ch) {
+                case '"':
+                    quoted.append( "\\\"" );
+                    break;
+                case '\\':
+                    quoted.append( "\\\\" );
+                    break;
+                case '\n':
+                    quoted.append( "\\n" );
+                    break;
+                case '\r':
+                    quoted.append( "\\r" );
+                    break;
+                case '\t':
+                    quoted.append( "\\t" );
+                    break;
+                default:
+                    if (ch < 0x20) {
+                        quoted.append( String.format( "\\u%04x", (int) ch ) );
+                    } else {
+                        quoted.append( ch );
+                    }
+                    break;
+            }
+        }
+        return quoted.append( '"' ).toString();
+    }
+
+    /**
+     * Timers, counters, and latency histogram for a single phase of the export.
+     */
+    private static class PhaseMetrics {
+
+        /**
+         * Upper bounds (in milliseconds) of the latency histogram buckets. A final bucket collects all latencies that
+         * exceed the largest bound.
+         */
+        private static final long[] BUCKET_BOUNDS =
+            { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000 };
+
+        private AtomicLong firstStartNanos = new AtomicLong();
+        private AtomicLong lastEndNanos = new AtomicLong();
+        private AtomicLong itemCount = new AtomicLong();
+        private AtomicLong byteCount = new AtomicLong();
+        private AtomicLong retryCount = new AtomicLong();
+        private AtomicLong totalLatencyNanos = new AtomicLong();
+        private AtomicLong maxLatencyNanos = new AtomicLong();
+        private AtomicLongArray buckets = new AtomicLongArray( BUCKET_BOUNDS.length + 1 );
+
+        /**
+         * Records the start of the phase.
+         */
+        public void start() {
+            firstStartNanos.compareAndSet( 0, System.nanoTime() );
+        }
+
+        /**
+         * Records the end of the phase.
+         */
+        public void end() {
+            lastEndNanos.set( System.nanoTime() );
+        }
+
+        /**
+         * Records the processing of a single item.
+         * 
+         * @param latencyNanos the time required to process the item (in nanoseconds)
+         * @param bytes the number of bytes processed for the item
+         */
+        public void record(long latencyNanos, long bytes) {
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis( latencyNanos );
+            int bucket = 0;
+
+            while ((bucket < BUCKET_BOUNDS.length) && (latencyMillis > BUCKET_BOUNDS[bucket])) {
+                bucket++;
+            }
+            buckets.incrementAndGet( bucket );
+            itemCount.incrementAndGet();
+            byteCount.addAndGet( bytes );
+            totalLatencyNanos.addAndGet( latencyNanos );
+            maxLatencyNanos.accumulateAndGet( latencyNanos, Math::max );
+        }
+
+        /**
+         * Returns the elapsed time of the phase, or zero if the phase was never started.
+         * 
+         * @return long
+         */
+        public long getElapsedMillis() {
+            long start = firstStartNanos.get();
+            long end = lastEndNanos.get();
+
+            if (start == 0) {
+                return 0;
+            }
+            return TimeUnit.NANOSECONDS.toMillis( ((end < start) ? System.nanoTime() : end) - start );
+        }
+
+        /**
+         * Returns the approximate latency (in milliseconds) below which the given fraction of items were processed,
+         * based on the upper bound of the histogram bucket that contains the percentile.
+         * 
+         * @param fraction the percentile to compute (between 0.0 and 1.0)
+         * @return long
+         */
+        public long getPercentileMillis(double fraction) {
+            long count = itemCount.get();
+            long threshold = (long) Math.ceil( count * fraction );
+            long cumulative = 0;
+
+            for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+                cumulative += buckets.get( i );
+
+                if ((count > 0) && (cumulative >= threshold)) {
+                    return Math.min( BUCKET_BOUNDS[i], TimeUnit.NANOSECONDS.toMillis( maxLatencyNanos.get() ) );
+                }
+            }
+            return (count > 0) ? TimeUnit.NANOSECONDS.toMillis( maxLatencyNanos.get() ) : 0;
+        }
+
+        /**
+         * Appends the metrics of this phase to the given JSON document.
+         * 
+         * @param json the JSON document being constructed
+         * @param indent the indentation of the enclosing JSON object
+         */
+        public void appendJson(StringBuilder json, String indent) {
+            long count = itemCount.get();
+            long avgMicros = (count == 0) ? 0 : TimeUnit.NANOSECONDS.toMicros( totalLatencyNanos.get() / count );
+            String fieldIndent = indent + "  ";
+
+            json.append( "{\n" );
+            json.append( fieldIndent ).append( "\"elapsedMillis\": " ).append( getElapsedMillis() ).append( ",\n" );
+            json.append( fieldIndent ).append( "\"items\": " ).append( count ).append( ",\n" );
+            json.append( fieldIndent ).append( "\"bytes\": " ).append( byteCount.get() ).append( ",\n" );
+            json.append( fieldIndent ).append( "\"retries\": " ).append( retryCount.get() ).append( ",\n" );
+            json.append( fieldIndent ).append( "\"avgLatencyMicros\": " ).append( avgMicros ).append( ",\n" );
+            json.append( fieldIndent ).append( "\"maxLatencyMillis\": " )
+                .append( TimeUnit.NANOSECONDS.toMillis( maxLatencyNanos.get() ) ).append( ",\n" );
+            json.append( fieldIndent ).append( "\"p50LatencyMillis\": " ).append( getPercentileMillis( 0.50 ) )
+                .append( ",\n" );
+            json.append( fieldIndent ).append( "\"p95LatencyMillis\": " ).append( getPercentileMillis( 0.95 ) )
+                .append( ",\n" );
+            json.append( fieldIndent ).append( "\"p99LatencyMillis\": " ).append( getPercentileMillis( 0.99 ) )
+                .append( ",\n" );
+            json.append( fieldIndent ).append( "\"latencyHistogramMillis\": {" );
+
+            for (int i = 0; i <= BUCKET_BOUNDS.length; i++) {
+                String bucketName = (i < BUCKET_BOUNDS.length) ? ("<=" + BUCKET_BOUNDS[i])
+                    : (">" + BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1]);
+
+                json.append( (i == 0) ? " " : ", " ).append( quote( bucketName ) ).append( ": " )
+                    .append( buckets.get( i ) );
+            }
+            json.append( " }\n" ).append( indent ).append( "}" );
+        }
+
+    }
+
+}
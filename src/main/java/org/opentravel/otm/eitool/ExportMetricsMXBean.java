@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.util.Map;
+
+/**
+ * JMX management interface that exposes the metrics of the current (or most recent) repository export.
+ */
+public interface ExportMetricsMXBean {
+
+    /**
+     * Returns the status of the export (<code>RUNNING</code>, <code>SUCCESS</code>, or <code>FAILED</code>).
+     * 
+     * @return String
+     */
+    public String getStatus();
+
+    /**
+     * Returns the total elapsed time of the export in milliseconds.
+     * 
+     * @return long
+     */
+    public long getElapsedMillis();
+
+    /**
+     * Returns the elapsed time of each export phase in milliseconds.
+     * 
+     * @return Map&lt;String,Long&gt;
+     */
+    public Map<String, Long> getPhaseElapsedMillis();
+
+    /**
+     * Returns the number of items that have been processed by each export phase.
+     * 
+     * @return Map&lt;String,Long&gt;
+     */
+    public Map<String, Long> getPhaseItemCounts();
+
+    /**
+     * Returns the number of bytes that have been processed by each export phase.
+     * 
+     * @return Map&lt;String,Long&gt;
+     */
+    public Map<String, Long> getPhaseBytes();
+
+    /**
+     * Returns the number of remote calls that have been retried in each export phase.
+     * 
+     * @return Map&lt;String,Long&gt;
+     */
+    public Map<String, Long> getPhaseRetryCounts();
+
+    /**
+     * Returns the current values of the export's gauges (e.g. the current download concurrency limit).
+     * 
+     * @return Map&lt;String,Long&gt;
+     */
+    public Map<String, Long> getGauges();
+
+}
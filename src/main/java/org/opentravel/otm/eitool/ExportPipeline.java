@@ -0,0 +1,425 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.otm.eitool.DownloadEngine.DownloadFailure;
+import org.opentravel.otm.eitool.ExportMetrics.Phase;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Moves repository items through the download, stage, and index phases of an export concurrently. Each phase is
+ * separated from the next by a bounded queue, so an item is copied to the export folder and added to the Git index as
+ * soon as its download completes, while the remaining items are still being listed and downloaded.
+ */
+public class ExportPipeline {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    private static final StagedItem END_OF_STREAM = new StagedItem( null, null );
+
+    private DownloadEngine engine;
+    private ItemStager stager;
+    private ExportWriter indexWriter;
+    private ProgressMonitor monitor;
+    private ExportMetrics metrics;
+    private DownloadJournal journal;
+    private BlockingQueue<StagedItem> stageQueue;
+    private BlockingQueue<StagedItem> indexQueue;
+    private Thread stageThread;
+    private Thread indexThread;
+    private volatile Exception pipelineError;
+    private volatile Phase pipelineErrorPhase;
+    private volatile boolean exportModified;
+    private int submittedCount;
+    private int downloadedCount;
+    private int stagedCount;
+    private int indexedCount;
+    private int completedCount;
+    private double reportedPercent;
+
+    /**
+     * Constructor that specifies the components that will perform the work of each phase.
+     * 
+     * @param engine the download engine that will retrieve item content from the remote repository
+     * @param stager the stager that will copy downloaded items to the export folder
+     * @param indexWriter the writer that will add staged files to the Git index (or other export destination)
+     * @param queueCapacity the maximum number of items that may be waiting between two phases
+     * @param monitor the progress monitor for the job (may be null)
+     */
+    public ExportPipeline(DownloadEngine engine, ItemStager stager, ExportWriter indexWriter, int queueCapacity,
+        ProgressMonitor monitor) {
+        this.engine = engine;
+        this.stager = stager;
+        this.indexWriter = indexWriter;
+        this.monitor = monitor;
+        this.stageQueue = new ArrayBlockingQueue<>( queueCapacity );
+        this.indexQueue = new ArrayBlockingQueue<>( queueCapacity );
+
+        engine.setMaxPendingItems( queueCapacity );
+        engine.setListener( item -> {
+            if (journal != null) {
+                journal.recordDownload( item );
+            }
+            itemDownloaded( item );
+            stageQueue.put( new StagedItem( item, null ) );
+        } );
+    }
+
+    /**
+     * Assigns the metrics collector that will record the timing of each phase of the pipeline.
+     * 
+     * @param metrics the export metrics to assign (may be null)
+     */
+    public void setMetrics(ExportMetrics metrics) {
+        this.metrics = metrics;
+        engine.setMetrics( metrics );
+    }
+
+    /**
+     * Assigns the journal in which each completed download will be recorded.
+     * 
+     * @param journal the download journal to assign (may be null)
+     */
+    public void setJournal(DownloadJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Starts the download engine and the stage and index threads.
+     */
+    public void start() {
+        stageThread = new NamedThreadFactory( "otm-stage" ).newThread( this::runStagePhase );
+        indexThread = new NamedThreadFactory( "otm-index" ).newThread( this::runIndexPhase );
+        engine.start( null );
+        stageThread.start();
+        indexThread.start();
+    }
+
+    /**
+     * Submits an item to the pipeline. Items whose content does not need to be downloaded or staged again are counted
+     * as complete without passing through the pipeline.
+     * 
+     * @param item the repository item to be exported
+     * @param processingRequired flag indicating whether the item must be downloaded, staged, and indexed
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for queue space
+     */
+    public void submit(RepositoryItem item, boolean processingRequired) throws InterruptedException {
+        synchronized (this) {
+            submittedCount++;
+        }
+        if (processingRequired) {
+            engine.submit( item );
+
+        } else {
+            itemCompleted( item );
+        }
+    }
+
+    /**
+     * Submits an item whose content was already downloaded by a previous run, so that it bypasses the download phase
+     * and is passed directly to the stage phase.
+     * 
+     * @param item the repository item to be exported
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for queue space
+     */
+    public void submitDownloaded(RepositoryItem item) throws InterruptedException {
+        synchronized (this) {
+            submittedCount++;
+        }
+        itemDownloaded( item );
+        stageQueue.put( new StagedItem( item, null ) );
+    }
+
+    /**
+     * Removes the file with the given path from the Git index (or other export destination). The index writer is
+     * updated immediately, even while submitted items are still being indexed, but the removal becomes part of the
+     * export only when the writer is committed by {@link #finish()}. The file must already have been deleted from the
+     * export folder by the caller.
+     * 
+     * @param path the repository-relative path of the file to remove
+     */
+    public void remove(String path) {
+        synchronized (indexWriter) {
+            indexWriter.remove( path );
+            exportModified = true;
+        }
+    }
+
+    /**
+     * Waits for all submitted items to pass through every phase of the pipeline and then commits the Git index.
+     * 
+     * @return boolean true if any file in the export folder was added, modified, or removed
+     * @throws RepositoryException thrown if one or more items could not be downloaded
+     * @throws IOException thrown if an item could not be staged or indexed
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for the pipeline
+     */
+    public boolean finish() throws RepositoryException, IOException, InterruptedException {
+        List<DownloadFailure> failures;
+
+        try {
+            failures = engine.awaitCompletion();
+            stageQueue.put( END_OF_STREAM );
+            stageThread.join();
+            indexThread.join();
+
+        } finally {
+            shutdown();
+        }
+
+        // A pipeline error is reported first since it shuts down the engine, causing downloads in progress to fail
+        if (pipelineError != null) {
+            String action = (pipelineErrorPhase == Phase.INDEXING) ? "indexing" : "staging";
+
+            throw new IOException( "Error " + action + " repository export", pipelineError );
+        }
+        DownloadEngine.checkFailures( failures, submittedCount, monitor );
+        indexWriter.commit();
+        return exportModified;
+    }
+
+    /**
+     * Stops all phases of the pipeline immediately, abandoning any items that have not yet been processed.
+     */
+    public void shutdown() {
+        engine.shutdown();
+
+        if ((stageThread != null) && stageThread.isAlive()) {
+            stageThread.interrupt();
+        }
+        if ((indexThread != null) && indexThread.isAlive()) {
+            indexThread.interrupt();
+        }
+    }
+
+    /**
+     * Records the first error that occurs in the stage or index phase, along with the phase in which it occurred, and
+     * shuts down the download engine so that no further items are downloaded. The stage and index threads keep
+     * draining their queues so that no producer is left waiting for queue space.
+     * 
+     * @param phase the phase in which the error occurred
+     * @param error the error that occurred
+     */
+    private void pipelineFailed(Phase phase, Exception error) {
+        synchronized (this) {
+            if (pipelineError == null) {
+                pipelineErrorPhase = phase;
+                pipelineError = error;
+            }
+        }
+        engine.shutdown();
+    }
+
+    /**
+     * Copies each downloaded item to the export folder and forwards the staged file to the index phase. If an error
+     * occurs, remaining items are drained from the queue so that the download phase is never blocked.
+     */
+    private void runStagePhase() {
+        try {
+            StagedItem entry;
+
+            phaseStarted( Phase.STAGING );
+
+            while ((entry = stageQueue.take()) != END_OF_STREAM) {
+                if (pipelineError == null) {
+                    try {
+                        long startNanos = System.nanoTime();
+                        File stagedFile = stager.stageItem( entry.item );
+
+                        recordItem( Phase.STAGING, startNanos, stagedFile );
+                        itemStaged( entry.item );
+
+                        if (stagedFile != null) {
+                            indexQueue.put( new StagedItem( entry.item, stagedFile ) );
+
+                        } else {
+                            itemCompleted( entry.item );
+                        }
+
+                    } catch (Exception e) {
+                        pipelineFailed( Phase.STAGING, e );
+                    }
+                }
+            }
+            phaseEnded( Phase.STAGING );
+            indexQueue.put( END_OF_STREAM );
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Adds each staged file to the Git index. If an error occurs, remaining items are drained from the queue so that
+     * the stage phase is never blocked.
+     */
+    private void runIndexPhase() {
+        try {
+            StagedItem entry;
+
+            phaseStarted( Phase.INDEXING );
+
+            while ((entry = indexQueue.take()) != END_OF_STREAM) {
+                if (pipelineError == null) {
+                    try {
+                        long startNanos = System.nanoTime();
+
+                        synchronized (indexWriter) {
+                            exportModified |= indexWriter.add( entry.item.getFilename(), entry.stagedFile );
+                        }
+                        recordItem( Phase.INDEXING, startNanos, entry.stagedFile );
+                        itemIndexed( entry.item );
+
+                    } catch (Exception e) {
+                        pipelineFailed( Phase.INDEXING, e );
+                    }
+                }
+            }
+            phaseEnded( Phase.INDEXING );
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records the start of the given phase if metrics are being collected.
+     * 
+     * @param phase the phase that has started
+     */
+    private void phaseStarted(Phase phase) {
+        if (metrics != null) {
+            metrics.phaseStarted( phase );
+        }
+    }
+
+    /**
+     * Records the end of the given phase if metrics are being collected.
+     * 
+     * @param phase the phase that has ended
+     */
+    private void phaseEnded(Phase phase) {
+        if (metrics != null) {
+            metrics.phaseEnded( phase );
+        }
+    }
+
+    /**
+     * Records the latency and size of an item that was processed by the given phase if metrics are being collected.
+     * 
+     * @param phase the phase that processed the item
+     * @param startNanos the time at which processing of the item began
+     * @param file the file that was processed (null if no file was processed)
+     */
+    private void recordItem(Phase phase, long startNanos, File file) {
+        if (metrics != null) {
+            metrics.recordItem( phase, System.nanoTime() - startNanos, (file == null) ? 0 : file.length() );
+        }
+    }
+
+    /**
+     * Records the download of an item and reports progress.
+     * 
+     * @param item the repository item that was downloaded
+     */
+    private synchronized void itemDownloaded(RepositoryItem item) {
+        downloadedCount++;
+        reportProgress( "Downloaded", item );
+    }
+
+    /**
+     * Records the staging of an item and reports progress.
+     * 
+     * @param item the repository item that was staged
+     */
+    private synchronized void itemStaged(RepositoryItem item) {
+        stagedCount++;
+        reportProgress( "Staged", item );
+    }
+
+    /**
+     * Records that an item has been added to the Git index, which completes its passage through the pipeline.
+     * 
+     * @param item the repository item that was indexed
+     */
+    private synchronized void itemIndexed(RepositoryItem item) {
+        indexedCount++;
+        itemCompleted( item );
+    }
+
+    /**
+     * Records that an item has passed through all phases of the pipeline and reports progress.
+     * 
+     * @param item the repository item that was completed
+     */
+    private synchronized void itemCompleted(RepositoryItem item) {
+        completedCount++;
+        reportProgress( "Exported", item );
+    }
+
+    /**
+     * Reports the progress of every phase of the pipeline to the monitor. The percent complete is based on the number
+     * of items that have passed through all phases of the pipeline. Since items are still being submitted while the
+     * repository is listed, that ratio can fall; the highest percentage reported so far is used in that case so that
+     * the progress reported to the monitor never goes backwards.
+     * 
+     * @param action the action that was just performed
+     * @param item the repository item on which the action was performed
+     */
+    private synchronized void reportProgress(String action, RepositoryItem item) {
+        if (monitor != null) {
+            reportedPercent = Math.max( reportedPercent, ((double) completedCount) / ((double) submittedCount) );
+            monitor.progress( reportedPercent,
+                String.format( "%s: %s (downloaded %d, staged %d, indexed %d of %d)", action, item.getFilename(),
+                    downloadedCount, stagedCount, indexedCount, submittedCount ) );
+        }
+    }
+
+    /**
+     * Stages repository items in the export folder.
+     */
+    public interface ItemStager {
+
+        /**
+         * Copies the content of the given item to the export folder and returns the staged file. If the content of the
+         * export folder is already up to date for the item, null is returned.
+         * 
+         * @param item the repository item to stage
+         * @return File
+         * @throws RepositoryException thrown if the local copy of the library file cannot be located
+         * @throws IOException thrown if an error occurrs while copying the file
+         */
+        public File stageItem(RepositoryItem item) throws RepositoryException, IOException;
+
+    }
+
+    /**
+     * Queue entry for an item that is moving through the pipeline.
+     */
+    private static class StagedItem {
+
+        private RepositoryItem item;
+        private File stagedFile;
+
+        /**
+         * Constructor that specifies the item and the file (if any) where it has been staged.
+         * 
+         * @param item the repository item
+         * @param stagedFile the staged file in the export folder (null if not yet staged)
+         */
+        public StagedItem(RepositoryItem item, File stagedFile) {
+            this.item = item;
+            this.stagedFile = stagedFile;
+        }
+
+    }
+
+}
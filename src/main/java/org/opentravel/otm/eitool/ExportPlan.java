@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes the work that an export would perform, as determined by a dry run that lists the repository items
+ * without downloading any content, copying any files, or accessing GitHub.
+ */
+public class ExportPlan {
+
+    private int itemCount;
+    private int cachedItemCount;
+    private int unchangedItemCount;
+    private long estimatedBytes;
+    private int unsizedItemCount;
+    private long listingMillis;
+    private long estimatedMillis = -1;
+
+    /**
+     * Records a repository item that would be included in the export.
+     * 
+     * @param cached flag indicating whether the item's content is already cached in the local repository
+     * @param unchanged flag indicating whether the item is unchanged since the last incremental export
+     * @param estimatedSize the estimated size of the item in bytes (negative if unknown)
+     */
+    void addItem(boolean cached, boolean unchanged, long estimatedSize) {
+        itemCount++;
+
+        if (cached) {
+            cachedItemCount++;
+        }
+        if (unchanged) {
+            unchangedItemCount++;
+        }
+        if (estimatedSize < 0) {
+            unsizedItemCount++;
+        } else {
+            estimatedBytes += estimatedSize;
+        }
+    }
+
+    /**
+     * Assigns the time that was required to list the repository items.
+     * 
+     * @param listingMillis the listing time (in milliseconds)
+     */
+    void setListingMillis(long listingMillis) {
+        this.listingMillis = listingMillis;
+    }
+
+    /**
+     * Assigns the estimated duration of the export.
+     * 
+     * @param estimatedMillis the estimated duration (in milliseconds), or -1 if no estimate is available
+     */
+    void setEstimatedMillis(long estimatedMillis) {
+        this.estimatedMillis = estimatedMillis;
+    }
+
+    /**
+     * Returns the number of repository items that would be included in the export.
+     * 
+     * @return int
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Returns the number of items whose content is already cached in the local repository.
+     * 
+     * @return int
+     */
+    public int getCachedItemCount() {
+        return cachedItemCount;
+    }
+
+    /**
+     * Returns the number of items that are unchanged since the last incremental export and would be skipped.
+     * 
+     * @return int
+     */
+    public int getUnchangedItemCount() {
+        return unchangedItemCount;
+    }
+
+    /**
+     * Returns the number of items whose content would be downloaded from the OTM repository.
+     * 
+     * @return int
+     */
+    public int getDownloadItemCount() {
+        return itemCount - unchangedItemCount;
+    }
+
+    /**
+     * Returns the estimated total size (in bytes) of the items whose size is known.
+     * 
+     * @return long
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns the number of items whose size could not be estimated because they have never been downloaded.
+     * 
+     * @return int
+     */
+    public int getUnsizedItemCount() {
+        return unsizedItemCount;
+    }
+
+    /**
+     * Returns the time (in milliseconds) that was required to list the repository items.
+     * 
+     * @return long
+     */
+    public long getListingMillis() {
+        return listingMillis;
+    }
+
+    /**
+     * Returns the estimated duration (in milliseconds) of the export, or -1 if no earlier export has been run on this
+     * system from which the duration could be estimated.
+     * 
+     * @return long
+     */
+    public long getEstimatedMillis() {
+        return estimatedMillis;
+    }
+
+    /**
+     * Returns a human-readable summary of the plan.
+     * 
+     * @return String
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+
+        summary.append( String.format( "Libraries to export:   %d%n", itemCount ) );
+        summary.append( String.format( "Cached locally:        %d%n", cachedItemCount ) );
+        summary.append( String.format( "Unchanged (skipped):   %d%n", unchangedItemCount ) );
+        summary.append( String.format( "Libraries to download: %d%n", getDownloadItemCount() ) );
+        summary.append( String.format( "Estimated size:        %,d bytes", estimatedBytes ) );
+
+        if (unsizedItemCount > 0) {
+            summary.append( String.format( " (plus %d libraries of unknown size)", unsizedItemCount ) );
+        }
+        summary.append( String.format( "%nListing time:          %s%n", formatDuration( listingMillis ) ) );
+        summary.append( String.format( "Estimated duration:    %s", (estimatedMillis < 0)
+            ? "unknown (no previous export on this system)" : formatDuration( estimatedMillis ) ) );
+        return summary.toString();
+    }
+
+    /**
+     * Returns the given duration formatted as hours, minutes, and seconds.
+     * 
+     * @param millis the duration to format (in milliseconds)
+     * @return String
+     */
+    private static String formatDuration(long millis) {
+        long seconds = TimeUnit.MILLISECONDS.toSeconds( millis + 500 );
+
+        return String.format( "%d:%02d:%02d", seconds / 3600, (seconds / 60) % 60, seconds % 60 );
+    }
+
+}
@@ -0,0 +1,20 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+/**
+ * Destination of a repository export. Sinks either receive the export as a Git commit that is pushed to a remote
+ * repository ({@link GitExportSink}) or receive the exported files directly ({@link FileExportSink}).
+ */
+public interface ExportSink {
+
+    /**
+     * Returns a short description of the destination for progress messages and run reports.
+     * 
+     * @return String
+     */
+    public String getDescription();
+
+}
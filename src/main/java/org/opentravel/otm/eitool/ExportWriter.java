@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives the files of an export from the index phase of the export pipeline. All methods except {@link #remove}
+ * are called from a single thread, and the files that were added or removed become part of the export only when the
+ * writer is committed. A writer that is closed without being committed discards (or leaves incomplete) the export.
+ */
+public interface ExportWriter extends AutoCloseable {
+
+    /**
+     * Returns true if the destination contained the given path from a previous export when this writer was created.
+     * 
+     * @param path the export-relative path of the file
+     * @return boolean
+     */
+    public boolean contains(String path);
+
+    /**
+     * Returns the paths of all files that the destination contained from a previous export when this writer was
+     * created.
+     * 
+     * @return List&lt;String&gt;
+     */
+    public List<String> getPaths();
+
+    /**
+     * Adds (or replaces) the file with the given path. If the destination already contains identical content for the
+     * path, false is returned.
+     * 
+     * @param path the export-relative path of the file
+     * @param file the file whose content is to be added
+     * @return boolean true if the content of the path was added or changed
+     * @throws IOException thrown if the file cannot be read or written
+     */
+    public boolean add(String path, File file) throws IOException;
+
+    /**
+     * Removes the file with the given path from the export.
+     * 
+     * @param path the export-relative path of the file to remove
+     */
+    public void remove(String path);
+
+    /**
+     * Completes the export after all files have been added or removed.
+     * 
+     * @throws IOException thrown if the export cannot be completed
+     */
+    public void commit() throws IOException;
+
+    /**
+     * Returns a summary of the work performed by the writer to be reported once the export has been committed, or
+     * null if there is nothing to report. The default implementation returns null.
+     * 
+     * @return String
+     */
+    public default String getSummary() {
+        return null;
+    }
+
+    /**
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() throws IOException;
+
+}
@@ -0,0 +1,23 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.io.IOException;
+
+/**
+ * Export sink that receives the exported files directly from the export pipeline. No Git repository is created, so
+ * the files are written to the destination as soon as they are available.
+ */
+public interface FileExportSink extends ExportSink {
+
+    /**
+     * Opens a writer that will receive the files of a new export.
+     * 
+     * @return ExportWriter
+     * @throws IOException thrown if the destination cannot be opened
+     */
+    public ExportWriter openWriter() throws IOException;
+
+}
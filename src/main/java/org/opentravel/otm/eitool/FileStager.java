@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stages library files from the local repository into the export folder using the configured staging strategy. Hard
+ * links avoid copying any data when the local repository and the export folder reside on the same file system, and
+ * zero-copy transfers avoid streaming file content through heap buffers when they do not.
+ */
+public class FileStager {
+
+    /**
+     * Enumeration of the strategies that may be used to stage a file in the export folder.
+     */
+    public enum StagingStrategy {
+
+        /** Use hard links when possible, falling back to zero-copy transfers. */
+        AUTO,
+
+        /** Copy files through heap buffers. */
+        COPY,
+
+        /** Copy files using <code>FileChannel.transferTo()</code>, allowing the OS to avoid user-space buffers. */
+        ZERO_COPY,
+
+        /** Create a hard link to the file in the local repository instead of copying it. */
+        HARD_LINK
+
+    }
+
+    private volatile StagingStrategy effectiveStrategy;
+    private volatile boolean linkFailed;
+    private AtomicLong stagedFileCount = new AtomicLong();
+    private AtomicLong stagedBytes = new AtomicLong();
+    private AtomicLong linkedBytes = new AtomicLong();
+    private AtomicLong transferredBytes = new AtomicLong();
+
+    /**
+     * Constructor that specifies the staging strategy and the folders between which files will be staged.
+     * 
+     * @param strategy the staging strategy to use
+     * @param repositoryFolder the root folder of the local repository from which files will be staged
+     * @param exportFolder the export folder where files will be staged
+     */
+    public FileStager(StagingStrategy strategy, File repositoryFolder, File exportFolder) {
+        this.effectiveStrategy = (strategy == null) ? StagingStrategy.AUTO : strategy;
+
+        if (this.effectiveStrategy == StagingStrategy.AUTO) {
+            this.effectiveStrategy = StagingStrategy.ZERO_COPY;
+
+            try {
+                Path repositoryPath = repositoryFolder.toPath();
+
+                if (Files.getFileStore( repositoryPath ).equals( Files.getFileStore( exportFolder.toPath() ) )) {
+                    this.effectiveStrategy = StagingStrategy.HARD_LINK;
+                }
+
+            } catch (IOException e) {
+                // Ignore and use zero-copy transfers
+            }
+        }
+    }
+
+    /**
+     * Stages the source file at the destination location, replacing any existing file. An existing destination file is
+     * always deleted before it is replaced, since it may be a hard link to a library file in the local repository that
+     * was created by an earlier export; writing into it would overwrite the library file itself.
+     * 
+     * @param sourceFile the library file in the local repository
+     * @param destFile the destination file in the export folder
+     * @throws IOException thrown if the file cannot be staged
+     */
+    public void stage(File sourceFile, File destFile) throws IOException {
+        long fileSize = sourceFile.length();
+
+        Files.deleteIfExists( destFile.toPath() );
+
+        switch (effectiveStrategy) {
+            case HARD_LINK:
+                if (!createLink( sourceFile, destFile )) {
+                    transferFile( sourceFile, destFile );
+                }
+                break;
+            case ZERO_COPY:
+                transferFile( sourceFile, destFile );
+                break;
+            default:
+                FileUtils.copyFile( sourceFile, destFile );
+                break;
+        }
+        stagedFileCount.incrementAndGet();
+        stagedBytes.addAndGet( fileSize );
+    }
+
+    /**
+     * Returns the strategy that is actually being used to stage files. This may differ from the requested strategy if
+     * the requested strategy was <code>AUTO</code> or if hard links are not supported by the file system.
+     * 
+     * @return StagingStrategy
+     */
+    public StagingStrategy getEffectiveStrategy() {
+        return effectiveStrategy;
+    }
+
+    /**
+     * Returns true if a hard link could not be created in the export folder, causing all subsequent files to be staged
+     * using zero-copy transfers.
+     * 
+     * @return boolean
+     */
+    public boolean isLinkFailed() {
+        return linkFailed;
+    }
+
+    /**
+     * Returns the total number of bytes that were staged by creating hard links, which required no data to be copied.
+     * 
+     * @return long
+     */
+    public long getBytesLinked() {
+        return linkedBytes.get();
+    }
+
+    /**
+     * Returns the total number of bytes that were copied using zero-copy transfers. These bytes were still copied, but
+     * without passing through heap buffers.
+     * 
+     * @return long
+     */
+    public long getBytesTransferred() {
+        return transferredBytes.get();
+    }
+
+    /**
+     * Returns a summary of the staging strategy and the number of bytes that were hard-linked or transferred.
+     * 
+     * @return String
+     */
+    public String getSummary() {
+        return String.format( "Staged %d files (%d bytes) using %s: %d bytes hard-linked, %d bytes zero-copy",
+            stagedFileCount.get(), stagedBytes.get(), effectiveStrategy, linkedBytes.get(), transferredBytes.get() );
+    }
+
+    /**
+     * Creates a hard link to the source file at the destination location. If the link cannot be created, false is
+     * returned and all subsequent files will be staged using zero-copy transfers.
+     * 
+     * @param sourceFile the library file in the local repository
+     * @param destFile the destination file in the export folder
+     * @return boolean
+     */
+    private boolean createLink(File sourceFile, File destFile) {
+        boolean success = false;
+
+        try {
+            Files.createLink( destFile.toPath(), sourceFile.toPath() );
+            linkedBytes.addAndGet( sourceFile.length() );
+            success = true;
+
+        } catch (UnsupportedOperationException | IOException e) {
+            linkFailed = true;
+            effectiveStrategy = StagingStrategy.ZERO_COPY;
+        }
+        return success;
+    }
+
+    /**
+     * Copies the source file to the destination location using <code>FileChannel.transferTo()</code>.
+     * 
+     * @param sourceFile the library file in the local repository
+     * @param destFile the destination file in the export folder
+     * @throws IOException thrown if the file cannot be copied
+     */
+    private void transferFile(File sourceFile, File destFile) throws IOException {
+        destFile.getParentFile().mkdirs();
+
+        try (FileChannel in = FileChannel.open( sourceFile.toPath(), StandardOpenOption.READ );
+            FileChannel out = FileChannel.open( destFile.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE_NEW )) {
+            long size = in.size();
+            long position = 0;
+
+            while (position < size) {
+                position += in.transferTo( position, size - position, out );
+            }
+            transferredBytes.addAndGet( size );
+        }
+        destFile.setLastModified( sourceFile.lastModified() );
+    }
+
+}
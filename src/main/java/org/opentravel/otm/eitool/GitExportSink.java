@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.eclipse.jgit.transport.CredentialsProvider;
+
+import java.io.IOException;
+
+/**
+ * Export sink that receives the export as a commit that is pushed to a remote Git repository. The commit is assembled
+ * in the export folder, and only the differences from the previous export are transferred.
+ */
+public interface GitExportSink extends ExportSink {
+
+    /**
+     * Returns the URL of the Git remote to which the export is pushed.
+     * 
+     * @return String
+     */
+    public String getRemoteUrl();
+
+    /**
+     * Returns the name of the default branch of the remote repository, or null if the remote repository does not
+     * exist.
+     * 
+     * @param cancellationToken the token that may be used to cancel the request
+     * @return String
+     * @throws IOException thrown if the remote repository cannot be accessed
+     */
+    public String getDefaultBranch(CancellationToken cancellationToken) throws IOException;
+
+    /**
+     * Creates the remote repository and returns its URL. If the remote repository already exists, an exception will
+     * be thrown.
+     * 
+     * @param cancellationToken the token that may be used to cancel the request
+     * @return String
+     * @throws IOException thrown if the remote repository already exists or cannot be created
+     */
+    public String createRemote(CancellationToken cancellationToken) throws IOException;
+
+    /**
+     * Returns the credentials to use when fetching from or pushing to the remote repository, or null if no credentials
+     * are required.
+     * 
+     * @return CredentialsProvider
+     */
+    public CredentialsProvider getCredentialsProvider();
+
+}
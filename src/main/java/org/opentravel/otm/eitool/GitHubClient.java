@@ -0,0 +1,450 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * Client for the GitHub REST API calls required by the exporter. A single client is intended to be shared by all
+ * exports in the same session so that its connection pool, TLS sessions, and dispatcher are reused. The client also
+ * honors the GitHub rate limit headers, pausing further requests when the rate limit has been exhausted.
+ */
+public class GitHubClient {
+
+    public static final String GITHUB_API_URL = "https://api.github.com";
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds( 10 );
+    public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds( 30 );
+    public static final Duration DEFAULT_CALL_TIMEOUT = Duration.ofSeconds( 60 );
+
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.parse( "application/json" );
+    private static final Pattern DEFAULT_BRANCH_PATTERN = Pattern.compile( "\"default_branch\"\\s*:\\s*\"([^\"]+)\"" );
+    private static final int MAX_IDLE_CONNECTIONS = 5;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+    private static final int MAX_RATE_LIMIT_RETRIES = 3;
+    private static final long MAX_RATE_LIMIT_WAIT_MILLIS = TimeUnit.MINUTES.toMillis( 15 );
+    private static final long INITIAL_RATE_LIMIT_BACKOFF_MILLIS = 1000;
+    private static final long CANCEL_POLL_MILLIS = 250;
+
+    private static GitHubClient defaultInstance;
+    private static Map<String, GitHubClient> sharedInstances = new ConcurrentHashMap<>();
+
+    private String apiUrl;
+    private OkHttpClient httpClient;
+    private volatile long rateLimitResetMillis;
+
+    /**
+     * Constructor that creates a client with the default timeout settings.
+     */
+    public GitHubClient() {
+        this( DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, DEFAULT_CALL_TIMEOUT );
+    }
+
+    /**
+     * Constructor that specifies the timeout settings for the client.
+     * 
+     * @param connectTimeout the maximum time allowed to establish a connection
+     * @param readTimeout the maximum time allowed between reads of response data
+     * @param callTimeout the maximum time allowed for each HTTP request (not including rate limit delays)
+     */
+    public GitHubClient(Duration connectTimeout, Duration readTimeout, Duration callTimeout) {
+        this( GITHUB_API_URL, connectTimeout, readTimeout, callTimeout );
+    }
+
+    /**
+     * Constructor that specifies the base URL of a GitHub-compatible REST API and the default timeout settings.
+     * 
+     * @param apiUrl the base URL of the REST API (e.g. <code>https://api.github.com</code>)
+     */
+    public GitHubClient(String apiUrl) {
+        this( apiUrl, DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, DEFAULT_CALL_TIMEOUT );
+    }
+
+    /**
+     * Constructor that specifies the base URL of a GitHub-compatible REST API and the timeout settings for the client.
+     * 
+     * @param apiUrl the base URL of the REST API (e.g. <code>https://api.github.com</code>)
+     * @param connectTimeout the maximum time allowed to establish a connection
+     * @param readTimeout the maximum time allowed between reads of response data
+     * @param callTimeout the maximum time allowed for each HTTP request (not including rate limit delays)
+     */
+    public GitHubClient(String apiUrl, Duration connectTimeout, Duration readTimeout, Duration callTimeout) {
+        this.apiUrl = validateApiUrl( apiUrl );
+        this.httpClient = new OkHttpClient.Builder()
+            .connectionPool( new ConnectionPool( MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES ) )
+            .protocols( Arrays.asList( Protocol.HTTP_2, Protocol.HTTP_1_1 ) ).connectTimeout( connectTimeout )
+            .readTimeout( readTimeout ).writeTimeout( readTimeout ).callTimeout( callTimeout ).build();
+    }
+
+    /**
+     * Returns the shared client instance for the current session.
+     * 
+     * @return GitHubClient
+     */
+    public static synchronized GitHubClient getDefault() {
+        if (defaultInstance == null) {
+            defaultInstance = new GitHubClient();
+        }
+        return defaultInstance;
+    }
+
+    /**
+     * Returns the shared client instance for the REST API at the given base URL, creating it with the default timeout
+     * settings if necessary. The default instance is returned for the public GitHub API, so every exporter that
+     * accesses the same API shares one connection pool and dispatcher.
+     * 
+     * @param apiUrl the base URL of the REST API (e.g. <code>https://api.github.com</code>)
+     * @return GitHubClient
+     * @throws IllegalArgumentException thrown if the URL is not a valid HTTP or HTTPS URL
+     */
+    public static GitHubClient getInstance(String apiUrl) {
+        String url = validateApiUrl( apiUrl );
+
+        return GITHUB_API_URL.equals( url ) ? getDefault()
+            : sharedInstances.computeIfAbsent( url, GitHubClient::new );
+    }
+
+    /**
+     * Returns the base URL of the REST API that is accessed by this client.
+     * 
+     * @return String
+     */
+    public String getApiUrl() {
+        return apiUrl;
+    }
+
+    /**
+     * Returns the name of the default branch of the specified GitHub repository, or null if the repository does not
+     * exist.
+     * 
+     * @param ownerName the name of the user or organization that owns the repository
+     * @param repositoryName the name of the repository
+     * @param accessToken the access token to use for authentication
+     * @return String
+     * @throws IOException thrown if an error occurrs while accessing GitHub
+     */
+    public String getDefaultBranch(String ownerName, String repositoryName, String accessToken) throws IOException {
+        return getDefaultBranch( ownerName, repositoryName, accessToken, null );
+    }
+
+    /**
+     * Returns the name of the default branch of the specified GitHub repository, or null if the repository does not
+     * exist. The API call is aborted if cancellation is requested while it is in progress.
+     * 
+     * @param ownerName the name of the user or organization that owns the repository
+     * @param repositoryName the name of the repository
+     * @param accessToken the access token to use for authentication
+     * @param cancellation the token that may be used to cancel the API call (may be null)
+     * @return String
+     * @throws IOException thrown if an error occurrs while accessing GitHub or the call is cancelled
+     */
+    public String getDefaultBranch(String ownerName, String repositoryName, String accessToken,
+        CancellationToken cancellation) throws IOException {
+        String repoCheckUrl = apiUrl + "/repos/" + ownerName + "/" + repositoryName;
+        Request checkRequest = newRequest( repoCheckUrl, accessToken ).get().build();
+
+        try (Response checkResponse = execute( checkRequest, cancellation )) {
+            if (checkResponse.isSuccessful()) {
+                Matcher matcher = DEFAULT_BRANCH_PATTERN.matcher( checkResponse.body().string() );
+
+                return matcher.find() ? matcher.group( 1 ) : "master";
+
+            } else if (checkResponse.code() == 404) {
+                return null;
+
+            } else {
+                throw new IOException(
+                    "Error checking repository existence: " + checkResponse.code() + " - " + checkResponse.message() );
+            }
+        }
+    }
+
+    /**
+     * Creates a new public GitHub repository. If a repository of the same name already exists, an exception will be
+     * thrown.
+     * 
+     * @param ownerName the name of the user or organization that will own the repository
+     * @param ownerIsOrganization flag indicating whether the owner is an organization or a user
+     * @param repositoryName the name of the repository to create
+     * @param accessToken the access token to use for authentication
+     * @throws IOException thrown if the repository already exists or an error occurrs while accessing GitHub
+     */
+    public void createRepository(String ownerName, boolean ownerIsOrganization, String repositoryName,
+        String accessToken) throws IOException {
+        createRepository( ownerName, ownerIsOrganization, repositoryName, accessToken, null );
+    }
+
+    /**
+     * Creates a new public GitHub repository. If a repository of the same name already exists, an exception will be
+     * thrown. The API calls are aborted if cancellation is requested while they are in progress.
+     * 
+     * @param ownerName the name of the user or organization that will own the repository
+     * @param ownerIsOrganization flag indicating whether the owner is an organization or a user
+     * @param repositoryName the name of the repository to create
+     * @param accessToken the access token to use for authentication
+     * @param cancellation the token that may be used to cancel the API calls (may be null)
+     * @throws IOException thrown if the repository already exists, an error occurrs while accessing GitHub, or the
+     *         calls are cancelled
+     */
+    public void createRepository(String ownerName, boolean ownerIsOrganization, String repositoryName,
+        String accessToken, CancellationToken cancellation) throws IOException {
+        String baseRepoUrl =
+            ownerIsOrganization ? apiUrl + "/orgs/" + ownerName + "/repos" : apiUrl + "/user/repos";
+
+        // Step 1: Check if the repository already exists
+        if (getDefaultBranch( ownerName, repositoryName, accessToken, cancellation ) != null) {
+            throw new IOException( "Repository already exists: " + repositoryName );
+        }
+
+        // Step 2: Create the repository if it doesn't exist
+        String requestBody = "{\"name\":\"" + repositoryName + "\",\"private\":false}";
+        Request createRequest =
+            newRequest( baseRepoUrl, accessToken ).post( RequestBody.create( requestBody, JSON_MEDIA_TYPE ) ).build();
+
+        try (Response createResponse = execute( createRequest, cancellation )) {
+            if (createResponse.code() == 422) { // Unprocessable Entity, repository name conflict
+                throw new IOException( "Repository conflicts with an existing repository: " + repositoryName );
+
+            } else if (!createResponse.isSuccessful()) {
+                throw new IOException(
+                    "Error creating repository: " + createResponse.code() + " - " + createResponse.message() );
+            }
+        }
+    }
+
+    /**
+     * Returns the given API URL without any trailing slash.
+     * 
+     * @param apiUrl the base URL of the REST API
+     * @return String
+     * @throws IllegalArgumentException thrown if the URL is not a valid HTTP or HTTPS URL
+     */
+    private static String validateApiUrl(String apiUrl) {
+        String url = (apiUrl == null) ? "" : apiUrl.trim();
+
+        while (url.endsWith( "/" )) {
+            url = url.substring( 0, url.length() - 1 );
+        }
+        try {
+            URI uri = new URI( url );
+
+            if (!("http".equalsIgnoreCase( uri.getScheme() ) || "https".equalsIgnoreCase( uri.getScheme() ))
+                || (uri.getHost() == null)) {
+                throw new IllegalArgumentException( "Invalid GitHub API URL: " + apiUrl );
+            }
+            return url;
+
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException( "Invalid GitHub API URL: " + apiUrl, e );
+        }
+    }
+
+    /**
+     * Executes the given request, cancelling the HTTP call if cancellation is requested before it completes. Requests
+     * are delayed while the GitHub rate limit is exhausted, and requests that are rejected because of a rate limit are
+     * retried once the indicated delay has elapsed. If the rejected response indicates no delay, the request is
+     * retried with jittered exponential backoff instead, so that retries are not sent back-to-back. Delays are spent
+     * between HTTP calls, so they do not count against the call timeout of the client, and each delay is limited to
+     * <code>MAX_RATE_LIMIT_WAIT_MILLIS</code>.
+     * 
+     * @param request the request to execute
+     * @param cancellation the token that may be used to cancel the call (may be null)
+     * @return Response
+     * @throws IOException thrown if the call fails or is cancelled
+     */
+    private Response execute(Request request, CancellationToken cancellation) throws IOException {
+        Response response = null;
+        long backoffMillis = INITIAL_RATE_LIMIT_BACKOFF_MILLIS;
+        int attempt = 0;
+
+        while (response == null) {
+            awaitRateLimitReset( cancellation );
+            response = executeCall( request, cancellation );
+            updateRateLimit( response );
+
+            if (isRateLimited( response ) && (attempt++ < MAX_RATE_LIMIT_RETRIES)) {
+                long retryAfterMillis = getRetryAfterMillis( response );
+
+                response.close();
+                response = null;
+
+                if (retryAfterMillis > 0) {
+                    rateLimitResetMillis = Math.max( rateLimitResetMillis,
+                        System.currentTimeMillis() + retryAfterMillis );
+
+                } else if (rateLimitResetMillis <= System.currentTimeMillis()) {
+                    awaitRetry( System.currentTimeMillis() + withJitter( backoffMillis ), cancellation );
+                    backoffMillis *= 2;
+                }
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Executes a single HTTP call for the given request, cancelling the call if cancellation is requested before it
+     * completes.
+     * 
+     * @param request the request to execute
+     * @param cancellation the token that may be used to cancel the call (may be null)
+     * @return Response
+     * @throws IOException thrown if the call fails or is cancelled
+     */
+    private Response executeCall(Request request, CancellationToken cancellation) throws IOException {
+        Call call = httpClient.newCall( request );
+        Runnable cancelListener = call::cancel;
+
+        if (cancellation != null) {
+            cancellation.addListener( cancelListener );
+        }
+        try {
+            return call.execute();
+
+        } finally {
+            if (cancellation != null) {
+                cancellation.removeListener( cancelListener );
+            }
+        }
+    }
+
+    /**
+     * Blocks the calling thread until the current rate limit window has been reset (or for at most
+     * <code>MAX_RATE_LIMIT_WAIT_MILLIS</code>), or until the call is cancelled.
+     * 
+     * @param cancellation the token that may be used to cancel the call (may be null)
+     * @throws InterruptedIOException thrown if the calling thread is interrupted or the call is cancelled while
+     *         waiting
+     */
+    private void awaitRateLimitReset(CancellationToken cancellation) throws InterruptedIOException {
+        awaitRetry( rateLimitResetMillis, cancellation );
+    }
+
+    /**
+     * Blocks the calling thread until the given time (or for at most <code>MAX_RATE_LIMIT_WAIT_MILLIS</code>), or until
+     * the call is cancelled.
+     * 
+     * @param retryMillis the time (in milliseconds since the epoch) at which the call may be made
+     * @param cancellation the token that may be used to cancel the call (may be null)
+     * @throws InterruptedIOException thrown if the calling thread is interrupted or the call is cancelled while
+     *         waiting
+     */
+    private static void awaitRetry(long retryMillis, CancellationToken cancellation) throws InterruptedIOException {
+        long waitUntil = Math.min( retryMillis, System.currentTimeMillis() + MAX_RATE_LIMIT_WAIT_MILLIS );
+        long waitMillis;
+
+        while ((waitMillis = waitUntil - System.currentTimeMillis()) > 0) {
+            if ((cancellation != null) && cancellation.isCancelled()) {
+                throw new InterruptedIOException( "Canceled while waiting for GitHub rate limit" );
+            }
+            try {
+                Thread.sleep( Math.min( waitMillis, CANCEL_POLL_MILLIS ) );
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException( "Interrupted while waiting for GitHub rate limit" );
+            }
+        }
+    }
+
+    /**
+     * Records the rate limit reset time if the response indicates that no requests remain in the current window.
+     * 
+     * @param response the API response to check
+     */
+    private void updateRateLimit(Response response) {
+        String remaining = response.header( "X-RateLimit-Remaining" );
+        String reset = response.header( "X-RateLimit-Reset" );
+
+        if ("0".equals( remaining ) && (reset != null)) {
+            try {
+                rateLimitResetMillis = Math.max( rateLimitResetMillis, Long.parseLong( reset ) * 1000L );
+
+            } catch (NumberFormatException e) {
+                // Ignore and continue without throttling
+            }
+        }
+    }
+
+    /**
+     * Returns true if the response indicates that the request was rejected because of a rate limit. A 429 response
+     * always indicates a rate limit, while a 403 response does so only if it carries a rate limit header.
+     * 
+     * @param response the API response to check
+     * @return boolean
+     */
+    private static boolean isRateLimited(Response response) {
+        boolean throttled = (response.header( "Retry-After" ) != null)
+            || "0".equals( response.header( "X-RateLimit-Remaining" ) );
+
+        return (response.code() == 429) || ((response.code() == 403) && throttled);
+    }
+
+    /**
+     * Returns the given backoff delay with a random jitter applied. The result is between one half and all of the
+     * given delay.
+     * 
+     * @param backoffMillis the backoff delay (in milliseconds)
+     * @return long
+     */
+    private static long withJitter(long backoffMillis) {
+        long halfDelay = backoffMillis / 2;
+
+        return halfDelay + ThreadLocalRandom.current().nextLong( backoffMillis - halfDelay + 1 );
+    }
+
+    /**
+     * Returns the delay indicated by the <code>Retry-After</code> header of the response, or zero if the header is not
+     * present.
+     * 
+     * @param response the API response to check
+     * @return long
+     */
+    private static long getRetryAfterMillis(Response response) {
+        String retryAfter = response.header( "Retry-After" );
+        long retryAfterMillis = 0;
+
+        if (retryAfter != null) {
+            try {
+                retryAfterMillis = TimeUnit.SECONDS.toMillis( Long.parseLong( retryAfter.trim() ) );
+
+            } catch (NumberFormatException e) {
+                // Ignore and rely on the rate limit reset time
+            }
+        }
+        return retryAfterMillis;
+    }
+
+    /**
+     * Returns a new request builder for the given URL with the standard GitHub API headers.
+     * 
+     * @param url the URL of the API call
+     * @param accessToken the access token to use for authentication
+     * @return Request.Builder
+     */
+    private Request.Builder newRequest(String url, String accessToken) {
+        return new Request.Builder().url( url ).header( "Authorization", "Bearer " + accessToken )
+            .header( "Accept", "application/vnd.github+json" );
+    }
+
+}
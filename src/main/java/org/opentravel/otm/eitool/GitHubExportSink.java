@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+
+import java.io.IOException;
+
+/**
+ * Export sink that pushes the export to a GitHub repository, which is created using the GitHub REST API if it does
+ * not already exist.
+ */
+public class GitHubExportSink implements GitExportSink {
+
+    private GitHubClient gitHubClient;
+    private String ownerName;
+    private boolean ownerIsOrganization;
+    private String repositoryName;
+    private String accessToken;
+    private String remoteUrl;
+
+    /**
+     * Constructor that specifies the GitHub service and the identifying information of the export repository.
+     * 
+     * @param gitHubClient the client for the GitHub REST API
+     * @param ownerName the name of the user or organization that owns the export repository
+     * @param ownerIsOrganization flag indicating whether the owner is an organization or a user
+     * @param repositoryName the name of the export repository
+     * @param accessToken the access token to use when creating and pushing to the repository
+     * @param remoteUrlTemplate the template of the Git remote URL, with <code>{owner}</code> and <code>{repo}</code>
+     *        placeholders
+     */
+    public GitHubExportSink(GitHubClient gitHubClient, String ownerName, boolean ownerIsOrganization,
+        String repositoryName, String accessToken, String remoteUrlTemplate) {
+        this.gitHubClient = gitHubClient;
+        this.ownerName = ownerName;
+        this.ownerIsOrganization = ownerIsOrganization;
+        this.repositoryName = repositoryName;
+        this.accessToken = accessToken;
+        this.remoteUrl = remoteUrlTemplate.replace( "{owner}", ownerName ).replace( "{repo}", repositoryName );
+    }
+
+    /**
+     * Returns the client for the GitHub REST API.
+     * 
+     * @return GitHubClient
+     */
+    public GitHubClient getGitHubClient() {
+        return gitHubClient;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportSink#getDescription()
+     */
+    @Override
+    public String getDescription() {
+        return "GitHub repository " + remoteUrl;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.GitExportSink#getRemoteUrl()
+     */
+    @Override
+    public String getRemoteUrl() {
+        return remoteUrl;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.GitExportSink#getDefaultBranch(org.opentravel.otm.eitool.CancellationToken)
+     */
+    @Override
+    public String getDefaultBranch(CancellationToken cancellationToken) throws IOException {
+        return gitHubClient.getDefaultBranch( ownerName, repositoryName, accessToken, cancellationToken );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.GitExportSink#createRemote(org.opentravel.otm.eitool.CancellationToken)
+     */
+    @Override
+    public String createRemote(CancellationToken cancellationToken) throws IOException {
+        gitHubClient.createRepository( ownerName, ownerIsOrganization, repositoryName, accessToken,
+            cancellationToken );
+        return remoteUrl;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.GitExportSink#getCredentialsProvider()
+     */
+    @Override
+    public CredentialsProvider getCredentialsProvider() {
+        return new UsernamePasswordCredentialsProvider( accessToken, "" );
+    }
+
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheBuilder;
+import org.eclipse.jgit.dircache.DirCacheEditor;
+import org.eclipse.jgit.dircache.DirCacheEditor.DeletePath;
+import org.eclipse.jgit.dircache.DirCacheEditor.PathEdit;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts files into the object database of a Git repository and records them in its index one at a time, so that
+ * files can be staged as soon as they are available instead of rescanning the working tree once all files have been
+ * written. The index remains locked until this writer is committed or closed.
+ * 
+ * <p>
+ * When created in in-core mode, the writer does not use the on-disk index at all. Instead, an in-memory index is
+ * seeded from the tree of the current <code>HEAD</code> commit, and {@link #createCommit(String)} writes the resulting
+ * tree and commit directly to the object database. This allows a commit to be built without any working tree.
+ */
+public class GitIndexWriter implements ExportWriter {
+
+    private Repository repository;
+    private boolean inCore;
+    private DirCache dirCache;
+    private DirCacheEditor editor;
+    private ObjectInserter inserter;
+    private boolean committed;
+
+    /**
+     * Constructor that locks the on-disk index of the given Git repository for editing.
+     * 
+     * @param repository the Git repository whose index is to be updated
+     * @throws IOException thrown if the index cannot be locked or read
+     */
+    public GitIndexWriter(Repository repository) throws IOException {
+        this( repository, false );
+    }
+
+    /**
+     * Constructor that specifies whether the writer should update the on-disk index of the given Git repository or an
+     * in-memory index that is seeded from the tree of its current <code>HEAD</code> commit.
+     * 
+     * @param repository the Git repository whose index (or object database) is to be updated
+     * @param inCore flag indicating whether an in-memory index should be used
+     * @throws IOException thrown if the index cannot be locked or read
+     */
+    public GitIndexWriter(Repository repository, boolean inCore) throws IOException {
+        this.repository = repository;
+        this.inCore = inCore;
+
+        if (inCore) {
+            ObjectId headTree = repository.resolve( Constants.HEAD + "^{tree}" );
+
+            if (headTree != null) {
+                try (ObjectReader reader = repository.newObjectReader()) {
+                    this.dirCache = DirCache.read( reader, headTree );
+                }
+            } else {
+                this.dirCache = DirCache.newInCore();
+            }
+
+        } else {
+            this.dirCache = repository.lockDirCache();
+        }
+        this.editor = dirCache.editor();
+        this.inserter = repository.newObjectInserter();
+    }
+
+    /**
+     * Returns true if the index contained an entry for the given path when this writer was created.
+     * 
+     * @param path the repository-relative path of the file
+     * @return boolean
+     */
+    @Override
+    public boolean contains(String path) {
+        return dirCache.getEntry( path ) != null;
+    }
+
+    /**
+     * Returns the paths of all entries that were in the index when this writer was created.
+     * 
+     * @return List&lt;String&gt;
+     */
+    @Override
+    public List<String> getPaths() {
+        List<String> paths = new ArrayList<>();
+
+        for (int i = 0; i < dirCache.getEntryCount(); i++) {
+            paths.add( dirCache.getEntry( i ).getPathString() );
+        }
+        return paths;
+    }
+
+    /**
+     * Inserts the content of the given file into the object database and adds (or replaces) its entry in the index. If
+     * the index already contains identical content for the path, the index is left unchanged and false is returned.
+     * 
+     * @param path the repository-relative path of the file
+     * @param file the file whose content is to be added
+     * @return boolean true if the content of the path was added or changed
+     * @throws IOException thrown if the file cannot be read or inserted
+     */
+    @Override
+    public boolean add(String path, File file) throws IOException {
+        long length = file.length();
+        Instant lastModified = Instant.ofEpochMilli( file.lastModified() );
+        DirCacheEntry existingEntry = dirCache.getEntry( path );
+        ObjectId blobId;
+
+        try (InputStream is = new FileInputStream( file )) {
+            blobId = inserter.insert( Constants.OBJ_BLOB, length, is );
+        }
+        if ((existingEntry != null) && blobId.equals( existingEntry.getObjectId() )) {
+            return false;
+        }
+        editor.add( new PathEdit( path ) {
+            @Override
+            public void apply(DirCacheEntry entry) {
+                entry.setFileMode( FileMode.REGULAR_FILE );
+                entry.setObjectId( blobId );
+                entry.setLength( length );
+                entry.setLastModified( lastModified );
+            }
+        } );
+        return true;
+    }
+
+    /**
+     * Removes the entry for the given path from the index.
+     * 
+     * @param path the repository-relative path of the file to remove
+     */
+    @Override
+    public void remove(String path) {
+        editor.add( new DeletePath( path ) );
+    }
+
+    /**
+     * Flushes all inserted objects to the object database and applies all pending edits to the index. For on-disk
+     * indexes, the updated index is written and the index lock is released.
+     * 
+     * @throws IOException thrown if the objects or index cannot be written
+     */
+    @Override
+    public void commit() throws IOException {
+        inserter.flush();
+
+        if (inCore) {
+            editor.finish();
+        } else {
+            editor.commit();
+        }
+        committed = true;
+    }
+
+    /**
+     * Writes the tree of the in-memory index to the object database and creates a new commit whose parent is the
+     * current <code>HEAD</code>, after which <code>HEAD</code> is advanced to the new commit. This method may only be
+     * called for in-core writers, and only after {@link #commit()} has been called.
+     * 
+     * @param message the commit message
+     * @return ObjectId
+     * @throws IOException thrown if the tree or commit cannot be written or the branch cannot be updated
+     */
+    public ObjectId createCommit(String message) throws IOException {
+        if (!inCore || !committed) {
+            throw new IllegalStateException( "Commits can only be created for committed in-core indexes." );
+        }
+        ObjectId headId = repository.resolve( Constants.HEAD );
+        ObjectId treeId = dirCache.writeTree( inserter );
+        PersonIdent ident = new PersonIdent( repository );
+        CommitBuilder commit = new CommitBuilder();
+        ObjectId commitId;
+
+        commit.setTreeId( treeId );
+        commit.setAuthor( ident );
+        commit.setCommitter( ident );
+        commit.setMessage( message );
+
+        if (headId != null) {
+            commit.setParentId( headId );
+        }
+        commitId = inserter.insert( commit );
+        inserter.flush();
+
+        RefUpdate headUpdate = repository.updateRef( Constants.HEAD );
+        RefUpdate.Result result;
+
+        headUpdate.setNewObjectId( commitId );
+        headUpdate.setExpectedOldObjectId( (headId != null) ? headId : ObjectId.zeroId() );
+        headUpdate.setRefLogMessage( "commit: " + message, false );
+        result = headUpdate.update();
+
+        if ((result != RefUpdate.Result.NEW) && (result != RefUpdate.Result.FAST_FORWARD)) {
+            throw new IOException( "Unable to update HEAD to the new export commit: " + result );
+        }
+        return commitId;
+    }
+
+    /**
+     * Replaces the on-disk index of the given Git repository with the tree of the specified commit. The working tree
+     * is not modified.
+     * 
+     * @param repository the Git repository whose index is to be replaced
+     * @param commitId the commit whose tree should be loaded into the index
+     * @throws IOException thrown if the commit cannot be read or the index cannot be written
+     */
+    public static void readTree(Repository repository, ObjectId commitId) throws IOException {
+        try (RevWalk revWalk = new RevWalk( repository ); ObjectReader reader = repository.newObjectReader()) {
+            RevCommit commit = revWalk.parseCommit( commitId );
+            DirCache index = repository.lockDirCache();
+
+            try {
+                DirCacheBuilder builder = index.builder();
+
+                builder.addTree( new byte[0], 0, reader, commit.getTree() );
+                builder.commit();
+
+            } finally {
+                index.unlock();
+            }
+        }
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportWriter#close()
+     */
+    @Override
+    public void close() {
+        inserter.close();
+
+        if (!committed && !inCore) {
+            dirCache.unlock();
+        }
+    }
+
+}
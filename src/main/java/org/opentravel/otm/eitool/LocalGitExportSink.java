@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.transport.CredentialsProvider;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Export sink that pushes the export to a bare Git repository on the local file system (or a mounted file share). The
+ * bare repository is initialized on the first export, and no network services are required.
+ */
+public class LocalGitExportSink implements GitExportSink {
+
+    private File repositoryFolder;
+
+    /**
+     * Constructor that specifies the folder of the bare Git repository.
+     * 
+     * @param repositoryFolder the folder of the bare repository (created if it does not exist)
+     */
+    public LocalGitExportSink(File repositoryFolder) {
+        this.repositoryFolder = repositoryFolder.getAbsoluteFile();
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.ExportSink#getDescription()
+     */
+    @Override
+    public String getDescription() {
+        return "Git repository " + repositoryFolder.getPath();
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.GitExportSink#getRemoteUrl()
+     */
+    @Override
+    public String getRemoteUrl() {
+        return repositoryFolder.getPath();
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.GitExportSink#getDefaultBranch(org.opentravel.otm.eitool.CancellationToken)
+     */
+    @Override
+    public String getDefaultBranch(CancellationToken cancellationToken) throws IOException {
+        String defaultBranch = null;
+
+        if (repositoryExists()) {
+            try (Git git = Git.open( repositoryFolder )) {
+                defaultBranch = git.getRepository().getBranch();
+            }
+        }
+        return defaultBranch;
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.GitExportSink#createRemote(org.opentravel.otm.eitool.CancellationToken)
+     */
+    @Override
+    public String createRemote(CancellationToken cancellationToken) throws IOException {
+        if (repositoryExists()) {
+            throw new IOException( "The Git repository already exists: " + repositoryFolder.getPath() );
+        }
+        try {
+            Git.init().setBare( true ).setDirectory( repositoryFolder ).call().close();
+
+        } catch (GitAPIException e) {
+            throw new IOException( "Unable to create Git repository: " + repositoryFolder.getPath(), e );
+        }
+        return getRemoteUrl();
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.GitExportSink#getCredentialsProvider()
+     */
+    @Override
+    public CredentialsProvider getCredentialsProvider() {
+        return null;
+    }
+
+    /**
+     * Returns true if the bare Git repository has already been initialized.
+     * 
+     * @return boolean
+     */
+    private boolean repositoryExists() {
+        return new File( repositoryFolder, "/objects" ).isDirectory();
+    }
+
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoType;
+import org.opentravel.schemacompiler.repository.Repository;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryFileManager;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+import org.opentravel.schemacompiler.repository.RepositoryUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Item source that lists the libraries of a remote repository that have been cached in the local repository, without
+ * contacting the remote repository. The cache is identified by the metadata file that is stored next to the content
+ * of each downloaded library. Libraries whose content is missing from the cache are skipped, and an optional maximum
+ * age prevents exports from being built from content that has not been refreshed recently.
+ */
+public class LocalRepositoryCache implements RepositoryItemSource {
+
+    private static final String METADATA_FILE_SUFFIX = "-info.xml";
+
+    private RepositoryFileManager fileManager;
+    private Repository repository;
+    private String repositoryId;
+    private long maxAgeMillis;
+    private ProgressMonitor monitor;
+    private Map<String, List<LibraryInfoType>> cachedLibraries;
+
+    /**
+     * Constructor that specifies the local repository and the remote repository whose cached libraries are to be
+     * listed.
+     * 
+     * @param fileManager the file manager of the local repository
+     * @param repository the remote repository with which the listed items will be associated (may be null)
+     * @param repositoryId the ID of the remote repository that owns the cached libraries
+     */
+    public LocalRepositoryCache(RepositoryFileManager fileManager, Repository repository, String repositoryId) {
+        this.fileManager = fileManager;
+        this.repository = repository;
+        this.repositoryId = repositoryId;
+    }
+
+    /**
+     * Assigns the maximum age of the cached content of a library. If the content of any listed library was downloaded
+     * longer ago than this, the listing fails. A value of zero disables the check.
+     * 
+     * @param maxAgeMillis the maximum age of cached content (in milliseconds)
+     */
+    public void setMaxAgeMillis(long maxAgeMillis) {
+        this.maxAgeMillis = Math.max( 0, maxAgeMillis );
+    }
+
+    /**
+     * Assigns the progress monitor that will receive a warning for each cached library that is skipped.
+     * 
+     * @param monitor the progress monitor to assign (may be null)
+     */
+    public void setMonitor(ProgressMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns the base namespaces of the cached libraries. The local repository is scanned for library metadata the
+     * first time this method is called.
+     * 
+     * @see org.opentravel.otm.eitool.RepositoryItemSource#listBaseNamespaces()
+     */
+    @Override
+    public synchronized List<String> listBaseNamespaces() throws RepositoryException {
+        if (cachedLibraries == null) {
+            cachedLibraries = scanCache();
+        }
+        return new ArrayList<>( cachedLibraries.keySet() );
+    }
+
+    /**
+     * @see org.opentravel.otm.eitool.RepositoryItemSource#listItems(java.lang.String)
+     */
+    @Override
+    public List<RepositoryItem> listItems(String baseNS) throws RepositoryException {
+        List<LibraryInfoType> libraries;
+        List<RepositoryItem> items = new ArrayList<>();
+
+        synchronized (this) {
+            libraries = (cachedLibraries == null) ? null : cachedLibraries.get( baseNS );
+        }
+        for (LibraryInfoType library : (libraries == null) ? Collections.<LibraryInfoType>emptyList() : libraries) {
+            RepositoryItem item = RepositoryUtils.createItem( repository, library );
+            File contentFile = fileManager.getLibraryContentLocation( item.getBaseNamespace(), item.getFilename(),
+                item.getVersion() );
+
+            if (!contentFile.exists()) {
+                if (monitor != null) {
+                    monitor.jobWarning( "Skipping cached library with no content - " + item.getFilename() );
+                }
+                continue;
+            }
+            checkAge( item, contentFile );
+            items.add( item );
+        }
+        return items;
+    }
+
+    /**
+     * Scans the local repository for the metadata of libraries that are owned by the remote repository and returns
+     * the metadata grouped by base namespace.
+     * 
+     * @return Map&lt;String,List&lt;LibraryInfoType&gt;&gt;
+     * @throws RepositoryException thrown if the local repository cannot be scanned
+     */
+    private Map<String, List<LibraryInfoType>> scanCache() throws RepositoryException {
+        Map<String, List<LibraryInfoType>> libraries = new TreeMap<>();
+        List<Path> metadataFiles;
+
+        try (Stream<Path> paths = Files.walk( fileManager.getRepositoryLocation().toPath() )) {
+            metadataFiles = paths.filter( p -> p.getFileName().toString().endsWith( METADATA_FILE_SUFFIX ) )
+                .collect( Collectors.toList() );
+
+        } catch (IOException e) {
+            throw new RepositoryException( "Unable to scan the local repository cache", e );
+        }
+
+        for (Path metadataFile : metadataFiles) {
+            LibraryInfoType library = fileManager.loadLibraryMetadata( metadataFile.toFile() );
+
+            if ((library != null) && repositoryId.equals( library.getOwningRepository() )
+                && (library.getBaseNamespace() != null)) {
+                libraries.computeIfAbsent( library.getBaseNamespace(), ns -> new ArrayList<>() ).add( library );
+            }
+        }
+        return libraries;
+    }
+
+    /**
+     * Throws an exception if the cached content of the given item is older than the maximum age.
+     * 
+     * @param item the repository item to check
+     * @param contentFile the cached content file of the item
+     * @throws RepositoryException thrown if the cached content is too old
+     */
+    private void checkAge(RepositoryItem item, File contentFile) throws RepositoryException {
+        long ageMillis = System.currentTimeMillis() - contentFile.lastModified();
+
+        if ((maxAgeMillis > 0) && (ageMillis > maxAgeMillis)) {
+            throw new RepositoryException( String.format(
+                "Cached library %s is %d hours old (offline exports allow at most %d hours) - "
+                    + "run an online export to refresh the cache",
+                item.getFilename(), TimeUnit.MILLISECONDS.toHours( ageMillis ),
+                TimeUnit.MILLISECONDS.toHours( maxAgeMillis ) ) );
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factory that creates named daemon threads for the exporter's worker pools.
+ */
+class NamedThreadFactory implements ThreadFactory {
+
+    private String namePrefix;
+    private AtomicInteger threadNumber = new AtomicInteger( 1 );
+
+    /**
+     * Constructor that specifies the prefix to use when naming new threads.
+     * 
+     * @param namePrefix the prefix for all thread names (e.g. "otm-download")
+     */
+    public NamedThreadFactory(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    /**
+     * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+     */
+    @Override
+    public Thread newThread(Runnable r) {
+        Thread t = new Thread( r, namePrefix + "-" + threadNumber.getAndIncrement() );
+
+        t.setDaemon( true );
+        return t;
+    }
+
+}
@@ -0,0 +1,313 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Output stream that writes data in gzip format, compressing fixed-size blocks of the input concurrently in the manner
+ * of <code>pigz</code>. Each block is compressed as a raw deflate segment that ends on a byte boundary (using the last
+ * 32 KB of the previous block as its dictionary, so the compression ratio is close to that of a single-threaded
+ * stream), and the segments are written to the underlying stream in order as soon as they are complete. Only a
+ * bounded number of blocks are held in memory at any time, so output of any size can be streamed to disk. The result
+ * is a single standard gzip member that can be read by any gzip implementation.
+ * 
+ * <p>
+ * Instances of this class are not thread-safe; all writes must be made from a single thread.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+
+    public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private OutputStream out;
+    private ExecutorService executor;
+    private int level;
+    private int blockSize;
+    private int maxPendingBlocks;
+    private Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+    private byte[] block;
+    private int blockLength;
+    private byte[] dictionary;
+    private CRC32 crc = new CRC32();
+    private long uncompressedLength;
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * Constructor that specifies the underlying stream and the number of threads that will compress blocks, using the
+     * default compression level and block size.
+     * 
+     * @param out the stream to which the compressed data will be written
+     * @param threadCount the number of compression threads
+     * @throws IOException thrown if the gzip header cannot be written
+     */
+    public ParallelGzipOutputStream(OutputStream out, int threadCount) throws IOException {
+        this( out, threadCount, Deflater.DEFAULT_COMPRESSION, DEFAULT_BLOCK_SIZE );
+    }
+
+    /**
+     * Constructor that specifies the underlying stream, the number of threads that will compress blocks, the
+     * compression level, and the size of each block.
+     * 
+     * @param out the stream to which the compressed data will be written
+     * @param threadCount the number of compression threads
+     * @param level the deflate compression level (0-9, or -1 for the default)
+     * @param blockSize the number of input bytes in each block
+     * @throws IOException thrown if the gzip header cannot be written
+     * @throws IllegalArgumentException thrown if the thread count or block size is not positive
+     */
+    public ParallelGzipOutputStream(OutputStream out, int threadCount, int level, int blockSize) throws IOException {
+        if ((threadCount < 1) || (blockSize < 1)) {
+            throw new IllegalArgumentException( "The thread count and block size must be positive." );
+        }
+        this.out = out;
+        this.level = level;
+        this.blockSize = blockSize;
+        this.maxPendingBlocks = threadCount * 2;
+        this.block = new byte[blockSize];
+        this.executor = Executors.newFixedThreadPool( threadCount, new NamedThreadFactory( "otm-compress" ) );
+        out.write( GZIP_HEADER );
+    }
+
+    /**
+     * @see java.io.OutputStream#write(int)
+     */
+    @Override
+    public void write(int b) throws IOException {
+        write( new byte[] { (byte) b }, 0, 1 );
+    }
+
+    /**
+     * @see java.io.OutputStream#write(byte[], int, int)
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        int offset = off;
+        int remaining = len;
+
+        if (finished || closed) {
+            throw new IOException( "The stream has been finished." );
+        }
+        crc.update( b, off, len );
+        uncompressedLength += len;
+
+        while (remaining > 0) {
+            int count = Math.min( remaining, blockSize - blockLength );
+
+            System.arraycopy( b, offset, block, blockLength, count );
+            blockLength += count;
+            offset += count;
+            remaining -= count;
+
+            if (blockLength == blockSize) {
+                submitBlock( false );
+            }
+        }
+    }
+
+    /**
+     * Writes all blocks whose compression has completed and flushes the underlying stream. Data in the current
+     * (partial) block is not flushed, since doing so would reduce the compression ratio.
+     * 
+     * @see java.io.OutputStream#flush()
+     */
+    @Override
+    public void flush() throws IOException {
+        writeCompletedBlocks( maxPendingBlocks );
+        out.flush();
+    }
+
+    /**
+     * Compresses the remaining input and writes the gzip trailer without closing the underlying stream.
+     * 
+     * @throws IOException thrown if the compressed data cannot be written
+     */
+    public void finish() throws IOException {
+        if (!finished) {
+            submitBlock( true );
+            writeCompletedBlocks( 0 );
+            writeInt( (int) crc.getValue() );
+            writeInt( (int) uncompressedLength );
+            executor.shutdown();
+            finished = true;
+        }
+    }
+
+    /**
+     * Finishes the stream (if it has not already been finished) and closes the underlying stream.
+     * 
+     * @see java.io.OutputStream#close()
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+
+            try {
+                if (!finished) {
+                    finish();
+                }
+
+            } finally {
+                executor.shutdownNow();
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Closes the underlying stream without finishing the gzip stream. Blocks that are waiting to be compressed are
+     * cancelled and the compression threads are stopped, so no further data is compressed or written. The output is
+     * left as an incomplete gzip stream, so this method is only suitable when the output is about to be discarded.
+     * Closing the stream after it has been aborted has no effect.
+     * 
+     * @throws IOException thrown if the underlying stream cannot be closed
+     */
+    public void abort() throws IOException {
+        if (!closed) {
+            closed = true;
+
+            try {
+                for (Future<byte[]> pendingBlock : pendingBlocks) {
+                    pendingBlock.cancel( true );
+                }
+                pendingBlocks.clear();
+                executor.shutdownNow();
+
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Submits the current block for compression and starts a new block. The last 32 KB of the block become the
+     * dictionary of the next block. If the maximum number of blocks are already pending, the oldest blocks are written
+     * (waiting for their compression if necessary) before this method returns.
+     * 
+     * @param lastBlock flag indicating whether this is the final block of the stream
+     * @throws IOException thrown if a completed block cannot be written
+     */
+    private void submitBlock(boolean lastBlock) throws IOException {
+        byte[] input = block;
+        int length = blockLength;
+        byte[] blockDictionary = dictionary;
+
+        if (length > 0) {
+            dictionary = Arrays.copyOfRange( input, Math.max( 0, length - DICTIONARY_SIZE ), length );
+        }
+        pendingBlocks.add( executor.submit( () -> compressBlock( input, length, blockDictionary, lastBlock ) ) );
+        block = new byte[blockSize];
+        blockLength = 0;
+        writeCompletedBlocks( maxPendingBlocks - 1 );
+    }
+
+    /**
+     * Writes the oldest pending blocks to the underlying stream, in order, until no more than the given number of
+     * blocks are pending. Blocks at the head of the queue whose compression has already completed are also written.
+     * 
+     * @param maxPending the maximum number of blocks that may remain pending
+     * @throws IOException thrown if a block could not be compressed or written
+     */
+    private void writeCompletedBlocks(int maxPending) throws IOException {
+        while (!pendingBlocks.isEmpty()
+            && ((pendingBlocks.size() > maxPending) || pendingBlocks.peekFirst().isDone())) {
+            out.write( awaitBlock( pendingBlocks.pollFirst() ) );
+        }
+    }
+
+    /**
+     * Waits for the compression of a block to complete and returns the compressed data.
+     * 
+     * @param compressedBlock the future result of the block compression
+     * @return byte[]
+     * @throws IOException thrown if the block could not be compressed or the calling thread was interrupted
+     */
+    private byte[] awaitBlock(Future<byte[]> compressedBlock) throws IOException {
+        try {
+            return compressedBlock.get();
+
+        } catch (ExecutionException e) {
+            throw new IOException( "Error compressing archive data", e.getCause() );
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException( "Archive compression interrupted" );
+        }
+    }
+
+    /**
+     * Compresses a block of input as a raw deflate segment. All blocks except the last end with a sync flush, so that
+     * the segments can be concatenated to form a single deflate stream; the last block ends the stream.
+     * 
+     * @param input the input data of the block
+     * @param length the number of input bytes in the block
+     * @param blockDictionary the preset dictionary for the block (null for the first block)
+     * @param lastBlock flag indicating whether this is the final block of the stream
+     * @return byte[]
+     */
+    private byte[] compressBlock(byte[] input, int length, byte[] blockDictionary, boolean lastBlock) {
+        Deflater deflater = new Deflater( level, true );
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream( (length / 2) + 64 );
+        byte[] buffer = new byte[8192];
+
+        try {
+            if (blockDictionary != null) {
+                deflater.setDictionary( blockDictionary );
+            }
+            deflater.setInput( input, 0, length );
+
+            if (lastBlock) {
+                deflater.finish();
+
+                while (!deflater.finished()) {
+                    compressed.write( buffer, 0, deflater.deflate( buffer ) );
+                }
+
+            } else {
+                int count;
+
+                do {
+                    count = deflater.deflate( buffer, 0, buffer.length, Deflater.SYNC_FLUSH );
+                    compressed.write( buffer, 0, count );
+
+                } while (count == buffer.length);
+            }
+            return compressed.toByteArray();
+
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Writes the given value to the underlying stream in little-endian order.
+     * 
+     * @param value the value to write
+     * @throws IOException thrown if the value cannot be written
+     */
+    private void writeInt(int value) throws IOException {
+        out.write( value & 0xff );
+        out.write( (value >> 8) & 0xff );
+        out.write( (value >> 16) & 0xff );
+        out.write( (value >> 24) & 0xff );
+    }
+
+}
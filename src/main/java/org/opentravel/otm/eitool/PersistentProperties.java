@@ -9,7 +9,10 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Properties;
 
 /**
@@ -31,7 +34,18 @@ public class PersistentProperties extends Properties {
      * @throws IOException thrown if an error occurrs while loading an existing file
      */
     public PersistentProperties(String filename) throws IOException {
-        this.saveFile = new File( OTA2_FOLDER, filename );
+        this( new File( OTA2_FOLDER, filename ) );
+    }
+
+    /**
+     * Constructor that specifies the file where the information will be saved. If the file already exists, its
+     * contents will be loaded by this constructor.
+     * 
+     * @param saveFile the file where properties will be persisted
+     * @throws IOException thrown if an error occurrs while loading an existing file
+     */
+    PersistentProperties(File saveFile) throws IOException {
+        this.saveFile = saveFile;
 
         if (this.saveFile.exists()) {
             try (InputStream is = new FileInputStream( this.saveFile )) {
@@ -41,13 +55,34 @@ public class PersistentProperties extends Properties {
     }
 
     /**
-     * Saves all properties to the persistent file.
+     * Saves all properties to the persistent file. The properties are written to a temporary file in the same folder,
+     * which then replaces the persistent file, so a failure while saving never leaves a truncated or partially
+     * written file behind.
      * 
      * @throws IOException thrown if an error occurrs while saving the file
      */
     public void saveProperties() throws IOException {
-        try (OutputStream os = new FileOutputStream( this.saveFile )) {
-            this.store( os, null );
+        Path tempFile;
+
+        this.saveFile.getParentFile().mkdirs();
+        tempFile = Files.createTempFile( this.saveFile.getParentFile().toPath(), this.saveFile.getName(), ".tmp" );
+
+        try {
+            try (FileOutputStream os = new FileOutputStream( tempFile.toFile() )) {
+                this.store( os, null );
+                os.getFD().sync();
+            }
+
+            try {
+                Files.move( tempFile, this.saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE );
+
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move( tempFile, this.saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+            }
+
+        } finally {
+            Files.deleteIfExists( tempFile );
         }
     }
 
@@ -34,4 +34,20 @@ public interface ProgressMonitor {
      */
     public void jobError(String message);
 
+    /**
+     * Called to report information about the job that is not part of its progress, such as a summary of the work that
+     * was performed. The default implementation ignores the message.
+     * 
+     * @param message the informational message to be displayed
+     */
+    public default void jobMessage(String message) {}
+
+    /**
+     * Called to report a problem that does not prevent the job from completing. The default implementation ignores the
+     * warning.
+     * 
+     * @param message the warning message to be displayed
+     */
+    public default void jobWarning(String message) {}
+
 }
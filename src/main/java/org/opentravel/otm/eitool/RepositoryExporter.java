@@ -7,13 +7,22 @@ package org.opentravel.otm.eitool;
 import org.apache.commons.io.FileUtils;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
-import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
-import org.opentravel.schemacompiler.model.TLLibraryStatus;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.ObjectWalk;
+import org.eclipse.jgit.revwalk.RevObject;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.URIish;
+import org.opentravel.otm.eitool.ExportManifest.ManifestEntry;
+import org.opentravel.otm.eitool.ExportMetrics.Phase;
+import org.opentravel.otm.eitool.FileStager.StagingStrategy;
 import org.opentravel.schemacompiler.repository.RemoteRepository;
 import org.opentravel.schemacompiler.repository.RepositoryException;
 import org.opentravel.schemacompiler.repository.RepositoryFileManager;
 import org.opentravel.schemacompiler.repository.RepositoryItem;
-import org.opentravel.schemacompiler.repository.RepositoryItemType;
 import org.opentravel.schemacompiler.repository.RepositoryManager;
 
 import java.io.File;
@@ -22,13 +31,18 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.RequestBody;
-import okhttp3.Response;
+import javax.management.JMException;
 
 /**
  * Scans the remote OTM repository and ensures all relevant libraries for the export have been downloaded to the local
@@ -36,18 +50,57 @@ import okhttp3.Response;
  */
 public class RepositoryExporter implements AutoCloseable {
 
+    public static final int DEFAULT_LISTING_THREADS = 4;
+    public static final String DEFAULT_REMOTE_URL_TEMPLATE = "https://github.com/{owner}/{repo}.git";
+
+    private static final String OTM_REPOSITORY_ID = "Opentravel";
     private static final String OTM_REPOSITORY_ENDPOINT = "https://www.opentravelmodel.net";
     private static final String OTM_ROOT_NAMESPACE = "http://www.opentravel.org/OTM/";
     private static final List<String> EXCLUDED_NAMES = Arrays.asList( "strawman", "test", "demo" );
     private static final File EXPORTS_FOLDER = new File( System.getProperty( "java.io.tmpdir" ) );
+    private static final String LIBRARY_FILE_EXTENSION = ".otm";
+
+    /**
+     * Sorts repository items by base namespace, filename, and version so that scan results are deterministic.
+     */
+    private static final Comparator<RepositoryItem> ITEM_ORDER =
+        Comparator.comparing( RepositoryItem::getBaseNamespace ).thenComparing( RepositoryItem::getFilename )
+            .thenComparing( RepositoryItem::getVersion );
 
     private RemoteRepository repository;
+    private ResilientRepositoryClient repositoryClient;
+    private int maxCallAttempts = ResilientRepositoryClient.DEFAULT_MAX_ATTEMPTS;
+    private long callTimeoutMillis = ResilientRepositoryClient.DEFAULT_CALL_TIMEOUT_MILLIS;
     private RepositoryFileManager fileManager;
     private File exportFolder;
     private String ghOwnerName;
     private boolean ownerIsOrganization;
     private String ghRepositoryName;
     private String ghAccessToken;
+    private String remoteUrlTemplate;
+    private int downloadThreads = DownloadEngine.DEFAULT_THREAD_COUNT;
+    private boolean useVirtualThreads;
+    private boolean adaptiveConcurrency;
+    private int listingThreads = DEFAULT_LISTING_THREADS;
+    private boolean incrementalExport;
+    private boolean resumeExport;
+    private boolean offlineExport;
+    private long offlineMaxAgeMillis;
+    private DownloadJournal journal;
+    private boolean exportSucceeded;
+    private ExportManifest manifest;
+    private int pipelineQueueCapacity = ExportPipeline.DEFAULT_QUEUE_CAPACITY;
+    private boolean directTreeExport;
+    private ExportWriter indexWriter;
+    private StagingStrategy stagingStrategy = StagingStrategy.AUTO;
+    private FileStager fileStager;
+    private boolean updateExistingRepository;
+    private GitHubClient gitHubClient = GitHubClient.getDefault();
+    private ExportSink exportSink;
+    private ExportMetrics metrics = new ExportMetrics();
+    private boolean jmxEnabled;
+    private File reportFile;
+    private CancellationToken cancellationToken = new CancellationToken();
 
     /**
      * Constructor that specifies the identifying information of the export repository and the access token to use when
@@ -62,16 +115,42 @@ public class RepositoryExporter implements AutoCloseable {
      */
     public RepositoryExporter(String ghOwnerName, boolean ownerIsOrganization, String ghRepositoryName,
         String ghAccessToken) throws RepositoryException, IOException {
-        this.repository = (RemoteRepository) RepositoryManager.getDefault().getRepository( "Opentravel" );
+        this( ghOwnerName, ownerIsOrganization, ghRepositoryName, ghAccessToken, null, null );
+    }
+
+    /**
+     * Constructor that specifies the identifying information of the export repository, the access token to use when
+     * creating it, and the endpoints of a GitHub-compatible service (such as GitHub Enterprise or a regional mirror).
+     * The remote URL template must contain a <code>{repo}</code> placeholder and may contain an <code>{owner}</code>
+     * placeholder; they are replaced with the repository and owner names to form the Git remote URL of the export.
+     * 
+     * @param ghOwnerName the name of the user or organization that will own the export repository
+     * @param ownerIsOrganization flag indicating whether the owner is an organization or a user
+     * @param ghRepositoryName the name of the repository to export
+     * @param ghAccessToken the access token to use when creating the repository
+     * @param gitHubApiUrl the base URL of the GitHub REST API (null for <code>https://api.github.com</code>)
+     * @param remoteUrlTemplate the template of the Git remote URL (null for the github.com remote URL)
+     * @throws RepositoryException thrown if the repository already exists or cannot be created
+     * @throws IOException thrown if an error occurs while writing data to the repository
+     * @throws IllegalArgumentException thrown if the API URL or remote URL template is invalid
+     */
+    public RepositoryExporter(String ghOwnerName, boolean ownerIsOrganization, String ghRepositoryName,
+        String ghAccessToken, String gitHubApiUrl, String remoteUrlTemplate) throws RepositoryException, IOException {
+        this.remoteUrlTemplate = isBlank( remoteUrlTemplate ) ? DEFAULT_REMOTE_URL_TEMPLATE : remoteUrlTemplate.trim();
+
+        if (!this.remoteUrlTemplate.contains( "{repo}" )) {
+            throw new IllegalArgumentException(
+                "The remote URL template must contain a {repo} placeholder: " + this.remoteUrlTemplate );
+        }
+        if (!isBlank( gitHubApiUrl )) {
+            this.gitHubClient = GitHubClient.getInstance( gitHubApiUrl );
+        }
+        this.repository = (RemoteRepository) RepositoryManager.getDefault().getRepository( OTM_REPOSITORY_ID );
         this.fileManager = RepositoryManager.getDefault().getFileManager();
         this.ghOwnerName = ghOwnerName;
         this.ownerIsOrganization = ownerIsOrganization;
         this.ghRepositoryName = ghRepositoryName;
         this.ghAccessToken = ghAccessToken;
-
-        EXPORTS_FOLDER.mkdirs();
-        this.exportFolder = Files.createTempDirectory( EXPORTS_FOLDER.toPath(), "otm_export_" ).toFile();
-
     }
 
     /**
@@ -112,7 +191,240 @@ public class RepositoryExporter implements AutoCloseable {
     }
 
     /**
-     * Orchestrates all actions required to create an export of the OpenTravel OTM repository.
+     * Assigns the maximum number of library downloads that may be in progress at one time.
+     * 
+     * @param downloadThreads the number of concurrent download workers
+     */
+    public void setDownloadThreads(int downloadThreads) {
+        this.downloadThreads = downloadThreads;
+    }
+
+    /**
+     * Assigns the flag indicating whether the number of concurrent downloads should adapt to the responsiveness of the
+     * OTM repository. When enabled, the download concurrency starts at half of the download thread count, grows while
+     * download latency remains stable, and backs off when downloads fail or slow down. The download thread count
+     * becomes the upper bound of the concurrency.
+     * 
+     * @param adaptiveConcurrency the flag value to assign
+     */
+    public void setAdaptiveConcurrency(boolean adaptiveConcurrency) {
+        this.adaptiveConcurrency = adaptiveConcurrency;
+    }
+
+    /**
+     * Assigns the flag indicating whether virtual threads should be used for downloads (if supported by the JVM).
+     * 
+     * @param useVirtualThreads the flag value to assign
+     */
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    /**
+     * Assigns the maximum number of namespace listing requests that may be in progress at one time.
+     * 
+     * @param listingThreads the number of concurrent listing workers
+     */
+    public void setListingThreads(int listingThreads) {
+        this.listingThreads = listingThreads;
+    }
+
+    /**
+     * Assigns the flag indicating whether the export should be incremental. Incremental exports are maintained in a
+     * persistent local workspace, and only the libraries that are new or changed since the last export are downloaded,
+     * copied, and pushed to GitHub. Every library is still checked against the OTM repository, so draft libraries that
+     * were edited without a change to their version are exported again.
+     * 
+     * @param incrementalExport the flag value to assign
+     */
+    public void setIncrementalExport(boolean incrementalExport) {
+        this.incrementalExport = incrementalExport;
+    }
+
+    /**
+     * Assigns the maximum number of attempts (including the first) that will be made for each call to the OTM
+     * repository before the call is considered to have failed.
+     * 
+     * @param maxCallAttempts the maximum number of attempts to assign
+     */
+    public void setMaxCallAttempts(int maxCallAttempts) {
+        this.maxCallAttempts = Math.max( 1, maxCallAttempts );
+    }
+
+    /**
+     * Assigns the maximum time that a single call to the OTM repository may take before it is abandoned and retried. A
+     * value of zero disables the timeout.
+     * 
+     * @param callTimeoutMillis the call timeout (in milliseconds)
+     */
+    public void setCallTimeoutMillis(long callTimeoutMillis) {
+        this.callTimeoutMillis = Math.max( 0, callTimeoutMillis );
+    }
+
+    /**
+     * Assigns the flag indicating whether an export that failed before completion should be resumed. Resumable exports
+     * are assembled in a persistent local workspace that is retained if the export fails, and every completed download
+     * and staged file is recorded in a journal so that the next run can skip the work that was already done.
+     * 
+     * @param resumeExport the flag value to assign
+     */
+    public void setResumeExport(boolean resumeExport) {
+        this.resumeExport = resumeExport;
+    }
+
+    /**
+     * Assigns the flag indicating whether the export should be built from the libraries that are cached in the local
+     * repository instead of the remote OTM repository. Offline exports do not contact the OTM repository, so they
+     * include only the libraries that were downloaded by earlier runs and any libraries that were deleted from the
+     * OTM repository since then.
+     * 
+     * @param offlineExport the flag value to assign
+     */
+    public void setOfflineExport(boolean offlineExport) {
+        this.offlineExport = offlineExport;
+    }
+
+    /**
+     * Assigns the maximum age of the cached libraries that may be included in an offline export. If the content of any
+     * cached library is older than this, the export fails. A value of zero disables the check.
+     * 
+     * @param offlineMaxAgeMillis the maximum age of cached libraries (in milliseconds)
+     */
+    public void setOfflineMaxAgeMillis(long offlineMaxAgeMillis) {
+        this.offlineMaxAgeMillis = Math.max( 0, offlineMaxAgeMillis );
+    }
+
+    /**
+     * Assigns the maximum number of items that may be waiting between two phases of the export pipeline.
+     * 
+     * @param pipelineQueueCapacity the capacity of each pipeline queue
+     */
+    public void setPipelineQueueCapacity(int pipelineQueueCapacity) {
+        this.pipelineQueueCapacity = pipelineQueueCapacity;
+    }
+
+    /**
+     * Assigns the flag indicating whether the export commit should be built directly in the Git object database. When
+     * enabled, each library is streamed from its location in the local repository into a bare Git repository, and the
+     * tree and commit are created without copying any files to a working tree.
+     * 
+     * @param directTreeExport the flag value to assign
+     */
+    public void setDirectTreeExport(boolean directTreeExport) {
+        this.directTreeExport = directTreeExport;
+    }
+
+    /**
+     * Assigns the strategy that will be used to stage library files in the export folder.
+     * 
+     * @param stagingStrategy the staging strategy to assign
+     */
+    public void setStagingStrategy(StagingStrategy stagingStrategy) {
+        this.stagingStrategy = stagingStrategy;
+    }
+
+    /**
+     * Assigns the flag indicating whether an existing remote repository should be updated. When enabled and the export
+     * repository already exists, its content is fetched and a single commit containing only the differences between
+     * the existing export and the current OTM repository is pushed, instead of failing because the repository exists.
+     * 
+     * @param updateExistingRepository the flag value to assign
+     */
+    public void setUpdateExistingRepository(boolean updateExistingRepository) {
+        this.updateExistingRepository = updateExistingRepository;
+    }
+
+    /**
+     * Assigns the OTM repository from which libraries will be exported. By default, the OpenTravel repository that is
+     * registered with the local repository manager is used.
+     * 
+     * @param repository the OTM repository to assign
+     */
+    public void setRemoteRepository(RemoteRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Assigns the client that will be used for GitHub API calls. By default, the shared client for the session is used.
+     * 
+     * @param gitHubClient the GitHub API client to assign
+     */
+    public void setGitHubClient(GitHubClient gitHubClient) {
+        this.gitHubClient = gitHubClient;
+    }
+
+    /**
+     * Returns the destination of the export. Unless another sink has been assigned, the export is pushed to the GitHub
+     * repository that was specified when this exporter was created.
+     * 
+     * @return ExportSink
+     */
+    public ExportSink getExportSink() {
+        return (exportSink != null) ? exportSink
+            : new GitHubExportSink( gitHubClient, ghOwnerName, ownerIsOrganization, ghRepositoryName, ghAccessToken,
+                remoteUrlTemplate );
+    }
+
+    /**
+     * Assigns the destination of the export, such as a local bare Git repository, a directory, or an archive file.
+     * Sinks that receive files directly do not support incremental, resumable, or direct tree exports; those settings
+     * are ignored (with a warning) when exporting to such a sink. Local Git repositories are always updated if they
+     * already exist. The owner and repository names that were specified when this exporter was created still identify
+     * the export workspace of Git-based sinks.
+     * 
+     * @param exportSink the export sink to assign (null to push to the GitHub repository)
+     */
+    public void setExportSink(ExportSink exportSink) {
+        this.exportSink = exportSink;
+    }
+
+    /**
+     * Assigns the flag indicating whether the metrics of each export should be published as a JMX MBean while the
+     * export is running.
+     * 
+     * @param jmxEnabled the flag value to assign
+     */
+    public void setJmxEnabled(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+    }
+
+    /**
+     * Assigns the file to which the JSON run report of each export will be written. By default, the report is written
+     * next to the export folder.
+     * 
+     * @param reportFile the run report file to assign
+     */
+    public void setReportFile(File reportFile) {
+        this.reportFile = reportFile;
+    }
+
+    /**
+     * Assigns the token that may be used to cancel the export. When cancellation is requested, all phases of the
+     * export are stopped as soon as possible and the export fails with a <code>CancellationException</code>.
+     * 
+     * @param cancellationToken the cancellation token to assign
+     */
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * Returns the metrics of the current (or most recent) export.
+     * 
+     * @return ExportMetrics
+     */
+    public ExportMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Orchestrates all actions required to create an export of the OpenTravel OTM repository. The repository items are
+     * listed, downloaded, copied to the export folder, and added to the Git index by a concurrent pipeline, after which
+     * the export is committed and pushed to the remote of the export sink (GitHub by default). If the remote repository
+     * must be created, its creation runs in the background while the pipeline is running, and the pipeline is aborted
+     * as soon as the creation fails. For sinks that receive files directly, the pipeline writes each library to the
+     * sink instead and no Git repository is used. Metrics for each phase of the export are written to a JSON run report
+     * when the export completes.
      * 
      * @throws RepositoryException thrown if an error occurrs while accessing the OTM repository
      * @throws GitAPIException thrown if an error occurrs while initializing the local Git repository or
@@ -120,179 +432,1156 @@ public class RepositoryExporter implements AutoCloseable {
      * @throws IOException thrown if an error occurrs while creating the export
      */
     protected void exportRepository(ProgressMonitor monitor) throws RepositoryException, GitAPIException, IOException {
-        List<RepositoryItem> itemList = scanRepository( monitor );
+        ExportSink sink = getExportSink();
+        Exception exportError = null;
 
-        if (monitor != null) {
-            monitor.progress( 1.0, "Creating repository export..." );
+        startMetrics( sink, monitor );
+
+        if ((sink instanceof FileExportSink) && (incrementalExport || resumeExport || directTreeExport)) {
+            reportWarning( monitor, "Incremental, resumable, and direct tree exports are not supported for the "
+                + sink.getDescription() + " - performing a full export" );
         }
-        copyFilesToExport( itemList );
+        repositoryClient = newRepositoryClient( monitor );
 
-        if (monitor != null) {
-            monitor.progress( 1.0, "Pushing repository export to GitHub..." );
+        if (useVirtualThreads && !DownloadEngine.isVirtualThreadSupported()) {
+            reportWarning( monitor, "Virtual threads not supported by this JVM (using platform threads)" );
         }
+
         try {
-            Git git = Git.init().setDirectory( exportFolder ).call();
-            String remoteRepoUrl = createGitHubRepo();
+            cancellationToken.throwIfCancelled();
+            initExportFolder( monitor );
+
+            if (sink instanceof GitExportSink) {
+                exportToGitRepository( (GitExportSink) sink, monitor );
+            } else {
+                exportToFiles( (FileExportSink) sink, monitor );
+            }
+            exportSucceeded = true;
+            recordThroughput( monitor );
 
-            git.add().addFilepattern( "." ).call();
-            git.commit().setMessage( "Initial commit" ).call();
-            git.remoteAdd().setName( "origin" ).setUri( new org.eclipse.jgit.transport.URIish( remoteRepoUrl ) ).call();
-            git.push().setCredentialsProvider( new UsernamePasswordCredentialsProvider( ghAccessToken, "" ) )
-                .setRemote( "origin" ).call();
+            if (journal != null) {
+                journal.delete();
+                journal = null;
+            }
 
-        } catch (GitAPIException | URISyntaxException e) {
-            throw new IOException( "Error pushing export repository to GitHub", e );
-        }
+        } catch (RepositoryException | IOException | RuntimeException e) {
+            exportError = e;
 
-        if (monitor != null) {
-            monitor.jobComplete();
+            if (cancellationToken.isCancelled() && !(e instanceof CancellationException)) {
+                exportError = (Exception) new CancellationException( "Export cancelled" ).initCause( e );
+                throw (CancellationException) exportError;
+            }
+            throw e;
+
+        } finally {
+            repositoryClient.close();
+            metrics.exportCompleted( exportError );
+            writeRunReport( monitor );
         }
     }
 
     /**
-     * Scans the remote repository and ensures that all libraries to be exported have been downloaded to the local file
-     * system.
+     * Plans an export without performing it. The repository items are listed, but no content is downloaded, no files
+     * are copied, and GitHub is not accessed. The plan reports the number of libraries that would be exported, how
+     * many are already cached in the local repository (or unchanged since the last incremental export), their
+     * estimated size, and the estimated duration of the export based on the throughput of earlier exports. Since no
+     * export is performed, the monitor is never notified that the job is complete; the caller reports the plan instead.
      * 
-     * @param monitor the progress monitor for the job
-     * @return List&lt;RepositoryItem&gt;
-     * @throws RepositoryException
+     * @param monitor the progress monitor for the job (may be null)
+     * @return ExportPlan
+     * @throws RepositoryException thrown if an error occurrs while accessing the OTM repository
+     * @throws IOException thrown if the export manifest cannot be read
      */
-    protected List<RepositoryItem> scanRepository(ProgressMonitor monitor) throws RepositoryException {
-        List<String> namespaces = repository.listBaseNamespaces();
-        List<RepositoryItem> allItems = new ArrayList<>();
-        int counter = 0;
+    public ExportPlan planExport(ProgressMonitor monitor) throws RepositoryException, IOException {
+        ExportPlan plan = new ExportPlan();
+        WorkAborter aborter = new WorkAborter( () -> {
+            // The item stream is closed when the interrupted listing loop exits
+        } );
 
+        metrics.unregisterMBean();
+        metrics = new ExportMetrics();
+        repositoryClient = newRepositoryClient( monitor );
+
+        if (isIncrementalRun() && (manifest == null)) {
+            manifest = new ExportManifest( ghOwnerName, ghRepositoryName, isDirectTreeRun() );
+        }
         if (monitor != null) {
-            monitor.jobStarted( "Scanning remote repository..." );
+            monitor.jobStarted( "Planning repository export..." );
         }
+        cancellationToken.addListener( aborter );
 
-        // Collect the list of all repository items that should be included in the export
-        for (String baseNS : namespaces) {
-            if (isValidNamespace( baseNS )) {
-                List<RepositoryItem> nsItems =
-                    repository.listItems( baseNS, TLLibraryStatus.DRAFT, false, RepositoryItemType.LIBRARY );
+        try (RepositoryItemStream itemStream = openItemStream( monitor )) {
+            RepositoryItem item;
 
-                for (RepositoryItem item : nsItems) {
-                    if (!isExcluded( item.getFilename() )) {
-                        allItems.add( item );
-                    }
-                }
+            while ((item = itemStream.next()) != null) {
+                File contentFile = fileManager.getLibraryContentLocation( item.getBaseNamespace(),
+                    item.getFilename(), item.getVersion() );
+                boolean unchanged = (manifest != null) && manifest.isUnchanged( item, contentFile );
+
+                plan.addItem( contentFile.exists(), unchanged, estimateDownloadSize( item ) );
             }
+
+        } catch (InterruptedException e) {
+            cancellationToken.throwIfCancelled();
+            Thread.currentThread().interrupt();
+            throw new RepositoryException( "Export planning interrupted", e );
+
+        } finally {
+            cancellationToken.removeListener( aborter );
+            aborter.finished();
+            repositoryClient.close();
         }
+        plan.setListingMillis( metrics.getPhaseElapsedMillis().get( Phase.LISTING.name() ) );
+        plan.setEstimatedMillis( estimateExportMillis( plan, monitor ) );
+        return plan;
+    }
+
+    /**
+     * Returns the estimated duration of the export described by the given plan, or -1 if no earlier export has been
+     * recorded on this system. Since the listing, download, staging, and indexing phases run concurrently, the
+     * longest of them determines the duration of the pipeline; the commit and push phases follow the pipeline.
+     * 
+     * @param plan the export plan whose duration is to be estimated
+     * @param monitor the progress monitor for the job (may be null)
+     * @return long
+     */
+    private long estimateExportMillis(ExportPlan plan, ProgressMonitor monitor) {
+        long downloadCount = plan.getDownloadItemCount();
+        long estimatedMillis = -1;
+
+        try {
+            ThroughputHistory history = new ThroughputHistory();
+            long downloadMillis = history.estimateMillis( Phase.DOWNLOAD, downloadCount );
 
-        // Force the download of all repository items to be exported
-        for (RepositoryItem item : allItems) {
-            if (monitor != null) {
-                double percentComplete = ((double) ++counter) / ((double) allItems.size());
+            if (downloadMillis >= 0) {
+                long pipelineMillis = Math.max( plan.getListingMillis(), downloadMillis );
 
-                monitor.progress( percentComplete, String.format( "Downloading: %s", item.getFilename() ) );
+                pipelineMillis = Math.max( pipelineMillis, history.estimateMillis( Phase.STAGING, downloadCount ) );
+                pipelineMillis = Math.max( pipelineMillis, history.estimateMillis( Phase.INDEXING, downloadCount ) );
+                estimatedMillis = pipelineMillis + Math.max( 0, history.estimateMillis( Phase.COMMIT, downloadCount ) )
+                    + Math.max( 0, history.estimateMillis( Phase.PUSH, downloadCount ) );
             }
-            repository.downloadContent( item, true );
+
+        } catch (IOException e) {
+            reportWarning( monitor, "Unable to load export throughput history - " + e.getMessage() );
         }
-        return allItems;
+        return estimatedMillis;
     }
 
     /**
-     * Copies the files associated with each repository item (library) in the list to the export folder.
+     * Records the phase timings of a successful export in the throughput history that is used to estimate the
+     * duration of planned exports. Failures are reported as warnings and do not affect the export.
      * 
-     * @param itemList the list of repository items to be exported
-     * @throws RepositoryException thrown if the local copy of the library file cannot be located
-     * @throws GitAPIException thrown if an error occurrs while initializing the local Git repository
-     * @throws IOException thrown if an error occurrs while copying the files
+     * @param monitor the progress monitor for the job (may be null)
      */
-    protected void copyFilesToExport(List<RepositoryItem> itemList)
-        throws RepositoryException, GitAPIException, IOException {
-        for (RepositoryItem item : itemList) {
-            File sourceFile =
-                fileManager.getLibraryContentLocation( item.getBaseNamespace(), item.getFilename(), item.getVersion() );
-            File destFile = new File( exportFolder, String.format( "/%s", item.getFilename() ) );
+    private void recordThroughput(ProgressMonitor monitor) {
+        try {
+            ThroughputHistory history = new ThroughputHistory();
+
+            history.record( metrics );
+            history.save();
 
-            FileUtils.copyFile( sourceFile, destFile );
+        } catch (IOException e) {
+            reportWarning( monitor, "Unable to save export throughput history - " + e.getMessage() );
         }
     }
 
     /**
-     * Creates the remote GitHub repository and returns the URL. If a repository of the same name already exists, an
-     * exception will be thrown.
+     * Creates the metrics collector for a new export and publishes it over JMX if enabled. Failures to publish the
+     * metrics are reported as warnings and do not affect the export.
      * 
-     * @return String
-     * @throws IOException thrown if the remote repository already exists or an error occurrs while accessing GitHub
-     */
-    protected String createGitHubRepo() throws IOException {
-        OkHttpClient client = new OkHttpClient();
-
-        // Determine the API base URL for repo creation/check
-        String baseRepoUrl = ownerIsOrganization ? "https://api.github.com/orgs/" + ghOwnerName + "/repos"
-            : "https://api.github.com/user/repos";
-
-        // Step 1: Check if the repository already exists
-        String repoCheckUrl =
-            ownerIsOrganization ? "https://api.github.com/repos/" + ghOwnerName + "/" + ghRepositoryName
-                : "https://api.github.com/repos/" + ghOwnerName + "/" + ghRepositoryName;
-
-        Request checkRequest =
-            new Request.Builder().url( repoCheckUrl ).header( "Authorization", "Bearer " + ghAccessToken )
-                .header( "Accept", "application/vnd.github+json" ).get().build();
-
-        try (Response checkResponse = client.newCall( checkRequest ).execute()) {
-            if (checkResponse.isSuccessful()) {
-                throw new IOException( "Repository already exists: " + ghRepositoryName );
-            } else if (checkResponse.code() != 404) {
-                throw new IOException(
-                    "Error checking repository existence: " + checkResponse.code() + " - " + checkResponse.message() );
+     * @param sink the destination of the export
+     * @param monitor the progress monitor for the job (may be null)
+     */
+    private void startMetrics(ExportSink sink, ProgressMonitor monitor) {
+        metrics.unregisterMBean();
+        metrics = new ExportMetrics();
+        metrics.setAttribute( "owner", ghOwnerName );
+        metrics.setAttribute( "repository", ghRepositoryName );
+        metrics.setAttribute( "exportSink", sink.getDescription() );
+
+        if (sink instanceof GitHubExportSink) {
+            metrics.setAttribute( "gitHubApiUrl", ((GitHubExportSink) sink).getGitHubClient().getApiUrl() );
+        }
+        metrics.setAttribute( "downloadThreads", downloadThreads );
+        metrics.setAttribute( "useVirtualThreads", useVirtualThreads );
+        metrics.setAttribute( "adaptiveConcurrency", adaptiveConcurrency );
+        metrics.setAttribute( "listingThreads", listingThreads );
+        metrics.setAttribute( "pipelineQueueCapacity", pipelineQueueCapacity );
+        metrics.setAttribute( "incrementalExport", isIncrementalRun() );
+        metrics.setAttribute( "resumeExport", isResumableRun() );
+        metrics.setAttribute( "offlineExport", offlineExport );
+        metrics.setAttribute( "offlineMaxAgeMillis", offlineMaxAgeMillis );
+        metrics.setAttribute( "directTreeExport", isDirectTreeRun() );
+        metrics.setAttribute( "stagingStrategy", stagingStrategy );
+        metrics.setAttribute( "updateExistingRepository", isUpdateExistingRun() );
+        metrics.setAttribute( "maxCallAttempts", maxCallAttempts );
+        metrics.setAttribute( "callTimeoutMillis", callTimeoutMillis );
+
+        if (jmxEnabled) {
+            try {
+                metrics.registerMBean();
+
+            } catch (JMException e) {
+                reportWarning( monitor, "Unable to register export metrics with JMX - " + e.getMessage() );
             }
         }
+    }
 
-        // Step 2: Create the repository if it doesn't exist
-        String requestBody = "{\"name\":\"" + ghRepositoryName + "\",\"private\":false}";
+    /**
+     * Returns a new client for the OTM repository that retries failed calls according to the settings of this
+     * exporter and records its retries in the export metrics. If adaptive concurrency is enabled, the client's
+     * downloads are controlled by an adaptive limiter whose current limit is published as a metrics gauge.
+     * 
+     * @param monitor the progress monitor that will receive the client's warnings (may be null)
+     * @return ResilientRepositoryClient
+     */
+    private ResilientRepositoryClient newRepositoryClient(ProgressMonitor monitor) {
+        ResilientRepositoryClient client = new ResilientRepositoryClient( repository );
 
-        Request createRequest = new Request.Builder().url( baseRepoUrl )
-            .header( "Authorization", "Bearer " + ghAccessToken ).header( "Accept", "application/vnd.github+json" )
-            .post( RequestBody.create( requestBody, MediaType.parse( "application/json" ) ) ).build();
+        client.setMonitor( monitor );
+        client.setMaxAttempts( maxCallAttempts );
+        client.setCallTimeoutMillis( callTimeoutMillis );
+        client.setMaxCallThreads( downloadThreads * 2 );
+        client.setForceDownload( !isIncrementalRun() );
+        client.setMetrics( metrics );
 
-        try (Response createResponse = client.newCall( createRequest ).execute()) {
-            if (createResponse.isSuccessful()) {
-                return "https://github.com/" + ghOwnerName + "/" + ghRepositoryName + ".git";
-            } else if (createResponse.code() == 422) { // Unprocessable Entity, repository name conflict
-                throw new IOException( "Repository conflicts with an existing repository: " + ghRepositoryName );
-            } else {
-                throw new IOException(
-                    "Error creating repository: " + createResponse.code() + " - " + createResponse.message() );
+        if (adaptiveConcurrency) {
+            AdaptiveLimiter limiter = new AdaptiveLimiter( 1, downloadThreads / 2, downloadThreads );
+
+            client.setDownloadLimiter( limiter );
+            metrics.registerGauge( "downloadConcurrencyLimit", limiter::getLimit );
+            metrics.registerGauge( "downloadsInFlight", limiter::getInFlight );
+        }
+        return client;
+    }
+
+    /**
+     * Writes the JSON run report for the export. The report is written to the configured report file or, if none was
+     * assigned, next to the export folder. Failures are reported as warnings and do not affect the export.
+     * 
+     * @param monitor the progress monitor for the job (may be null)
+     */
+    private void writeRunReport(ProgressMonitor monitor) {
+        File report = reportFile;
+
+        if ((report == null) && (exportFolder != null)) {
+            report = new File( exportFolder.getParentFile(), exportFolder.getName() + "-report.json" );
+        }
+        if (report != null) {
+            try {
+                metrics.writeReport( report );
+                reportMessage( monitor, "Export run report: " + report.getAbsolutePath() );
+
+            } catch (IOException e) {
+                reportWarning( monitor, "Unable to write export run report - " + e.getMessage() );
             }
         }
     }
 
     /**
-     * @see java.lang.AutoCloseable#close()
+     * Opens the Git repository in the export folder, fetches the existing export from the sink's remote if required,
+     * and then runs the export pipeline and pushes the result to the remote.
+     * 
+     * @param sink the Git export sink that will receive the export
+     * @param monitor the progress monitor for the job
+     * @throws RepositoryException thrown if an error occurrs while accessing the OTM repository
+     * @throws IOException thrown if an error occurrs while creating or pushing the export
      */
-    @Override
-    public void close() throws Exception {
-        FileUtils.deleteDirectory( exportFolder );
+    private void exportToGitRepository(GitExportSink sink, ProgressMonitor monitor)
+        throws RepositoryException, IOException {
+        if (monitor != null) {
+            monitor.jobStarted( "Scanning remote repository..." );
+        }
+        try (Git git = openExportGitRepository()) {
+            checkOriginUrl( git, sink );
+
+            if (isUpdateExistingRun() && (getOriginUrl( git ) == null)) {
+                String defaultBranch = sink.getDefaultBranch( cancellationToken );
+
+                if (defaultBranch != null) {
+                    if (monitor != null) {
+                        monitor.progress( 0.0, "Fetching existing repository export from " + sink.getDescription() );
+                    }
+                    fetchExistingExport( git, sink, defaultBranch );
+                }
+            }
+            commitAndPushExport( git, sink, startRemoteCreation( git, sink ), monitor );
+
+        } catch (GitAPIException | URISyntaxException e) {
+            throw new IOException( "Error pushing export repository to " + sink.getDescription(), e );
+        }
     }
 
     /**
-     * Returns true if the given namespace should be included in the export.
+     * Runs the export pipeline with a writer of the given sink, so that each library is written to the sink as soon as
+     * it has been downloaded. No Git repository is used.
      * 
-     * @param ns the namespace to check
-     * @return boolean
+     * @param sink the file export sink that will receive the export
+     * @param monitor the progress monitor for the job
+     * @throws RepositoryException thrown if an error occurrs while accessing the OTM repository
+     * @throws IOException thrown if an error occurrs while writing the export
      */
-    private boolean isValidNamespace(String ns) {
-        return (ns != null) && ns.startsWith( OTM_ROOT_NAMESPACE ) && !isExcluded( ns );
+    private void exportToFiles(FileExportSink sink, ProgressMonitor monitor) throws RepositoryException, IOException {
+        if (monitor != null) {
+            monitor.jobStarted( "Scanning remote repository..." );
+        }
+        try (ExportWriter writer = sink.openWriter()) {
+            runExportPipeline( writer, CompletableFuture.completedFuture( null ), monitor );
+
+            if (writer.getSummary() != null) {
+                reportMessage( monitor, writer.getSummary() );
+            }
+        }
+        if (monitor != null) {
+            monitor.progress( 1.0, "Repository exported to " + sink.getDescription() );
+            monitor.jobComplete();
+        }
     }
 
     /**
-     * Returns true if the item with the given name should be excluded from the export.
+     * Runs the export pipeline and then commits and pushes the result to the 'origin' remote of the given Git
+     * repository. If no remote has been configured, the remote is assigned from the result of the remote repository
+     * creation. If the export pipeline did not modify the content of an existing export, no commit is created.
      * 
-     * @param itemName the name of the item to check
-     * @return boolean
+     * @param git the Git repository in the export folder
+     * @param sink the Git export sink that will receive the export
+     * @param remoteCreation the future result that provides the URL of the remote repository
+     * @param monitor the progress monitor for the job
+     * @throws RepositoryException thrown if an error occurrs while accessing the OTM repository
+     * @throws GitAPIException thrown if an error occurrs while committing or pushing the export
+     * @throws URISyntaxException thrown if the URL of the remote repository is invalid
+     * @throws IOException thrown if an error occurrs while creating the export
      */
-    private boolean isExcluded(String itemName) {
-        boolean excluded = false;
+    private void commitAndPushExport(Git git, GitExportSink sink, CompletableFuture<String> remoteCreation,
+        ProgressMonitor monitor) throws RepositoryException, GitAPIException, URISyntaxException, IOException {
+        try (GitIndexWriter writer = new GitIndexWriter( git.getRepository(), isDirectTreeRun() )) {
+            boolean initialExport = (getOriginUrl( git ) == null);
+            String commitMessage = initialExport ? "Initial commit" : "Update from OTM repository";
+            boolean exportModified;
 
-        for (String exclude : EXCLUDED_NAMES) {
-            excluded |= itemName.contains( exclude );
+            try {
+                exportModified = runExportPipeline( writer, remoteCreation, monitor );
+
+            } catch (RepositoryException | IOException e) {
+                // Retain the remote of a repository that was created so the next export does not try to create it again
+                if (initialExport && remoteCreation.isDone() && !remoteCreation.isCompletedExceptionally()) {
+                    git.remoteAdd().setName( "origin" ).setUri( new URIish( remoteCreation.join() ) ).call();
+                }
+                throw e;
+            }
+
+            if (!exportModified && !initialExport) {
+                if (monitor != null) {
+                    monitor.progress( 1.0, "Repository export is already up to date." );
+                }
+
+            } else {
+                if (monitor != null) {
+                    monitor.progress( 1.0, "Pushing repository export to " + sink.getDescription() );
+                }
+                if (initialExport) {
+                    String remoteRepoUrl = awaitRemoteCreation( remoteCreation );
+
+                    git.remoteAdd().setName( "origin" ).setUri( new URIish( remoteRepoUrl ) ).call();
+                }
+                metrics.phaseStarted( Phase.COMMIT );
+
+                if (isDirectTreeRun()) {
+                    writer.createCommit( commitMessage );
+                } else {
+                    git.commit().setMessage( commitMessage ).call();
+                }
+                metrics.phaseEnded( Phase.COMMIT );
+                long pushSize = getPushSize( git.getRepository() );
+                long pushStartNanos = System.nanoTime();
+
+                metrics.phaseStarted( Phase.PUSH );
+                git.push().setCredentialsProvider( sink.getCredentialsProvider() )
+                    .setProgressMonitor( cancellationToken.asGitProgressMonitor() ).setRemote( "origin" ).call();
+                metrics.recordItem( Phase.PUSH, System.nanoTime() - pushStartNanos, pushSize );
+                metrics.phaseEnded( Phase.PUSH );
+            }
         }
-        return excluded;
+
+        if (manifest != null) {
+            manifest.save();
+        }
+        if (monitor != null) {
+            monitor.jobComplete();
+        }
+    }
+
+    /**
+     * Returns the size of the objects that a push of the current branch will send to the 'origin' remote: the objects
+     * reachable from <code>HEAD</code> that are not reachable from the remote-tracking branch of an existing export.
+     * JGit does not report the size of the pack that it sends, so the uncompressed size of the objects in that pack
+     * is recorded as the size of the push.
+     * 
+     * @param gitRepository the Git repository in the export folder
+     * @return long
+     * @throws IOException thrown if the objects of the repository cannot be read
+     */
+    private long getPushSize(Repository gitRepository) throws IOException {
+        ObjectId head = gitRepository.resolve( Constants.HEAD );
+        long pushSize = 0;
+
+        if (head != null) {
+            try (ObjectWalk walk = new ObjectWalk( gitRepository )) {
+                ObjectId remoteHead = gitRepository.resolve( "refs/remotes/origin/" + gitRepository.getBranch() );
+                ObjectReader reader = walk.getObjectReader();
+                RevObject object;
+
+                walk.markStart( walk.parseCommit( head ) );
+
+                if (remoteHead != null) {
+                    walk.markUninteresting( walk.parseCommit( remoteHead ) );
+                }
+                while ((object = walk.next()) != null) {
+                    pushSize += reader.getObjectSize( object, ObjectReader.OBJ_ANY );
+                }
+                while ((object = walk.nextObject()) != null) {
+                    pushSize += reader.getObjectSize( object, ObjectReader.OBJ_ANY );
+                }
+            }
+        }
+        return pushSize;
+    }
+
+    /**
+     * Starts the creation of the sink's remote repository in the background if no 'origin' remote has been configured
+     * for the given Git repository. The future that is returned provides the URL of the remote repository.
+     * 
+     * @param git the Git repository in the export folder
+     * @param sink the Git export sink whose remote repository is to be created
+     * @return CompletableFuture&lt;String&gt;
+     */
+    private CompletableFuture<String> startRemoteCreation(Git git, GitExportSink sink) {
+        String originUrl = getOriginUrl( git );
+        CompletableFuture<String> remoteCreation;
+
+        if (originUrl == null) {
+            ExecutorService executor = Executors.newSingleThreadExecutor( new NamedThreadFactory( "otm-remote" ) );
+
+            try {
+                remoteCreation = CompletableFuture.supplyAsync( () -> {
+                    try {
+                        return sink.createRemote( cancellationToken );
+
+                    } catch (IOException e) {
+                        throw new CompletionException( e );
+                    }
+                }, executor );
+
+            } finally {
+                executor.shutdown();
+            }
+
+        } else {
+            remoteCreation = CompletableFuture.completedFuture( originUrl );
+        }
+        return remoteCreation;
+    }
+
+    /**
+     * Waits for the creation of the remote repository to complete and returns its URL.
+     * 
+     * @param remoteCreation the future result of the remote repository creation
+     * @return String
+     * @throws IOException thrown if the remote repository could not be created
+     */
+    private String awaitRemoteCreation(CompletableFuture<String> remoteCreation) throws IOException {
+        try {
+            return remoteCreation.join();
+
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException( "Error creating remote export repository", cause );
+        }
+    }
+
+    /**
+     * Fetches the specified branch of the sink's existing export repository into the given Git repository, and makes
+     * its latest commit the current <code>HEAD</code>. The index is loaded from the fetched tree so that the next
+     * export commit contains only the differences from the existing export. The working tree is not modified.
+     * 
+     * @param git the Git repository in the export folder
+     * @param sink the Git export sink whose remote repository is to be fetched
+     * @param branchName the name of the branch to fetch
+     * @throws GitAPIException thrown if the existing repository cannot be fetched
+     * @throws URISyntaxException thrown if the URL of the remote repository is invalid
+     * @throws IOException thrown if the local branch or index cannot be updated
+     */
+    private void fetchExistingExport(Git git, GitExportSink sink, String branchName)
+        throws GitAPIException, URISyntaxException, IOException {
+        Repository gitRepository = git.getRepository();
+        String branchRef = Constants.R_HEADS + branchName;
+        ObjectId remoteHead;
+
+        git.remoteAdd().setName( "origin" ).setUri( new URIish( sink.getRemoteUrl() ) ).call();
+        git.fetch().setRemote( "origin" ).setCredentialsProvider( sink.getCredentialsProvider() )
+            .setProgressMonitor( cancellationToken.asGitProgressMonitor() )
+            .setRefSpecs( new RefSpec( "+refs/heads/*:refs/remotes/origin/*" ) ).call();
+        gitRepository.updateRef( Constants.HEAD ).link( branchRef );
+        remoteHead = gitRepository.resolve( "refs/remotes/origin/" + branchName );
+
+        if (remoteHead != null) { // Null if the existing repository is empty
+            RefUpdate branchUpdate = gitRepository.updateRef( branchRef );
+
+            branchUpdate.setNewObjectId( remoteHead );
+            branchUpdate.setRefLogMessage( "fetch: existing export", false );
+            branchUpdate.forceUpdate();
+
+            if (!isDirectTreeRun()) {
+                GitIndexWriter.readTree( gitRepository, remoteHead );
+            }
+        }
+    }
+
+    /**
+     * Runs the export pipeline that lists, downloads, stages, and indexes all repository items to be exported. Upon
+     * successful completion, the given writer reflects the full content of the export. If the creation of the remote
+     * repository fails while the pipeline is running, the pipeline is stopped immediately and the creation error is
+     * thrown.
+     * 
+     * @param writer the index writer for the Git repository in the export folder, or the writer of a file export sink
+     * @param remoteCreation the future result of the remote repository creation
+     * @param monitor the progress monitor for the job
+     * @return boolean true if any file in the export folder was added, modified, or removed
+     * @throws RepositoryException thrown if an error occurrs while accessing the OTM repository
+     * @throws IOException thrown if an error occurrs while staging or indexing the export
+     */
+    private boolean runExportPipeline(ExportWriter writer, CompletableFuture<String> remoteCreation,
+        ProgressMonitor monitor) throws RepositoryException, IOException {
+        ExportPipeline pipeline =
+            new ExportPipeline( newDownloadEngine(), this::stageItem, writer, pipelineQueueCapacity, monitor );
+        WorkAborter aborter = new WorkAborter( pipeline::shutdown );
+
+        remoteCreation.whenComplete( (url, error) -> {
+            if (error != null) {
+                aborter.run();
+            }
+        } );
+        cancellationToken.addListener( aborter );
+        pipeline.setMetrics( metrics );
+        pipeline.setJournal( journal );
+
+        try {
+            indexWriter = writer;
+            pipeline.start();
+            Set<String> exportFilenames = new HashSet<>();
+
+            try (RepositoryItemStream itemStream = openItemStream( monitor )) {
+                RepositoryItem item;
+
+                while ((item = itemStream.next()) != null) {
+                    exportFilenames.add( item.getFilename() );
+                    submitItem( pipeline, item );
+                }
+            }
+
+            for (String filename : findObsoleteFiles( exportFilenames, writer )) {
+                pipeline.remove( filename );
+            }
+            boolean exportModified = pipeline.finish();
+
+            if (!isStagingBypassed()) {
+                reportStagingSummary( monitor );
+            }
+            return exportModified;
+
+        } catch (InterruptedException e) {
+            cancellationToken.throwIfCancelled();
+
+            if (remoteCreation.isCompletedExceptionally()) {
+                awaitRemoteCreation( remoteCreation );
+            }
+            Thread.currentThread().interrupt();
+            throw new RepositoryException( "Repository export interrupted", e );
+
+        } finally {
+            cancellationToken.removeListener( aborter );
+            aborter.finished();
+            pipeline.shutdown();
+            indexWriter = null;
+        }
+    }
+
+    /**
+     * Submits the given item to the export pipeline. Items of offline exports or whose download was completed by a
+     * previous (failed) run bypass the download phase. All other items are downloaded, even for incremental exports,
+     * since the content of a draft library may change on the remote repository without a change to its version; for
+     * incremental exports, the OTM client transfers the content only if the local copy is out of date, and the stage
+     * phase skips the items whose content matches the export manifest.
+     * 
+     * @param pipeline the export pipeline
+     * @param item the repository item to submit
+     * @throws RepositoryException thrown if the local copy of the library file cannot be checked
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for queue space
+     */
+    private void submitItem(ExportPipeline pipeline, RepositoryItem item)
+        throws RepositoryException, InterruptedException {
+        if (offlineExport || isDownloadJournaled( item )) {
+            pipeline.submitDownloaded( item );
+
+        } else {
+            pipeline.submit( item, true );
+        }
+    }
+
+    /**
+     * Reports the staging strategy that was used and the number of bytes that were not copied. A warning is reported
+     * if hard links were requested but could not be created in the export folder.
+     * 
+     * @param monitor the progress monitor for the job
+     */
+    private void reportStagingSummary(ProgressMonitor monitor) {
+        if (fileStager.isLinkFailed()) {
+            reportWarning( monitor, "Unable to create hard links in the export folder (used zero-copy)" );
+        }
+        reportMessage( monitor, fileStager.getSummary() );
+    }
+
+    /**
+     * Reports the given informational message to the progress monitor (if any).
+     * 
+     * @param monitor the progress monitor for the job (may be null)
+     * @param message the message to report
+     */
+    private static void reportMessage(ProgressMonitor monitor, String message) {
+        if (monitor != null) {
+            monitor.jobMessage( message );
+        }
+    }
+
+    /**
+     * Reports the given warning to the progress monitor (if any).
+     * 
+     * @param monitor the progress monitor for the job (may be null)
+     * @param message the warning message to report
+     */
+    private static void reportWarning(ProgressMonitor monitor, String message) {
+        if (monitor != null) {
+            monitor.jobWarning( message );
+        }
+    }
+
+    /**
+     * Initializes the folder where the export will be assembled. Incremental and resumable exports use a persistent
+     * workspace that is retained between runs; all other exports use a temporary folder that is deleted when the
+     * exporter is closed. For resumable exports, the journal of the previous run (if any) is also opened.
+     * 
+     * @param monitor the progress monitor for the job (may be null)
+     * @throws IOException thrown if the export folder cannot be created
+     */
+    private void initExportFolder(ProgressMonitor monitor) throws IOException {
+        if (exportFolder == null) {
+            if (isIncrementalRun() || isResumableRun()) {
+                exportFolder = ExportManifest.getWorkspaceFolder( ghOwnerName, ghRepositoryName, isDirectTreeRun() );
+                exportFolder.mkdirs();
+
+                if (isIncrementalRun()) {
+                    manifest = new ExportManifest( ghOwnerName, ghRepositoryName, isDirectTreeRun() );
+                }
+                if (isResumableRun()) {
+                    journal = new DownloadJournal(
+                        DownloadJournal.getJournalFile( ghOwnerName, ghRepositoryName, isDirectTreeRun() ) );
+
+                    if (journal.getDownloadCount() > 0) {
+                        reportMessage( monitor, String.format( "Resuming export (%d libraries already downloaded)",
+                            journal.getDownloadCount() ) );
+                    }
+                }
+
+            } else {
+                EXPORTS_FOLDER.mkdirs();
+                exportFolder = Files.createTempDirectory( EXPORTS_FOLDER.toPath(), "otm_export_" ).toFile();
+            }
+            fileStager = new FileStager( stagingStrategy, fileManager.getRepositoryLocation(), exportFolder );
+        }
+    }
+
+    /**
+     * Opens the existing Git repository in the export folder, or initializes a new one if no repository exists. For
+     * direct tree exports, the export folder contains a bare repository with no working tree.
+     * 
+     * @return Git
+     * @throws GitAPIException thrown if a new Git repository cannot be initialized
+     * @throws IOException thrown if the existing Git repository cannot be opened
+     */
+    private Git openExportGitRepository() throws GitAPIException, IOException {
+        File gitFolder = isDirectTreeRun() ? exportFolder : new File( exportFolder, "/.git" );
+
+        return new File( gitFolder, "/objects" ).exists() ? Git.open( exportFolder )
+            : Git.init().setBare( isDirectTreeRun() ).setDirectory( exportFolder ).call();
+    }
+
+    /**
+     * Verifies that the 'origin' remote of the given Git repository (if any) is the remote URL of the sink. A
+     * persistent workspace is linked to the remote it was first exported to, so it cannot be exported elsewhere.
+     * 
+     * @param git the Git repository in the export folder
+     * @param sink the Git export sink that will receive the export
+     * @throws IOException thrown if the workspace is linked to a different remote
+     */
+    private void checkOriginUrl(Git git, GitExportSink sink) throws IOException {
+        String originUrl = getOriginUrl( git );
+
+        if ((originUrl != null) && !originUrl.equals( sink.getRemoteUrl() )) {
+            throw new IOException( "The export workspace " + exportFolder.getAbsolutePath() + " is linked to "
+                + originUrl + " rather than " + sink.getRemoteUrl()
+                + " - delete the workspace to export to the new remote" );
+        }
+    }
+
+    /**
+     * Returns the URL of the 'origin' remote of the given Git repository, or null if no such remote is configured.
+     * 
+     * @param git the Git repository to check
+     * @return String
+     */
+    private String getOriginUrl(Git git) {
+        return git.getRepository().getConfig().getString( "remote", "origin", "url" );
+    }
+
+    /**
+     * Scans the remote repository and ensures that all libraries to be exported have been downloaded to the local file
+     * system. The export itself streams each item through the export pipeline instead; this method lists the same
+     * items with {@link #openItemStream} and downloads them with the same engine, for callers that need the complete
+     * list before staging. The list that is returned is sorted by base namespace, filename, and version.
+     * 
+     * @param monitor the progress monitor for the job
+     * @return List&lt;RepositoryItem&gt;
+     * @throws RepositoryException thrown if the repository cannot be listed or a library cannot be downloaded
+     */
+    protected List<RepositoryItem> scanRepository(ProgressMonitor monitor) throws RepositoryException {
+        DownloadEngine engine = newDownloadEngine();
+        WorkAborter aborter = new WorkAborter( engine::shutdown );
+
+        if (monitor != null) {
+            monitor.jobStarted( "Scanning remote repository..." );
+        }
+
+        try {
+            cancellationToken.addListener( aborter );
+            if (journal != null) {
+                engine.setListener( journal::recordDownload );
+            }
+            engine.start( monitor );
+            List<RepositoryItem> allItems = new ArrayList<>();
+
+            try (RepositoryItemStream itemStream = openItemStream( monitor )) {
+                RepositoryItem item;
+
+                while ((item = itemStream.next()) != null) {
+                    allItems.add( item );
+
+                    if (!offlineExport && !isDownloadJournaled( item )) {
+                        engine.submit( item );
+                    }
+                }
+            }
+
+            DownloadEngine.checkFailures( engine.awaitCompletion(), allItems.size(), monitor );
+            allItems.sort( ITEM_ORDER );
+            return allItems;
+
+        } catch (InterruptedException e) {
+            cancellationToken.throwIfCancelled();
+            Thread.currentThread().interrupt();
+            throw new RepositoryException( "Repository scan interrupted", e );
+
+        } finally {
+            cancellationToken.removeListener( aborter );
+            aborter.finished();
+            engine.shutdown();
+        }
+    }
+
+    /**
+     * Opens a stream of the repository items that should be included in the export. The items of each base namespace
+     * are listed concurrently, and the number of listed items waiting to be consumed is limited to the pipeline queue
+     * capacity. Offline exports list the items from the local repository cache instead of the OTM repository.
+     * 
+     * @param monitor the progress monitor for the job (may be null)
+     * @return RepositoryItemStream
+     * @throws RepositoryException thrown if an error occurrs while listing the repository namespaces
+     * @throws InterruptedException thrown if the calling thread is interrupted while listing the namespaces
+     */
+    private RepositoryItemStream openItemStream(ProgressMonitor monitor)
+        throws RepositoryException, InterruptedException {
+        RepositoryItemSource itemSource = repositoryClient;
+
+        if (offlineExport) {
+            LocalRepositoryCache cache = new LocalRepositoryCache( fileManager, repository, OTM_REPOSITORY_ID );
+
+            cache.setMaxAgeMillis( offlineMaxAgeMillis );
+            cache.setMonitor( monitor );
+            itemSource = cache;
+        }
+        RepositoryItemStream itemStream = new RepositoryItemStream( itemSource, RepositoryExporter::isValidNamespace,
+            item -> !isExcluded( item.getFilename() ), metrics );
+
+        try {
+            itemStream.open( listingThreads, pipelineQueueCapacity );
+            return itemStream;
+
+        } catch (RepositoryException | InterruptedException | RuntimeException e) {
+            itemStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a new download engine that is configured with the concurrency settings of this exporter. The engine
+     * downloads the largest libraries first, based on the sizes recorded by earlier exports.
+     * 
+     * @return DownloadEngine
+     */
+    private DownloadEngine newDownloadEngine() {
+        DownloadEngine engine = new DownloadEngine( repositoryClient, downloadThreads, useVirtualThreads );
+
+        engine.setSizeEstimator( this::estimateDownloadSize );
+        engine.setContentLocator( item -> fileManager.getLibraryContentLocation( item.getBaseNamespace(),
+            item.getFilename(), item.getVersion() ) );
+        engine.setCancellationToken( cancellationToken );
+        return engine;
+    }
+
+    /**
+     * Returns the estimated download size of the given item. The size recorded in the export manifest is used if
+     * available; otherwise, the size of the item's content from an earlier download (if any) is used.
+     * 
+     * @param item the repository item whose size is to be estimated
+     * @return long
+     */
+    private long estimateDownloadSize(RepositoryItem item) {
+        ManifestEntry entry = (manifest == null) ? null : manifest.getEntry( item.getFilename() );
+        long estimatedSize = -1;
+
+        if (entry != null) {
+            estimatedSize = entry.getSize();
+
+        } else {
+            try {
+                File contentFile = fileManager.getLibraryContentLocation( item.getBaseNamespace(), item.getFilename(),
+                    item.getVersion() );
+
+                if (contentFile.exists()) {
+                    estimatedSize = contentFile.length();
+                }
+
+            } catch (RepositoryException e) {
+                // Ignore and report an unknown size
+            }
+        }
+        return estimatedSize;
+    }
+
+    /**
+     * Returns true if the journal of a previous run records that the given item was downloaded and its content is
+     * still available in the local repository.
+     * 
+     * @param item the repository item to check
+     * @return boolean
+     * @throws RepositoryException thrown if the local copy of the library file cannot be located
+     */
+    private boolean isDownloadJournaled(RepositoryItem item) throws RepositoryException {
+        return (journal != null) && journal.isDownloaded( item ) && fileManager
+            .getLibraryContentLocation( item.getBaseNamespace(), item.getFilename(), item.getVersion() ).exists();
+    }
+
+    /**
+     * Copies the files associated with each repository item (library) in the list to the export folder. Each item is
+     * staged by {@link #stageItem}, as in the stage phase of the export pipeline, so incremental exports copy only new
+     * or changed libraries. Libraries that are no longer part of the export are deleted.
+     * 
+     * @param itemList the list of repository items to be exported
+     * @return boolean true if the content of the export folder was modified
+     * @throws RepositoryException thrown if the local copy of the library file cannot be located
+     * @throws IOException thrown if an error occurrs while copying the files
+     */
+    protected boolean copyFilesToExport(List<RepositoryItem> itemList) throws RepositoryException, IOException {
+        boolean exportModified = false;
+
+        for (RepositoryItem item : itemList) {
+            cancellationToken.throwIfCancelled();
+            exportModified |= (stageItem( item ) != null);
+        }
+        exportModified |= !removeObsoleteFiles( getFilenames( itemList ) ).isEmpty();
+        reportStagingSummary( null );
+        return exportModified;
+    }
+
+    /**
+     * Returns the filenames of the given repository items.
+     * 
+     * @param itemList the list of repository items
+     * @return Set&lt;String&gt;
+     */
+    private static Set<String> getFilenames(List<RepositoryItem> itemList) {
+        Set<String> filenames = new HashSet<>();
+
+        for (RepositoryItem item : itemList) {
+            filenames.add( item.getFilename() );
+        }
+        return filenames;
+    }
+
+    /**
+     * Returns true if the given item is already present in the export. While the export pipeline is running, this is
+     * determined by the export writer; otherwise, the export folder is checked for the library file.
+     * 
+     * @param item the repository item to check
+     * @return boolean
+     */
+    private boolean isExported(RepositoryItem item) {
+        ExportWriter writer = indexWriter;
+
+        return (writer != null) ? writer.contains( item.getFilename() )
+            : new File( exportFolder, String.format( "/%s", item.getFilename() ) ).exists();
+    }
+
+    /**
+     * Stages the file associated with the given repository item in the export folder using the configured staging
+     * strategy and returns the staged file. For incremental exports, null is returned without copying if the export
+     * already contains the current content of the library. For direct tree exports and file export sinks, no copy is
+     * made and the library file in the local repository is returned.
+     * 
+     * @param item the repository item to be staged
+     * @return File
+     * @throws RepositoryException thrown if the local copy of the library file cannot be located
+     * @throws IOException thrown if an error occurrs while copying the file
+     */
+    private File stageItem(RepositoryItem item) throws RepositoryException, IOException {
+        File sourceFile =
+            fileManager.getLibraryContentLocation( item.getBaseNamespace(), item.getFilename(), item.getVersion() );
+        File destFile = new File( exportFolder, String.format( "/%s", item.getFilename() ) );
+
+        if ((manifest != null) && isExported( item ) && manifest.isUnchanged( item, sourceFile )) {
+            destFile = null;
+
+        } else {
+            if (isStagingBypassed() && (indexWriter != null)) {
+                destFile = sourceFile;
+
+            } else if ((journal == null) || !journal.isStaged( item, sourceFile, destFile )) {
+                fileStager.stage( sourceFile, destFile );
+
+                if (journal != null) {
+                    journal.recordStaged( item, sourceFile );
+                }
+            }
+
+            if (manifest != null) {
+                manifest.update( item, sourceFile );
+            }
+        }
+        return destFile;
+    }
+
+    /**
+     * Deletes the files of any libraries that were included in the previous export but are not part of the given set
+     * of export filenames. In addition to the libraries recorded in the export manifest, any library in the Git index
+     * that is not part of the export is considered obsolete. The filenames of the obsolete libraries are returned.
+     * 
+     * @param exportFilenames the filenames of the repository items to be exported
+     * @param writer the index writer for the Git repository in the export folder, or the writer of a file export sink
+     * @return Set&lt;String&gt;
+     */
+    private Set<String> findObsoleteFiles(Set<String> exportFilenames, ExportWriter writer) {
+        Set<String> obsoleteFilenames = new TreeSet<>( removeObsoleteFiles( exportFilenames ) );
+
+        for (String path : writer.getPaths()) {
+            if (path.endsWith( LIBRARY_FILE_EXTENSION ) && !exportFilenames.contains( path )) {
+                new File( exportFolder, String.format( "/%s", path ) ).delete();
+                obsoleteFilenames.add( path );
+            }
+        }
+        return obsoleteFilenames;
+    }
+
+    /**
+     * Deletes the files of any libraries from the export folder that were included in the previous export but are not
+     * part of the given set of export filenames. The filenames of the deleted libraries are returned.
+     * 
+     * @param exportFilenames the filenames of the repository items to be exported
+     * @return List&lt;String&gt;
+     */
+    private List<String> removeObsoleteFiles(Set<String> exportFilenames) {
+        List<String> obsoleteFilenames = new ArrayList<>();
+
+        if (manifest != null) {
+            Set<String> filenames = manifest.getFilenames();
+
+            filenames.removeAll( exportFilenames );
+
+            for (String filename : filenames) {
+                new File( exportFolder, String.format( "/%s", filename ) ).delete();
+                manifest.remove( filename );
+                obsoleteFilenames.add( filename );
+            }
+        }
+        return obsoleteFilenames;
+    }
+
+    /**
+     * Returns true if files are written to the export directly from the local repository instead of being staged in
+     * the export folder. This is the case for direct tree exports and for exports to file export sinks.
+     * 
+     * @return boolean
+     */
+    private boolean isStagingBypassed() {
+        return isDirectTreeRun() || isFileExport();
+    }
+
+    /**
+     * Returns true if the export sink receives files directly instead of through a Git repository. Incremental,
+     * resumable, and direct tree exports are not supported for such sinks, so those settings are ignored (without
+     * being changed) while exporting to them.
+     * 
+     * @return boolean
+     */
+    private boolean isFileExport() {
+        return exportSink instanceof FileExportSink;
+    }
+
+    /**
+     * Returns true if the current export is incremental, taking into account whether the export sink supports it.
+     * 
+     * @return boolean
+     */
+    private boolean isIncrementalRun() {
+        return incrementalExport && !isFileExport();
+    }
+
+    /**
+     * Returns true if the current export is resumable, taking into account whether the export sink supports it.
+     * 
+     * @return boolean
+     */
+    private boolean isResumableRun() {
+        return resumeExport && !isFileExport();
+    }
+
+    /**
+     * Returns true if the current export is a direct tree export, taking into account whether the export sink supports
+     * it.
+     * 
+     * @return boolean
+     */
+    private boolean isDirectTreeRun() {
+        return directTreeExport && !isFileExport();
+    }
+
+    /**
+     * Returns true if an existing export repository should be updated rather than causing the export to fail. This is
+     * always the case for local Git repositories, which are created by the first export and updated by later ones.
+     * 
+     * @return boolean
+     */
+    private boolean isUpdateExistingRun() {
+        return updateExistingRepository || (exportSink instanceof LocalGitExportSink);
+    }
+
+    /**
+     * Returns true if the given value is null or contains only whitespace.
+     * 
+     * @param value the value to check
+     * @return boolean
+     */
+    private static boolean isBlank(String value) {
+        return (value == null) || value.trim().isEmpty();
+    }
+
+    /**
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() throws Exception {
+        metrics.unregisterMBean();
+
+        if (journal != null) {
+            journal.close();
+        }
+        if ((exportFolder != null) && !isIncrementalRun() && (!isResumableRun() || exportSucceeded)) {
+            FileUtils.deleteDirectory( exportFolder );
+        }
+    }
+
+    /**
+     * Returns true if the given namespace should be included in the export.
+     * 
+     * @param ns the namespace to check
+     * @return boolean
+     */
+    static boolean isValidNamespace(String ns) {
+        return (ns != null) && ns.startsWith( OTM_ROOT_NAMESPACE ) && !isExcluded( ns );
+    }
+
+    /**
+     * Returns true if the item with the given name should be excluded from the export.
+     * 
+     * @param itemName the name of the item to check
+     * @return boolean
+     */
+    static boolean isExcluded(String itemName) {
+        boolean excluded = false;
+
+        for (String exclude : EXCLUDED_NAMES) {
+            excluded |= itemName.contains( exclude );
+        }
+        return excluded;
+    }
+
+    /**
+     * Aborts a unit of work that is running on the thread that created this aborter by running a shutdown action and
+     * interrupting the thread. Once the work has finished, the aborter has no further effect and any interrupt it may
+     * have delivered is cleared.
+     */
+    private static class WorkAborter implements Runnable {
+
+        private Runnable shutdownAction;
+        private Thread workerThread = Thread.currentThread();
+        private boolean active = true;
+        private boolean aborted;
+
+        /**
+         * Constructor that specifies the action that will stop the background workers.
+         * 
+         * @param shutdownAction the action that stops the background workers
+         */
+        public WorkAborter(Runnable shutdownAction) {
+            this.shutdownAction = shutdownAction;
+        }
+
+        /**
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public synchronized void run() {
+            if (active) {
+                shutdownAction.run();
+                workerThread.interrupt();
+                aborted = true;
+            }
+        }
+
+        /**
+         * Called by the worker thread once the work has finished.
+         */
+        public synchronized void finished() {
+            active = false;
+
+            if (aborted) {
+                Thread.interrupted(); // Clear the interrupt that was used to abort the work
+            }
+        }
+
     }
 
 }
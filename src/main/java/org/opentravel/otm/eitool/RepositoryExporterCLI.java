@@ -0,0 +1,429 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.otm.eitool.FileStager.StagingStrategy;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless command-line runner that exports the OpenTravel OTM repository to GitHub (or another export sink) without
+ * requiring a display. All settings may be provided as command-line options, and the identifying information and
+ * credentials may also be provided as environment variables so that they do not appear in process listings. The exit
+ * status of the process indicates the outcome of the export.
+ */
+public class RepositoryExporterCLI {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_EXPORT_FAILED = 1;
+    public static final int EXIT_USAGE_ERROR = 2;
+    public static final int EXIT_OTM_AUTH_FAILED = 3;
+
+    public static final String ENV_OWNER = "OTM_EXPORT_OWNER";
+    public static final String ENV_REPOSITORY = "OTM_EXPORT_REPOSITORY";
+    public static final String ENV_GITHUB_TOKEN = "GITHUB_TOKEN";
+    public static final String ENV_GITHUB_API_URL = "GITHUB_API_URL";
+    public static final String ENV_REMOTE_URL = "OTM_EXPORT_REMOTE_URL";
+    public static final String ENV_OTM_USERNAME = "OTM_USERNAME";
+    public static final String ENV_OTM_PASSWORD = "OTM_PASSWORD";
+
+    private static final String LOCAL_OWNER_NAME = "local";
+    private static final List<String> VALUE_OPTIONS = Arrays.asList( "owner", "repo", "token", "github-api",
+        "remote-url", "otm-user", "otm-password", "download-threads", "listing-threads", "queue-capacity",
+        "max-attempts", "call-timeout", "max-age", "staging", "output", "gzip-threads",
+        "report" );
+    private static final List<String> FLAG_OPTIONS = Arrays.asList( "org", "user", "virtual-threads", "adaptive",
+        "incremental", "resume", "offline", "direct-tree", "update-existing", "plan", "jmx", "help" );
+
+    private Map<String, String> options = new HashMap<>();
+    private Map<String, String> environment;
+    private PrintStream out;
+
+    /**
+     * Default constructor that reads settings from the process environment and writes to the standard output stream.
+     */
+    public RepositoryExporterCLI() {
+        this( System.getenv(), System.out );
+    }
+
+    /**
+     * Constructor that specifies the environment variables and output stream to use.
+     * 
+     * @param environment the environment variables from which default settings are obtained
+     * @param out the stream to which progress and error messages will be written
+     */
+    public RepositoryExporterCLI(Map<String, String> environment, PrintStream out) {
+        this.environment = environment;
+        this.out = out;
+    }
+
+    /**
+     * Runs the export using the settings from the given command-line arguments and returns the exit status.
+     * 
+     * @param args the command-line arguments
+     * @return int
+     */
+    public int run(String[] args) {
+        ConsoleProgressMonitor monitor = new ConsoleProgressMonitor( out );
+        String ownerName;
+        String repositoryName;
+        String accessToken;
+
+        try {
+            parseArguments( args );
+
+            if (options.containsKey( "help" )) {
+                printUsage();
+                return EXIT_SUCCESS;
+            }
+            if (options.containsKey( "org" ) && options.containsKey( "user" )) {
+                throw new IllegalArgumentException( "Options --org and --user cannot be used together." );
+            }
+            if (options.containsKey( "output" )) {
+                File outputFile = new File( options.get( "output" ) );
+
+                ownerName = getOption( "owner", ENV_OWNER );
+                ownerName = (ownerName != null) ? ownerName : LOCAL_OWNER_NAME;
+                repositoryName = getOption( "repo", ENV_REPOSITORY );
+                repositoryName = (repositoryName != null) ? repositoryName : outputFile.getName();
+                accessToken = null;
+
+            } else {
+                ownerName = getRequiredOption( "owner", ENV_OWNER );
+                repositoryName = getRequiredOption( "repo", ENV_REPOSITORY );
+                accessToken = options.containsKey( "plan" ) ? getOption( "token", ENV_GITHUB_TOKEN )
+                    : getRequiredOption( "token", ENV_GITHUB_TOKEN );
+            }
+
+        } catch (IllegalArgumentException e) {
+            out.println( "ERROR: " + e.getMessage() );
+            printUsage();
+            return EXIT_USAGE_ERROR;
+        }
+
+        try (RepositoryExporter exporter = new RepositoryExporter( ownerName, !options.containsKey( "user" ),
+            repositoryName, accessToken, getOption( "github-api", ENV_GITHUB_API_URL ),
+            getOption( "remote-url", ENV_REMOTE_URL ) )) {
+            configureExporter( exporter );
+            return runExport( exporter, monitor );
+
+        } catch (IllegalArgumentException e) {
+            out.println( "ERROR: " + e.getMessage() );
+            printUsage();
+            return EXIT_USAGE_ERROR;
+
+        } catch (Exception e) {
+            return exportFailed( e, monitor );
+        }
+    }
+
+    /**
+     * Connects the configured exporter to the OTM repository (unless the export is offline) and then plans or runs
+     * the export. Since the options have already been validated, every failure is reported as an export failure,
+     * including an <code>IllegalArgumentException</code> thrown by the export itself.
+     * 
+     * @param exporter the configured exporter
+     * @param monitor the progress monitor for the export
+     * @return int the exit status of the export
+     */
+    private int runExport(RepositoryExporter exporter, ConsoleProgressMonitor monitor) {
+        try {
+            if (!options.containsKey( "offline" ) && !connectToOTMRepository( exporter )) {
+                monitor.jobError( "Unable to authenticate with the OTM repository (set " + ENV_OTM_USERNAME + " and "
+                    + ENV_OTM_PASSWORD + " or use --otm-user and --otm-password)" );
+                return EXIT_OTM_AUTH_FAILED;
+            }
+            if (options.containsKey( "plan" )) {
+                out.println( exporter.planExport( monitor ).getSummary() );
+
+            } else {
+                exporter.exportRepository( monitor );
+            }
+            return EXIT_SUCCESS;
+
+        } catch (Exception e) {
+            return exportFailed( e, monitor );
+        }
+    }
+
+    /**
+     * Reports the given export failure to the progress monitor and writes its stack trace.
+     * 
+     * @param e the exception that caused the export to fail
+     * @param monitor the progress monitor for the export
+     * @return int the exit status of a failed export
+     */
+    private int exportFailed(Exception e, ConsoleProgressMonitor monitor) {
+        monitor.jobError( e.getMessage() );
+        e.printStackTrace( out );
+        return EXIT_EXPORT_FAILED;
+    }
+
+    /**
+     * Applies the tuning options from the command line to the given exporter.
+     * 
+     * @param exporter the exporter to configure
+     * @throws IllegalArgumentException thrown if one of the option values is invalid
+     */
+    private void configureExporter(RepositoryExporter exporter) {
+        String stagingStrategy = options.get( "staging" );
+
+        exporter.setDownloadThreads( getIntOption( "download-threads", DownloadEngine.DEFAULT_THREAD_COUNT ) );
+        exporter.setListingThreads( getIntOption( "listing-threads", RepositoryExporter.DEFAULT_LISTING_THREADS ) );
+        exporter.setPipelineQueueCapacity( getIntOption( "queue-capacity", ExportPipeline.DEFAULT_QUEUE_CAPACITY ) );
+        exporter.setMaxCallAttempts( getIntOption( "max-attempts", ResilientRepositoryClient.DEFAULT_MAX_ATTEMPTS ) );
+        exporter.setCallTimeoutMillis( TimeUnit.SECONDS.toMillis( getIntOption( "call-timeout",
+            (int) TimeUnit.MILLISECONDS.toSeconds( ResilientRepositoryClient.DEFAULT_CALL_TIMEOUT_MILLIS ), 0 ) ) );
+        exporter.setUseVirtualThreads( options.containsKey( "virtual-threads" ) );
+        exporter.setAdaptiveConcurrency( options.containsKey( "adaptive" ) );
+        exporter.setIncrementalExport( options.containsKey( "incremental" ) );
+        exporter.setResumeExport( options.containsKey( "resume" ) );
+        exporter.setOfflineExport( options.containsKey( "offline" ) );
+        exporter.setOfflineMaxAgeMillis( TimeUnit.HOURS.toMillis( getIntOption( "max-age", 0 ) ) );
+        exporter.setDirectTreeExport( options.containsKey( "direct-tree" ) );
+        exporter.setUpdateExistingRepository( options.containsKey( "update-existing" ) );
+        exporter.setJmxEnabled( options.containsKey( "jmx" ) );
+
+        if (options.containsKey( "report" )) {
+            exporter.setReportFile( new File( options.get( "report" ) ) );
+        }
+        if (options.containsKey( "output" )) {
+            exporter.setExportSink( newExportSink( new File( options.get( "output" ) ) ) );
+        }
+
+        if (stagingStrategy != null) {
+            try {
+                exporter.setStagingStrategy(
+                    StagingStrategy.valueOf( stagingStrategy.toUpperCase( Locale.ROOT ).replace( '-', '_' ) ) );
+
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException( "Invalid staging strategy: " + stagingStrategy );
+            }
+        }
+    }
+
+    /**
+     * Returns the export sink for the given output location. Files with a <code>.tar.gz</code>, <code>.tgz</code>, or
+     * <code>.zip</code> extension receive an archive, folders with a <code>.git</code> extension receive a bare Git
+     * repository, and all other locations are treated as a plain directory.
+     * 
+     * @param output the output location of the export
+     * @return ExportSink
+     * @throws IllegalArgumentException thrown if the number of compression threads is invalid
+     */
+    private ExportSink newExportSink(File output) {
+        ExportSink sink;
+
+        if (ArchiveExportSink.ArchiveFormat.forFile( output ) != null) {
+            ArchiveExportSink archiveSink = new ArchiveExportSink( output );
+
+            archiveSink.setCompressionThreads(
+                getIntOption( "gzip-threads", Runtime.getRuntime().availableProcessors() ) );
+            sink = archiveSink;
+
+        } else if (output.getName().endsWith( ".git" )) {
+            sink = new LocalGitExportSink( output );
+
+        } else {
+            sink = new DirectoryExportSink( output );
+        }
+        return sink;
+    }
+
+    /**
+     * Tests the connection to the OTM repository. If the connection fails and OTM credentials were provided, the
+     * credentials are updated and the connection is tested again.
+     * 
+     * @param exporter the exporter whose OTM connection is to be tested
+     * @return boolean
+     * @throws Exception thrown if the OTM credentials cannot be updated
+     */
+    private boolean connectToOTMRepository(RepositoryExporter exporter) throws Exception {
+        boolean connected = exporter.testOTMConnection();
+
+        if (!connected) {
+            String username = getOption( "otm-user", ENV_OTM_USERNAME );
+            String password = getOption( "otm-password", ENV_OTM_PASSWORD );
+
+            if ((username != null) && (password != null)) {
+                exporter.updateOTMCredentials( username, password );
+                connected = exporter.testOTMConnection();
+            }
+        }
+        return connected;
+    }
+
+    /**
+     * Parses the command-line arguments. Options may be specified as <code>--name value</code> or
+     * <code>--name=value</code>.
+     * 
+     * @param args the command-line arguments
+     * @throws IllegalArgumentException thrown if an argument is not recognized or an option value is missing
+     */
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+
+            if (!arg.startsWith( "--" )) {
+                throw new IllegalArgumentException( "Unexpected argument: " + arg );
+            }
+            int equalsIdx = arg.indexOf( '=' );
+            String name = (equalsIdx < 0) ? arg.substring( 2 ) : arg.substring( 2, equalsIdx );
+            String value = (equalsIdx < 0) ? null : arg.substring( equalsIdx + 1 );
+
+            if (VALUE_OPTIONS.contains( name )) {
+                if (value == null) {
+                    if (++i >= args.length) {
+                        throw new IllegalArgumentException( "Missing value for option: --" + name );
+                    }
+                    value = args[i];
+                }
+                options.put( name, value );
+
+            } else if (FLAG_OPTIONS.contains( name ) && (value == null)) {
+                options.put( name, "true" );
+
+            } else {
+                throw new IllegalArgumentException( "Unrecognized option: " + arg );
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the specified option, or the value of the given environment variable if the option was not
+     * provided on the command line.
+     * 
+     * @param name the name of the command-line option
+     * @param envName the name of the environment variable
+     * @return String
+     */
+    private String getOption(String name, String envName) {
+        String value = options.get( name );
+
+        if ((value == null) && (envName != null)) {
+            value = environment.get( envName );
+        }
+        return ((value == null) || value.trim().isEmpty()) ? null : value.trim();
+    }
+
+    /**
+     * Returns the value of the specified option (or environment variable), throwing an exception if neither was
+     * provided.
+     * 
+     * @param name the name of the command-line option
+     * @param envName the name of the environment variable
+     * @return String
+     * @throws IllegalArgumentException thrown if no value was provided
+     */
+    private String getRequiredOption(String name, String envName) {
+        String value = getOption( name, envName );
+
+        if (value == null) {
+            throw new IllegalArgumentException( "Missing required option: --" + name + " (or " + envName + ")" );
+        }
+        return value;
+    }
+
+    /**
+     * Returns the positive integer value of the specified option, or the default value if the option was not provided.
+     * 
+     * @param name the name of the command-line option
+     * @param defaultValue the value to return if the option was not provided
+     * @return int
+     * @throws IllegalArgumentException thrown if the option value is not a positive integer
+     */
+    private int getIntOption(String name, int defaultValue) {
+        return getIntOption( name, defaultValue, 1 );
+    }
+
+    /**
+     * Returns the integer value of the given option, or the default value if the option was not provided.
+     * 
+     * @param name the name of the command-line option
+     * @param defaultValue the value to return if the option was not provided
+     * @param minValue the minimum value of the option (either zero or one)
+     * @return int
+     * @throws IllegalArgumentException thrown if the option value is not an integer of at least the minimum value
+     */
+    private int getIntOption(String name, int defaultValue, int minValue) {
+        String value = options.get( name );
+        int intValue = defaultValue;
+
+        if (value != null) {
+            try {
+                intValue = Integer.parseInt( value.trim() );
+
+            } catch (NumberFormatException e) {
+                intValue = -1;
+            }
+            if (intValue < minValue) {
+                throw new IllegalArgumentException( "Option --" + name + " must be a "
+                    + ((minValue > 0) ? "positive" : "non-negative") + " integer: " + value );
+            }
+        }
+        return intValue;
+    }
+
+    /**
+     * Writes the usage instructions for the command-line runner.
+     */
+    private void printUsage() {
+        out.println( "Usage: otm_export_cli [options]" );
+        out.println();
+        out.println( "  --owner <name>           GitHub organization or user that owns the export (or " + ENV_OWNER
+            + ")" );
+        out.println( "  --repo <name>            GitHub repository name for the export (or " + ENV_REPOSITORY + ")" );
+        out.println( "  --token <token>          GitHub access token (or " + ENV_GITHUB_TOKEN + ", recommended)" );
+        out.println( "  --github-api <url>       GitHub or GitHub Enterprise REST API base URL (or "
+            + ENV_GITHUB_API_URL + ")" );
+        out.println( "  --remote-url <template>  Git remote URL with {owner} and {repo} placeholders (or "
+            + ENV_REMOTE_URL + ")" );
+        out.println( "  --org | --user           Owner is an organization (default) or a personal account" );
+        out.println( "  --otm-user <name>        OTM repository username (or " + ENV_OTM_USERNAME + ")" );
+        out.println( "  --otm-password <pwd>     OTM repository password (or " + ENV_OTM_PASSWORD + ")" );
+        out.println( "  --download-threads <n>   Maximum concurrent library downloads" );
+        out.println( "  --listing-threads <n>    Maximum concurrent namespace listings" );
+        out.println( "  --queue-capacity <n>     Maximum items waiting between pipeline phases" );
+        out.println( "  --max-attempts <n>       Maximum attempts for each OTM repository call (with backoff)" );
+        out.println( "  --call-timeout <secs>    Time limit for each OTM repository call (0 = no limit)" );
+        out.println( "  --staging <strategy>     File staging strategy: auto, copy, zero-copy, or hard-link" );
+        out.println( "  --virtual-threads        Use virtual threads for downloads (if supported)" );
+        out.println( "  --adaptive               Adapt download concurrency to server latency" );
+        out.println( "  --incremental            Maintain a persistent workspace and export only changes" );
+        out.println( "  --resume                 Resume a failed export, skipping work it already completed" );
+        out.println( "  --offline                Export the locally cached libraries without the OTM repository" );
+        out.println( "  --max-age <hours>        Fail an offline export if any cached library is older than this" );
+        out.println( "  --direct-tree            Build the export commit directly in a bare Git repository" );
+        out.println( "  --update-existing        Update the GitHub repository if it already exists" );
+        out.println( "  --plan                   List the repository and report what an export would do (dry run)" );
+        out.println( "  --output <path>          Export to an archive (.tar.gz, .tgz, .zip), bare Git repo (.git),"
+            + " or directory" );
+        out.println( "  --gzip-threads <n>       Threads compressing a .tar.gz output (default: all processors)" );
+        out.println( "  --report <file>          Location of the JSON run report (default: next to the export)" );
+        out.println( "  --jmx                    Publish export metrics as a JMX MBean while the export runs" );
+        out.println( "  --help                   Display this message" );
+        out.println();
+        out.println( "Exit status: " + EXIT_SUCCESS + "=success, " + EXIT_EXPORT_FAILED + "=export failed, "
+            + EXIT_USAGE_ERROR + "=invalid arguments, " + EXIT_OTM_AUTH_FAILED + "=OTM authentication failed" );
+    }
+
+    /**
+     * Main method invoked from the command line.
+     * 
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        System.setProperty( "java.awt.headless", "true" );
+        System.exit( new RepositoryExporterCLI().run( args ) );
+    }
+
+}
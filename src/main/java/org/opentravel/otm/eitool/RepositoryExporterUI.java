@@ -18,6 +18,7 @@ import java.awt.event.ItemEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.io.IOException;
+import java.util.concurrent.CancellationException;
 
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
@@ -30,6 +31,8 @@ import javax.swing.JProgressBar;
 import javax.swing.JRadioButton;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 
@@ -44,12 +47,14 @@ public class RepositoryExporterUI {
     private static final String USER_NAME = "username";
     private static final String GH_REPO_NAME = "ghRepoName";
     private static final String GH_ACCESS_TOKEN = "ghAccessToken";
+    private static final String GH_API_URL = "ghApiUrl";
+    private static final String GH_REMOTE_URL = "ghRemoteUrl";
     private static final String WINDOW_SIZE_HEIGHT = "window.size.height";
     private static final String WINDOW_SIZE_WIDTH = "window.size.width";
     private static final String WINDOW_LOCATION_Y = "window.location.y";
     private static final String WINDOW_LOCATION_X = "window.location.x";
 
-    private static final Dimension MIN_FRAME_SIZE = new Dimension( 500, 250 );
+    private static final Dimension MIN_FRAME_SIZE = new Dimension( 500, 300 );
 
     private static final String ORG_NAME_LABEL = "Organization Name";
     private static final String USERNAME_LABEL = "GitHub User Name";
@@ -62,7 +67,10 @@ public class RepositoryExporterUI {
     private JTextField orgOwnerField;
     private JTextField ghRepoNameField;
     private JTextField ghAccessTokenField;
+    private JTextField ghApiUrlField;
+    private JTextField ghRemoteUrlField;
     private JButton exportButton;
+    private JButton cancelButton;
     private JTextField statusTextField;
     private JProgressBar progressBar;
     private Color defaultTextColor;
@@ -70,6 +78,7 @@ public class RepositoryExporterUI {
     private boolean repoTypeOrganization = true;
     private String organizationName;
     private String username;
+    private volatile CancellationToken cancellationToken;
 
     /**
      * Default constructor.
@@ -112,17 +121,24 @@ public class RepositoryExporterUI {
      * Called when the export button is clicked.
      */
     private void exportButtonClicked() {
+        CancellationToken exportCancellation = new CancellationToken();
+
+        cancellationToken = exportCancellation;
+        exportButton.setEnabled( false );
+        cancelButton.setEnabled( true );
+
         new Thread( () -> {
             String ownerName = repoTypeOrganization ? organizationName : username;
-            ProgressMonitor monitor = new PMonitor();
-
-            exportButton.setEnabled( false );
+            ProgressMonitor monitor = new CoalescingProgressMonitor( new PMonitor() );
 
             try (RepositoryExporter exporter = new RepositoryExporter( ownerName, repoTypeOrganization,
-                ghRepoNameField.getText(), ghAccessTokenField.getText() )) {
+                ghRepoNameField.getText(), ghAccessTokenField.getText(), ghApiUrlField.getText(),
+                ghRemoteUrlField.getText() )) {
                 boolean otmConnectionSuccessful = exporter.testOTMConnection();
 
-                while (!otmConnectionSuccessful) {
+                exporter.setCancellationToken( exportCancellation );
+
+                while (!otmConnectionSuccessful && !exportCancellation.isCancelled()) {
                     String[] credentials = OTMCredentialsDialogUI.showDialog();
 
                     if (credentials != null) {
@@ -134,16 +150,36 @@ public class RepositoryExporterUI {
                         break;
                     }
                 }
+                exportCancellation.throwIfCancelled();
 
                 if (otmConnectionSuccessful) {
                     exporter.exportRepository( monitor );
                 }
 
+            } catch (CancellationException e) {
+                monitor.jobError( "Export Cancelled by User" );
+
             } catch (Exception e) {
                 monitor.jobError( e.getMessage() );
                 e.printStackTrace( System.out );
+
+            } finally {
+                SwingUtilities.invokeLater( () -> cancelButton.setEnabled( false ) );
             }
-        } ).start();
+        }, "otm-export" ).start();
+    }
+
+    /**
+     * Called when the cancel button is clicked.
+     */
+    private void cancelButtonClicked() {
+        CancellationToken exportCancellation = cancellationToken;
+
+        if (exportCancellation != null) {
+            cancelButton.setEnabled( false );
+            statusTextField.setText( "Cancelling export..." );
+            new Thread( exportCancellation::cancel, "otm-cancel" ).start();
+        }
     }
 
     /**
@@ -156,6 +192,8 @@ public class RepositoryExporterUI {
             frameProps.setProperty( USER_NAME, username );
             frameProps.setProperty( GH_REPO_NAME, ghRepoNameField.getText() );
             frameProps.setProperty( GH_ACCESS_TOKEN, ghAccessTokenField.getText() );
+            frameProps.setProperty( GH_API_URL, ghApiUrlField.getText() );
+            frameProps.setProperty( GH_REMOTE_URL, ghRemoteUrlField.getText() );
             frameProps.setProperty( WINDOW_LOCATION_X, frame.getLocation().x + "" );
             frameProps.setProperty( WINDOW_LOCATION_Y, frame.getLocation().y + "" );
             frameProps.setProperty( WINDOW_SIZE_WIDTH, frame.getSize().width + "" );
@@ -194,6 +232,9 @@ public class RepositoryExporterUI {
 
         ghRepoNameField.setText( frameProps.getProperty( GH_REPO_NAME, "" ) );
         ghAccessTokenField.setText( frameProps.getProperty( GH_ACCESS_TOKEN, "" ) );
+        ghApiUrlField.setText( frameProps.getProperty( GH_API_URL, GitHubClient.GITHUB_API_URL ) );
+        ghRemoteUrlField.setText(
+            frameProps.getProperty( GH_REMOTE_URL, RepositoryExporter.DEFAULT_REMOTE_URL_TEMPLATE ) );
     }
 
     /**
@@ -250,7 +291,8 @@ public class RepositoryExporterUI {
         radioPanel.add( personalRadio );
 
         // Create and add labels and text fields
-        String[] labels = {ORG_NAME_LABEL, "GitHub Repository Name", "Access Token"};
+        String[] labels = {ORG_NAME_LABEL, "GitHub Repository Name", "Access Token", "GitHub API URL",
+            "Git Remote URL"};
         JLabel[] formLabels = new JLabel[labels.length];
         JTextField[] textFields = new JTextField[labels.length];
 
@@ -286,6 +328,9 @@ public class RepositoryExporterUI {
         this.orgOwnerField = textFields[0];
         this.ghRepoNameField = textFields[1];
         this.ghAccessTokenField = textFields[2];
+        this.ghApiUrlField = textFields[3];
+        this.ghRemoteUrlField = textFields[4];
+        this.ghRemoteUrlField.setToolTipText( "Use {owner} and {repo} as placeholders for the owner and repository" );
         this.orgOwnerField.getDocument().addDocumentListener( new DocumentListener() {
             public void insertUpdate(DocumentEvent e) {
                 updated();
@@ -304,7 +349,9 @@ public class RepositoryExporterUI {
             }
         } );
 
-        // Create and add the button
+        // Create and add the buttons
+        JPanel buttonPanel = new JPanel();
+
         this.exportButton = new JButton( "Export OTM Repository" );
         this.exportButton.addActionListener( new ActionListener() {
             @Override
@@ -312,11 +359,21 @@ public class RepositoryExporterUI {
                 exportButtonClicked();
             }
         } );
+        this.cancelButton = new JButton( "Cancel" );
+        this.cancelButton.setEnabled( false );
+        this.cancelButton.addActionListener( new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                cancelButtonClicked();
+            }
+        } );
+        buttonPanel.add( exportButton );
+        buttonPanel.add( cancelButton );
         gbc.gridx = 0;
         gbc.gridy = labels.length + 1; // Place below the last text field
         gbc.gridwidth = 2; // Span across two columns
         gbc.anchor = GridBagConstraints.CENTER;
-        mainPanel.add( exportButton, gbc );
+        mainPanel.add( buttonPanel, gbc );
 
         // Add the main panel to the frame
         this.frame.add( mainPanel, BorderLayout.CENTER );
@@ -428,21 +485,35 @@ public class RepositoryExporterUI {
         }
 
         /**
-         * Delays for 5s before clearing the status message and progress bar.
+         * @see org.opentravel.otm.eitool.ProgressMonitor#jobMessage(java.lang.String)
+         */
+        @Override
+        public void jobMessage(String message) {
+            System.out.println( message );
+        }
+
+        /**
+         * @see org.opentravel.otm.eitool.ProgressMonitor#jobWarning(java.lang.String)
+         */
+        @Override
+        public void jobWarning(String message) {
+            System.out.println( "WARNING: " + message );
+        }
+
+        /**
+         * Delays for 5s before clearing the status message and progress bar. Must be called on the Event Dispatch
+         * Thread.
          */
         private void delayAndClearStatus() {
-            new Thread( () -> {
-                try {
-                    validateForm();
-                    Thread.sleep( 5000 );
-                    statusTextField.setText( "" );
-                    statusTextField.setForeground( defaultTextColor );
-                    progressBar.setValue( 0 );
+            Timer clearTimer = new Timer( 5000, e -> {
+                statusTextField.setText( "" );
+                statusTextField.setForeground( defaultTextColor );
+                progressBar.setValue( 0 );
+            } );
 
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            } ).start();
+            validateForm();
+            clearTimer.setRepeats( false );
+            clearTimer.start();
         }
 
     }
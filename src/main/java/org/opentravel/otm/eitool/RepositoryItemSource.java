@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+
+import java.util.List;
+
+/**
+ * Source of the base namespaces and library items to be included in an export.
+ */
+public interface RepositoryItemSource {
+
+    /**
+     * Returns the list of base namespaces that contain library items.
+     * 
+     * @return List&lt;String&gt;
+     * @throws RepositoryException thrown if the namespaces cannot be listed
+     * @throws InterruptedException thrown if the calling thread is interrupted
+     */
+    public List<String> listBaseNamespaces() throws RepositoryException, InterruptedException;
+
+    /**
+     * Returns the library items of the given base namespace.
+     * 
+     * @param baseNS the base namespace whose items are to be listed
+     * @return List&lt;RepositoryItem&gt;
+     * @throws RepositoryException thrown if the items cannot be listed
+     * @throws InterruptedException thrown if the calling thread is interrupted
+     */
+    public List<RepositoryItem> listItems(String baseNS) throws RepositoryException, InterruptedException;
+
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.otm.eitool.ExportMetrics.Phase;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Streams the library items of a repository item source as the listing of each base namespace is received. The
+ * namespaces are listed concurrently, and their items are passed to the consumer through a bounded buffer. Listing
+ * threads wait while the buffer is full, so the memory used by the stream is bounded by the buffer capacity (plus one
+ * namespace listing per listing thread) rather than by the size of the repository.
+ * 
+ * <p>
+ * Items are delivered in the order their namespace listings complete; no overall ordering is guaranteed.
+ */
+public class RepositoryItemStream implements AutoCloseable {
+
+    private static final Object END_OF_STREAM = new Object();
+
+    private RepositoryItemSource itemSource;
+    private Predicate<String> namespaceFilter;
+    private Predicate<RepositoryItem> itemFilter;
+    private ExportMetrics metrics;
+    private BlockingQueue<Object> buffer;
+    private ExecutorService listingExecutor;
+    private AtomicInteger remainingListings = new AtomicInteger();
+    private volatile Exception listingError;
+    private boolean finished;
+
+    /**
+     * Constructor that specifies the item source and the filters that select the items of the stream.
+     * 
+     * @param itemSource the source whose items are to be listed
+     * @param namespaceFilter the filter that selects the base namespaces to be listed
+     * @param itemFilter the filter that selects the items to be delivered
+     * @param metrics the metrics collector that will record the latency of each listing (may be null)
+     */
+    public RepositoryItemStream(RepositoryItemSource itemSource, Predicate<String> namespaceFilter,
+        Predicate<RepositoryItem> itemFilter, ExportMetrics metrics) {
+        this.itemSource = itemSource;
+        this.namespaceFilter = namespaceFilter;
+        this.itemFilter = itemFilter;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Lists the base namespaces of the item source and starts the concurrent listing of their items. The first items
+     * are available from {@link #next()} as soon as the first namespace listing has been received.
+     * 
+     * @param listingThreads the maximum number of namespace listings that may be in progress at one time
+     * @param bufferCapacity the maximum number of listed items waiting to be consumed
+     * @throws RepositoryException thrown if the base namespaces of the item source cannot be listed
+     * @throws InterruptedException thrown if the calling thread is interrupted while listing the namespaces
+     */
+    public void open(int listingThreads, int bufferCapacity) throws RepositoryException, InterruptedException {
+        List<String> namespaces = new ArrayList<>();
+
+        buffer = new ArrayBlockingQueue<>( Math.max( 1, bufferCapacity ) );
+
+        if (metrics != null) {
+            metrics.phaseStarted( Phase.LISTING );
+        }
+        for (String baseNS : itemSource.listBaseNamespaces()) {
+            if (namespaceFilter.test( baseNS )) {
+                namespaces.add( baseNS );
+            }
+        }
+
+        if (namespaces.isEmpty()) {
+            listingCompleted();
+
+        } else {
+            listingExecutor = Executors.newFixedThreadPool(
+                Math.max( 1, Math.min( listingThreads, namespaces.size() ) ), new NamedThreadFactory( "otm-listing" ) );
+            remainingListings.set( namespaces.size() );
+
+            for (String baseNS : namespaces) {
+                listingExecutor.execute( () -> listNamespace( baseNS ) );
+            }
+        }
+    }
+
+    /**
+     * Returns the next item of the stream, waiting until one is available. Null is returned once all namespace
+     * listings have been received and their items consumed.
+     * 
+     * @return RepositoryItem
+     * @throws RepositoryException thrown if the items of one of the namespaces could not be listed
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for an item
+     */
+    public RepositoryItem next() throws RepositoryException, InterruptedException {
+        RepositoryItem item = null;
+
+        if (!finished) {
+            Object entry;
+
+            checkListingError();
+            entry = buffer.take();
+
+            if (entry == END_OF_STREAM) {
+                finished = true;
+                checkListingError();
+
+            } else {
+                item = (RepositoryItem) entry;
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Stops any namespace listings that are still in progress.
+     * 
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() {
+        if (listingExecutor != null) {
+            listingExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Lists the items of the given base namespace and adds those that pass the item filter to the buffer. If the
+     * listing fails, the error is recorded and the stream is ended so that the consumer receives the error.
+     * 
+     * @param baseNS the base namespace whose items are to be listed
+     */
+    private void listNamespace(String baseNS) {
+        try {
+            long startNanos = System.nanoTime();
+            List<RepositoryItem> items = itemSource.listItems( baseNS );
+
+            if (metrics != null) {
+                metrics.recordItem( Phase.LISTING, System.nanoTime() - startNanos, 0 );
+            }
+            for (RepositoryItem item : items) {
+                if (itemFilter.test( item )) {
+                    buffer.put( item );
+                }
+            }
+            if (remainingListings.decrementAndGet() == 0) {
+                listingCompleted();
+            }
+
+        } catch (InterruptedException e) {
+            // The stream was closed - no further items will be consumed
+
+        } catch (Exception e) {
+            if (listingError == null) {
+                listingError = e;
+            }
+            buffer.clear();
+            buffer.offer( END_OF_STREAM );
+        }
+    }
+
+    /**
+     * Records the end of the listing phase and marks the end of the stream.
+     * 
+     * @throws InterruptedException thrown if the stream is closed while waiting for space in the buffer
+     */
+    private void listingCompleted() throws InterruptedException {
+        if (metrics != null) {
+            metrics.phaseEnded( Phase.LISTING );
+        }
+        buffer.put( END_OF_STREAM );
+    }
+
+    /**
+     * Throws the error of a failed namespace listing (if any).
+     * 
+     * @throws RepositoryException thrown if the items of one of the namespaces could not be listed
+     */
+    private void checkListingError() throws RepositoryException {
+        Exception error = listingError;
+
+        if (error instanceof RepositoryException) {
+            throw (RepositoryException) error;
+
+        } else if (error != null) {
+            throw new RepositoryException( "Error listing repository namespace items", error );
+        }
+    }
+
+}
@@ -0,0 +1,494 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.otm.eitool.ExportMetrics.Phase;
+import org.opentravel.schemacompiler.model.TLLibraryStatus;
+import org.opentravel.schemacompiler.repository.RemoteRepository;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+import org.opentravel.schemacompiler.repository.RepositoryItemType;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Wraps the calls that an export makes to the remote OTM repository so that momentary server problems do not abort the
+ * export. Each call is subject to a timeout, failed calls are retried with jittered exponential backoff, and all calls
+ * share a {@link CircuitBreaker} that stops calls to the server while it is unhealthy. Downloads may also be subject to
+ * an {@link AdaptiveLimiter} that adjusts the number of concurrent downloads to the responsiveness of the server.
+ * 
+ * <p>
+ * Timed calls are made on threads owned by the client, so the client must be closed once the export is complete.
+ */
+public class ResilientRepositoryClient implements RepositoryItemSource, AutoCloseable {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+    public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 500;
+    public static final long DEFAULT_MAX_BACKOFF_MILLIS = 30000;
+    public static final long DEFAULT_CALL_TIMEOUT_MILLIS = 300000;
+    public static final int DEFAULT_MAX_CALL_THREADS = 32;
+
+    private static final long ABANDON_GRACE_MILLIS = 5000;
+
+    private RemoteRepository repository;
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private AdaptiveLimiter downloadLimiter;
+    private ExportMetrics metrics;
+    private ProgressMonitor monitor;
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long initialBackoffMillis = DEFAULT_INITIAL_BACKOFF_MILLIS;
+    private long maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+    private long callTimeoutMillis = DEFAULT_CALL_TIMEOUT_MILLIS;
+    private int maxCallThreads = DEFAULT_MAX_CALL_THREADS;
+    private boolean forceDownload = true;
+    private ExecutorService callExecutor;
+
+    /**
+     * Constructor that specifies the remote repository whose calls are to be wrapped.
+     * 
+     * @param repository the remote OTM repository
+     */
+    public ResilientRepositoryClient(RemoteRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Returns the remote repository whose calls are wrapped by this client.
+     * 
+     * @return RemoteRepository
+     */
+    public RemoteRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * Assigns the circuit breaker that is shared by all calls of this client.
+     * 
+     * @param circuitBreaker the circuit breaker to assign
+     */
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Assigns the limiter that controls the number of downloads that may be in progress at one time. Each attempt of a
+     * download is made under the limiter, so retries that are waiting for their backoff delay do not hold a permit.
+     * 
+     * @param downloadLimiter the download limiter to assign (may be null)
+     */
+    public void setDownloadLimiter(AdaptiveLimiter downloadLimiter) {
+        this.downloadLimiter = downloadLimiter;
+    }
+
+    /**
+     * Assigns the metrics collector that will record the number of retries in each export phase.
+     * 
+     * @param metrics the export metrics to assign (may be null)
+     */
+    public void setMetrics(ExportMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Assigns the progress monitor that will receive a warning for each retry and each time the circuit is opened.
+     * 
+     * @param monitor the progress monitor to assign (may be null)
+     */
+    public void setMonitor(ProgressMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * Assigns the maximum number of attempts (including the first) that will be made for each call.
+     * 
+     * @param maxAttempts the maximum number of attempts to assign
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = Math.max( 1, maxAttempts );
+    }
+
+    /**
+     * Assigns the delay before the first retry of a call. The delay doubles with each subsequent retry up to the
+     * maximum backoff, and a random jitter of up to half the delay is applied so that concurrent callers do not
+     * retry in lock-step.
+     * 
+     * @param initialBackoffMillis the initial backoff delay (in milliseconds)
+     */
+    public void setInitialBackoffMillis(long initialBackoffMillis) {
+        this.initialBackoffMillis = Math.max( 1, initialBackoffMillis );
+    }
+
+    /**
+     * Assigns the maximum delay between two attempts of a call.
+     * 
+     * @param maxBackoffMillis the maximum backoff delay (in milliseconds)
+     */
+    public void setMaxBackoffMillis(long maxBackoffMillis) {
+        this.maxBackoffMillis = Math.max( 1, maxBackoffMillis );
+    }
+
+    /**
+     * Assigns the maximum time that a single attempt of a call may take before it is abandoned and retried. A value of
+     * zero disables the timeout. An attempt that times out is interrupted, and the next attempt is not made until the
+     * interrupted attempt has ended or a short grace period has elapsed.
+     * 
+     * @param callTimeoutMillis the call timeout (in milliseconds)
+     */
+    public void setCallTimeoutMillis(long callTimeoutMillis) {
+        this.callTimeoutMillis = Math.max( 0, callTimeoutMillis );
+    }
+
+    /**
+     * Assigns the maximum number of threads on which timed calls are made. Calls beyond this number wait for a thread
+     * to become available, and are abandoned without being made if they time out while waiting. This value must only
+     * be changed before the first call is made.
+     * 
+     * @param maxCallThreads the maximum number of call threads to assign
+     */
+    public void setMaxCallThreads(int maxCallThreads) {
+        this.maxCallThreads = Math.max( 1, maxCallThreads );
+    }
+
+    /**
+     * Assigns the flag indicating whether library content is downloaded even if the local copy is current. When false,
+     * the OTM client checks the local copy against the remote repository and downloads the content only if it has
+     * changed (e.g. because a draft library was edited without changing its version). By default, content is always
+     * downloaded.
+     * 
+     * @param forceDownload the flag value to assign
+     */
+    public void setForceDownload(boolean forceDownload) {
+        this.forceDownload = forceDownload;
+    }
+
+    /**
+     * Returns the list of base namespaces of the remote repository. The listing is retried if it fails.
+     * 
+     * @see org.opentravel.otm.eitool.RepositoryItemSource#listBaseNamespaces()
+     */
+    @Override
+    public List<String> listBaseNamespaces() throws RepositoryException, InterruptedException {
+        return call( Phase.LISTING, "list base namespaces", repository::listBaseNamespaces, null, null );
+    }
+
+    /**
+     * Returns the draft (and later) library items of the given base namespace. The listing is retried if it fails.
+     * 
+     * @see org.opentravel.otm.eitool.RepositoryItemSource#listItems(java.lang.String)
+     */
+    @Override
+    public List<RepositoryItem> listItems(String baseNS) throws RepositoryException, InterruptedException {
+        return call( Phase.LISTING, "list " + baseNS,
+            () -> repository.listItems( baseNS, TLLibraryStatus.DRAFT, false, RepositoryItemType.LIBRARY ), null,
+            null );
+    }
+
+    /**
+     * Downloads the content of the given item to the local repository.
+     * 
+     * @param item the repository item whose content is to be downloaded
+     * @param retryListener the listener to notify before each retry (may be null)
+     * @throws RepositoryException thrown if the content cannot be downloaded after all attempts
+     * @throws InterruptedException thrown if the calling thread is interrupted
+     */
+    public void downloadContent(RepositoryItem item, RetryListener retryListener)
+        throws RepositoryException, InterruptedException {
+        call( Phase.DOWNLOAD, "download " + item.getFilename(), () -> {
+            repository.downloadContent( item, forceDownload );
+            return null;
+        }, downloadLimiter, retryListener );
+    }
+
+    /**
+     * Performs the given remote call, retrying it with jittered exponential backoff until it succeeds or the maximum
+     * number of attempts has been reached. Attempts that are rejected because the circuit is open count against the
+     * maximum, and the next attempt is delayed until the circuit is ready to accept a probe call.
+     * 
+     * @param <T> the type of the call's result
+     * @param phase the export phase in which the call is made
+     * @param description a short description of the call for warning messages
+     * @param remoteCall the remote call to perform
+     * @param limiter the concurrency limiter for each attempt of the call (may be null)
+     * @param retryListener the listener to notify before each retry (may be null)
+     * @return T
+     * @throws RepositoryException thrown if the call fails on its last attempt
+     * @throws InterruptedException thrown if the calling thread is interrupted
+     */
+    private <T> T call(Phase phase, String description, Callable<T> remoteCall, AdaptiveLimiter limiter,
+        RetryListener retryListener) throws RepositoryException, InterruptedException {
+        long backoffMillis = initialBackoffMillis;
+        int attempt = 1;
+
+        while (true) {
+            Exception error;
+
+            if (circuitBreaker.tryAcquire()) {
+                try {
+                    T result = invoke( remoteCall, limiter );
+
+                    circuitBreaker.recordSuccess();
+                    return result;
+
+                } catch (InterruptedException e) {
+                    circuitBreaker.recordAbandoned();
+                    throw e;
+
+                } catch (Exception e) {
+                    if (circuitBreaker.recordFailure()) {
+                        reportWarning( String.format( "OTM repository circuit opened after %d consecutive failures",
+                            circuitBreaker.getConsecutiveFailures() ) );
+                    }
+                    error = e;
+                }
+            } else {
+                error = new RepositoryException( "The OTM repository is unavailable (circuit open)" );
+            }
+
+            if (attempt >= maxAttempts) {
+                throw (error instanceof RepositoryException) ? (RepositoryException) error
+                    : new RepositoryException( "Unable to " + description, error );
+            }
+            long delayMillis = Math.max( withJitter( backoffMillis ), circuitBreaker.getRemainingOpenMillis() );
+
+            attempt++;
+            backoffMillis = Math.min( maxBackoffMillis, backoffMillis * 2 );
+            reportWarning( String.format( "Unable to %s (retrying in %d ms, attempt %d of %d) - %s", description,
+                delayMillis, attempt, maxAttempts, error.getMessage() ) );
+
+            if (metrics != null) {
+                metrics.recordRetry( phase );
+            }
+            if (retryListener != null) {
+                retryListener.retrying( attempt, maxAttempts, error );
+            }
+            Thread.sleep( delayMillis );
+        }
+    }
+
+    /**
+     * Performs a single attempt of the given remote call under the given concurrency limiter, reporting the outcome
+     * of the attempt to the limiter.
+     * 
+     * @param <T> the type of the call's result
+     * @param remoteCall the remote call to perform
+     * @param limiter the concurrency limiter for the call (may be null)
+     * @return T
+     * @throws Exception thrown if the call fails or times out
+     */
+    private <T> T invoke(Callable<T> remoteCall, AdaptiveLimiter limiter) throws Exception {
+        if (limiter == null) {
+            return invoke( remoteCall );
+        }
+        long startNanos = limiter.acquire();
+
+        try {
+            T result = invoke( remoteCall );
+
+            limiter.recordSuccess( startNanos );
+            return result;
+
+        } catch (InterruptedException e) {
+            limiter.recordAbandoned();
+            throw e;
+
+        } catch (Exception e) {
+            limiter.recordFailure( startNanos );
+            throw e;
+        }
+    }
+
+    /**
+     * Performs a single attempt of the given remote call. If a call timeout is configured, the call is made on a
+     * separate thread and interrupted if it does not complete in time. The calling thread then waits a short grace
+     * period for the interrupted attempt to end before reporting the timeout, so that a retry does not normally
+     * download to the same file as an attempt that is still running. Remote calls that ignore the interrupt are left to
+     * end when the read timeout of their connection expires; they continue to occupy a call thread until then, but
+     * never block the calling thread.
+     * 
+     * @param <T> the type of the call's result
+     * @param remoteCall the remote call to perform
+     * @return T
+     * @throws Exception thrown if the call fails or times out
+     */
+    private <T> T invoke(Callable<T> remoteCall) throws Exception {
+        if (callTimeoutMillis == 0) {
+            return remoteCall.call();
+        }
+        TimedAttempt<T> attempt = new TimedAttempt<>( remoteCall );
+        Future<T> future = getCallExecutor().submit( attempt );
+
+        try {
+            try {
+                return future.get( callTimeoutMillis, TimeUnit.MILLISECONDS );
+
+            } catch (TimeoutException e) {
+                attempt.abandon();
+                awaitAttempt( future );
+                throw new RepositoryException( "Call timed out after " + callTimeoutMillis + " ms" );
+            }
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            throw (cause instanceof Exception) ? (Exception) cause : e;
+
+        } catch (InterruptedException e) {
+            attempt.abandon();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits up to the grace period for an abandoned attempt to end, ignoring its outcome.
+     * 
+     * @param future the future of the abandoned attempt
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting
+     */
+    private static void awaitAttempt(Future<?> future) throws InterruptedException {
+        try {
+            future.get( ABANDON_GRACE_MILLIS, TimeUnit.MILLISECONDS );
+
+        } catch (ExecutionException | TimeoutException e) {
+            // Ignore - the attempt has already been reported as timed out
+        }
+    }
+
+    /**
+     * Returns the executor on which timed calls are made, creating it if necessary. The number of threads is limited
+     * to the maximum number of call threads, and idle threads are discarded after one minute.
+     * 
+     * @return ExecutorService
+     */
+    private synchronized ExecutorService getCallExecutor() {
+        if (callExecutor == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor( maxCallThreads, maxCallThreads, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), new NamedThreadFactory( "otm-remote-call" ) );
+
+            executor.allowCoreThreadTimeOut( true );
+            callExecutor = executor;
+        }
+        return callExecutor;
+    }
+
+    /**
+     * Stops the threads on which timed calls are made, interrupting any calls that are still in progress.
+     * 
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public synchronized void close() {
+        if (callExecutor != null) {
+            callExecutor.shutdownNow();
+            callExecutor = null;
+        }
+    }
+
+    /**
+     * Reports the given warning to the progress monitor (if any).
+     * 
+     * @param message the warning message to report
+     */
+    private void reportWarning(String message) {
+        if (monitor != null) {
+            monitor.jobWarning( message );
+        }
+    }
+
+    /**
+     * Returns the given backoff delay with a random jitter applied. The result is between one half and all of the
+     * given delay.
+     * 
+     * @param backoffMillis the backoff delay (in milliseconds)
+     * @return long
+     */
+    private static long withJitter(long backoffMillis) {
+        long halfDelay = backoffMillis / 2;
+
+        return halfDelay + ThreadLocalRandom.current().nextLong( backoffMillis - halfDelay + 1 );
+    }
+
+    /**
+     * A single attempt of a timed remote call that can be abandoned by interrupting the thread on which it runs. An
+     * attempt that is abandoned before it starts is never made, and the thread is never interrupted once the attempt
+     * has ended, so the interrupt cannot reach a later call that reuses the thread.
+     * 
+     * @param <T> the type of the call's result
+     */
+    private static class TimedAttempt<T> implements Callable<T> {
+
+        private Callable<T> remoteCall;
+        private Thread attemptThread;
+        private boolean abandoned;
+
+        /**
+         * Constructor that specifies the remote call to be attempted.
+         * 
+         * @param remoteCall the remote call to perform
+         */
+        public TimedAttempt(Callable<T> remoteCall) {
+            this.remoteCall = remoteCall;
+        }
+
+        /**
+         * @see java.util.concurrent.Callable#call()
+         */
+        @Override
+        public T call() throws Exception {
+            synchronized (this) {
+                if (abandoned) {
+                    throw new InterruptedException( "Call abandoned before it started" );
+                }
+                attemptThread = Thread.currentThread();
+            }
+            try {
+                return remoteCall.call();
+
+            } finally {
+                synchronized (this) {
+                    attemptThread = null;
+                    Thread.interrupted(); // Clear an interrupt that arrived after the call returned
+                }
+            }
+        }
+
+        /**
+         * Abandons the attempt, interrupting it if it is in progress.
+         */
+        public synchronized void abandon() {
+            abandoned = true;
+
+            if (attemptThread != null) {
+                attemptThread.interrupt();
+            }
+        }
+
+    }
+
+    /**
+     * Listener that is notified before a failed call is retried.
+     */
+    public interface RetryListener {
+
+        /**
+         * Called before the next attempt of a failed call.
+         * 
+         * @param attempt the number of the attempt that is about to be made
+         * @param maxAttempts the maximum number of attempts for the call
+         * @param error the error that caused the previous attempt to fail
+         */
+        public void retrying(int attempt, int maxAttempts, Exception error);
+
+    }
+
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import org.opentravel.otm.eitool.ExportMetrics.Phase;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records the throughput of the successful exports that were run on this system so that the duration of future
+ * exports can be estimated. For phases that process individual items, the elapsed time per item is recorded; for the
+ * commit and push phases, the total elapsed time is recorded. Each new measurement is blended with the history of
+ * earlier exports so that a single unusual run does not dominate the estimates. The history is persisted in the
+ * <code>~/.ota2/exports</code> folder.
+ */
+public class ThroughputHistory {
+
+    private static final String HISTORY_FILENAME = "/exports/throughput.properties";
+    private static final String MILLIS_PER_ITEM_SUFFIX = ".millisPerItem";
+    private static final String MILLIS_SUFFIX = ".millis";
+    private static final double HISTORY_WEIGHT = 0.5;
+
+    private PersistentProperties historyProps;
+
+    /**
+     * Default constructor that loads the throughput history of this system.
+     * 
+     * @throws IOException thrown if the existing history cannot be loaded
+     */
+    public ThroughputHistory() throws IOException {
+        this.historyProps = new PersistentProperties( HISTORY_FILENAME );
+    }
+
+    /**
+     * Blends the phase timings of the given export into the history. Phases that did not run are not recorded.
+     * 
+     * @param metrics the metrics of a successful export
+     */
+    public synchronized void record(ExportMetrics metrics) {
+        Map<String, Long> elapsedMillis = metrics.getPhaseElapsedMillis();
+        Map<String, Long> itemCounts = metrics.getPhaseItemCounts();
+
+        for (Phase phase : Phase.values()) {
+            long elapsed = elapsedMillis.get( phase.name() );
+            long items = itemCounts.get( phase.name() );
+
+            if (isPerItemPhase( phase )) {
+                if ((items > 0) && (elapsed > 0)) {
+                    blend( phase.name() + MILLIS_PER_ITEM_SUFFIX, ((double) elapsed) / items );
+                }
+
+            } else if ((phase != Phase.LISTING) && (elapsed > 0)) {
+                // Listing time is not recorded because it is measured directly when an export is planned
+                blend( phase.name() + MILLIS_SUFFIX, elapsed );
+            }
+        }
+    }
+
+    /**
+     * Returns the estimated elapsed time (in milliseconds) of the given phase for an export that processes the given
+     * number of items in that phase, or -1 if the history contains no measurements of the phase.
+     * 
+     * @param phase the export phase to estimate
+     * @param itemCount the number of items that will be processed by the phase
+     * @return long
+     */
+    public synchronized long estimateMillis(Phase phase, long itemCount) {
+        long estimate = -1;
+
+        if (isPerItemPhase( phase )) {
+            double millisPerItem = getValue( phase.name() + MILLIS_PER_ITEM_SUFFIX );
+
+            if (itemCount == 0) {
+                estimate = 0;
+
+            } else if (millisPerItem >= 0) {
+                estimate = Math.round( millisPerItem * itemCount );
+            }
+
+        } else {
+            double millis = getValue( phase.name() + MILLIS_SUFFIX );
+
+            if (millis >= 0) {
+                estimate = Math.round( millis );
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Saves the history to the persistent file.
+     * 
+     * @throws IOException thrown if the history cannot be saved
+     */
+    public synchronized void save() throws IOException {
+        historyProps.saveProperties();
+    }
+
+    /**
+     * Blends the given measurement into the recorded value of the specified property.
+     * 
+     * @param propertyName the name of the history property
+     * @param measurement the new measurement to blend
+     */
+    private void blend(String propertyName, double measurement) {
+        double recorded = getValue( propertyName );
+        double blended = (recorded < 0) ? measurement
+            : ((HISTORY_WEIGHT * recorded) + ((1.0 - HISTORY_WEIGHT) * measurement));
+
+        historyProps.setProperty( propertyName, String.valueOf( blended ) );
+    }
+
+    /**
+     * Returns the recorded value of the specified property, or -1 if no valid value has been recorded.
+     * 
+     * @param propertyName the name of the history property
+     * @return double
+     */
+    private double getValue(String propertyName) {
+        String value = historyProps.getProperty( propertyName );
+        double result = -1;
+
+        if (value != null) {
+            try {
+                result = Double.parseDouble( value );
+
+            } catch (NumberFormatException e) {
+                // Ignore the invalid value and report that no value was recorded
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if the given phase is measured by its elapsed time per item (as opposed to its total elapsed time).
+     * 
+     * @param phase the export phase to check
+     * @return boolean
+     */
+    private static boolean isPerItemPhase(Phase phase) {
+        return (phase == Phase.DOWNLOAD) || (phase == Phase.STAGING) || (phase == Phase.INDEXING);
+    }
+
+}
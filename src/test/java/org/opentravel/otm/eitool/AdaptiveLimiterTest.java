@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies the additive increase / multiplicative decrease policy of the <code>AdaptiveLimiter</code>. The start times
+ * passed to the limiter are shifted into the past so that each call has a fixed, known latency.
+ */
+public class AdaptiveLimiterTest {
+
+    private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos( 5 );
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos( 100 );
+
+    /**
+     * The initial limit must be clamped to the range of the limiter.
+     */
+    @Test
+    public void testInitialLimitClamped() {
+        assertEquals( 10, new AdaptiveLimiter( 1, 100, 10 ).getLimit() );
+        assertEquals( 5, new AdaptiveLimiter( 5, 1, 10 ).getLimit() );
+        assertEquals( 1, new AdaptiveLimiter( 0, 0, 0 ).getLimit() );
+    }
+
+    /**
+     * A limit that is fully used by calls with stable latency must grow by the reciprocal of the limit each round,
+     * but never beyond the maximum limit.
+     * 
+     * @throws InterruptedException thrown if the test is interrupted
+     */
+    @Test
+    public void testAdditiveIncrease() throws InterruptedException {
+        AdaptiveLimiter limiter = new AdaptiveLimiter( 1, 2, 4 );
+
+        runRound( limiter, limiter.getLimit(), FAST_NANOS ); // 2.0 + 1/2.0 = 2.5
+        assertEquals( 2, limiter.getLimit() );
+        runRound( limiter, limiter.getLimit(), FAST_NANOS ); // 2.5 + 1/2.5 = 2.9
+        assertEquals( 2, limiter.getLimit() );
+        runRound( limiter, limiter.getLimit(), FAST_NANOS ); // 2.9 + 1/2.9 = 3.24
+        assertEquals( 3, limiter.getLimit() );
+
+        for (int i = 0; i < 10; i++) {
+            runRound( limiter, limiter.getLimit(), FAST_NANOS );
+        }
+        assertEquals( 4, limiter.getLimit() );
+        assertEquals( 0, limiter.getInFlight() );
+    }
+
+    /**
+     * A limit that is not fully used must not grow.
+     * 
+     * @throws InterruptedException thrown if the test is interrupted
+     */
+    @Test
+    public void testNoIncreaseWhenUnderused() throws InterruptedException {
+        AdaptiveLimiter limiter = new AdaptiveLimiter( 1, 4, 16 );
+
+        for (int i = 0; i < 20; i++) {
+            runRound( limiter, 3, FAST_NANOS );
+        }
+        assertEquals( 4, limiter.getLimit() );
+    }
+
+    /**
+     * A failure must multiply the limit by the backoff ratio once, no matter how many calls that started before the
+     * reduction also fail, and the limit must never fall below the minimum.
+     * 
+     * @throws InterruptedException thrown if the test is interrupted
+     */
+    @Test
+    public void testMultiplicativeDecrease() throws InterruptedException {
+        AdaptiveLimiter limiter = new AdaptiveLimiter( 2, 8, 16 );
+        long start1;
+        long start2;
+
+        TimeUnit.MILLISECONDS.sleep( 1 );
+        start1 = limiter.acquire();
+        start2 = limiter.acquire();
+
+        limiter.recordFailure( start1 ); // 8 * 0.75 = 6
+        assertEquals( 6, limiter.getLimit() );
+        limiter.recordFailure( start2 );
+        assertEquals( 6, limiter.getLimit() );
+
+        limiter.setBackoffRatio( 0.5 );
+        limiter.recordFailure( limiter.acquire() ); // 6 * 0.5 = 3
+        assertEquals( 3, limiter.getLimit() );
+        limiter.recordFailure( limiter.acquire() ); // 3 * 0.5 = 1.5, clamped to 2
+        assertEquals( 2, limiter.getLimit() );
+        assertEquals( 0, limiter.getInFlight() );
+    }
+
+    /**
+     * A rise in latency beyond the tolerance of the baseline must reduce the limit once for a burst of slow calls.
+     * 
+     * @throws InterruptedException thrown if the test is interrupted
+     */
+    @Test
+    public void testLatencyIncreaseReducesLimit() throws InterruptedException {
+        AdaptiveLimiter limiter = new AdaptiveLimiter( 1, 8, 16 );
+
+        TimeUnit.NANOSECONDS.sleep( SLOW_NANOS * 2 );
+
+        for (int i = 0; i < 5; i++) {
+            runRound( limiter, 1, FAST_NANOS );
+        }
+        assertEquals( 8, limiter.getLimit() );
+
+        runRound( limiter, 2, SLOW_NANOS ); // 8 * 0.75 = 6
+        assertEquals( 6, limiter.getLimit() );
+    }
+
+    /**
+     * A call must wait while the limit is fully used, and proceed once a permit is released by an abandoned call.
+     * 
+     * @throws InterruptedException thrown if the test is interrupted
+     */
+    @Test
+    public void testAcquireWaitsForPermit() throws InterruptedException {
+        AdaptiveLimiter limiter = new AdaptiveLimiter( 1, 1, 1 );
+        Thread waiter = new Thread( () -> {
+            try {
+                limiter.acquire();
+                limiter.recordAbandoned();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } );
+
+        limiter.acquire();
+        waiter.start();
+        waiter.join( 200 );
+        assertTrue( waiter.isAlive() );
+
+        limiter.recordAbandoned();
+        waiter.join( 5000 );
+        assertFalse( waiter.isAlive() );
+        assertEquals( 0, limiter.getInFlight() );
+    }
+
+    /**
+     * Acquires the given number of calls from the limiter and then records the success of each call with the given
+     * latency.
+     * 
+     * @param limiter the limiter from which to acquire calls
+     * @param callCount the number of calls to acquire
+     * @param latencyNanos the latency of each call (in nanoseconds)
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for a permit
+     */
+    private static void runRound(AdaptiveLimiter limiter, int callCount, long latencyNanos)
+        throws InterruptedException {
+        long[] startTimes = new long[callCount];
+
+        for (int i = 0; i < callCount; i++) {
+            startTimes[i] = limiter.acquire() - latencyNanos;
+        }
+        for (long startNanos : startTimes) {
+            limiter.recordSuccess( startNanos );
+        }
+        assertEquals( 0, limiter.getInFlight() );
+    }
+
+}
@@ -0,0 +1,222 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Verifies the <code>.tar.gz</code> and <code>.zip</code> archives that are written by the
+ * <code>ArchiveExportSink</code>, including the ustar headers, PAX headers for long paths, block padding, and the
+ * handling of exports that are never committed.
+ */
+public class ArchiveExportSinkTest {
+
+    private static final int TAR_BLOCK_SIZE = 512;
+    private static final String SHORT_PATH = "Library_1_0_0.otm";
+    private static final String LONG_PATH = "Library_With_A_Name_That_Is_Far_Too_Long_To_Fit_In_The_Name_Field_"
+        + "Of_A_Ustar_Header_Block_Of_A_Tar_Archive_1_0_0.otm";
+    private static final byte[] SHORT_CONTENT =
+        "<Library xmlns=\"http://www.OpenTravel.org/ns/OTA2/LibraryModel_v01_06\"/>\n"
+            .getBytes( StandardCharsets.UTF_8 );
+    private static final byte[] LONG_CONTENT = new byte[TAR_BLOCK_SIZE * 2];
+
+    @TempDir
+    File tempFolder;
+
+    private File shortFile;
+    private File longFile;
+
+    /**
+     * Creates the library files to be archived.
+     * 
+     * @throws IOException thrown if the library files cannot be created
+     */
+    @BeforeEach
+    public void setup() throws IOException {
+        Arrays.fill( LONG_CONTENT, (byte) 'x' );
+        shortFile = new File( tempFolder, "short.otm" );
+        longFile = new File( tempFolder, "long.otm" );
+        Files.write( shortFile.toPath(), SHORT_CONTENT );
+        Files.write( longFile.toPath(), LONG_CONTENT );
+    }
+
+    /**
+     * A tar archive must contain a ustar header and padded content for each file, a PAX header for paths longer than
+     * the name field, and a trailer of two empty blocks.
+     * 
+     * @throws IOException thrown if the archive cannot be written or read
+     */
+    @Test
+    public void testTarArchive() throws IOException {
+        File archiveFile = new File( tempFolder, "export.tar.gz" );
+        ArchiveExportSink sink = new ArchiveExportSink( archiveFile );
+        byte[] tar;
+        int offset = 0;
+
+        sink.setCompressionThreads( 2 );
+        exportFiles( sink );
+
+        try (InputStream in = new GZIPInputStream( Files.newInputStream( archiveFile.toPath() ) )) {
+            tar = in.readAllBytes();
+        }
+        assertEquals( 0, tar.length % TAR_BLOCK_SIZE );
+
+        assertHeader( tar, offset, SHORT_PATH, SHORT_CONTENT.length, '0' );
+        assertArrayEquals( SHORT_CONTENT,
+            Arrays.copyOfRange( tar, offset + TAR_BLOCK_SIZE, offset + TAR_BLOCK_SIZE + SHORT_CONTENT.length ) );
+        offset += TAR_BLOCK_SIZE * 2;
+
+        String paxRecord = " path=" + LONG_PATH + "\n";
+        int paxLength = paxRecord.length() + 3; // three-digit length prefix
+
+        paxRecord = paxLength + paxRecord;
+        assertHeader( tar, offset, "PaxHeader", paxLength, 'x' );
+        assertEquals( paxRecord, new String( tar, offset + TAR_BLOCK_SIZE, paxLength, StandardCharsets.UTF_8 ) );
+        offset += TAR_BLOCK_SIZE * 2;
+
+        assertHeader( tar, offset, LONG_PATH.substring( 0, 100 ), LONG_CONTENT.length, '0' );
+        assertArrayEquals( LONG_CONTENT,
+            Arrays.copyOfRange( tar, offset + TAR_BLOCK_SIZE, offset + TAR_BLOCK_SIZE + LONG_CONTENT.length ) );
+        offset += TAR_BLOCK_SIZE + LONG_CONTENT.length;
+
+        assertEquals( offset + (TAR_BLOCK_SIZE * 2), tar.length );
+        assertArrayEquals( new byte[TAR_BLOCK_SIZE * 2], Arrays.copyOfRange( tar, offset, tar.length ) );
+        assertFalse( new File( archiveFile.getPath() + ".part" ).exists() );
+    }
+
+    /**
+     * A zip archive must contain an entry with the original content for each file.
+     * 
+     * @throws IOException thrown if the archive cannot be written or read
+     */
+    @Test
+    public void testZipArchive() throws IOException {
+        File archiveFile = new File( tempFolder, "export.zip" );
+
+        exportFiles( new ArchiveExportSink( archiveFile ) );
+
+        try (ZipInputStream in =
+            new ZipInputStream( new ByteArrayInputStream( Files.readAllBytes( archiveFile.toPath() ) ) )) {
+            ZipEntry entry = in.getNextEntry();
+
+            assertEquals( SHORT_PATH, entry.getName() );
+            assertArrayEquals( SHORT_CONTENT, in.readAllBytes() );
+
+            entry = in.getNextEntry();
+            assertEquals( LONG_PATH, entry.getName() );
+            assertArrayEquals( LONG_CONTENT, in.readAllBytes() );
+            assertNull( in.getNextEntry() );
+        }
+        assertFalse( new File( archiveFile.getPath() + ".part" ).exists() );
+    }
+
+    /**
+     * Closing a writer without committing it must delete the partial archive and leave the existing archive intact.
+     * 
+     * @throws IOException thrown if the archive cannot be written or read
+     */
+    @Test
+    public void testCloseWithoutCommit() throws IOException {
+        File archiveFile = new File( tempFolder, "export.tgz" );
+        File partFile = new File( archiveFile.getPath() + ".part" );
+        byte[] existingContent = "existing".getBytes( StandardCharsets.UTF_8 );
+
+        Files.write( archiveFile.toPath(), existingContent );
+
+        try (ExportWriter writer = new ArchiveExportSink( archiveFile ).openWriter()) {
+            writer.add( SHORT_PATH, shortFile );
+            assertTrue( partFile.exists() );
+        }
+        assertFalse( partFile.exists() );
+        assertArrayEquals( existingContent, Files.readAllBytes( archiveFile.toPath() ) );
+    }
+
+    /**
+     * Archive files whose extension does not identify a supported format must be rejected.
+     */
+    @Test
+    public void testUnsupportedFormat() {
+        assertThrows( IllegalArgumentException.class,
+            () -> new ArchiveExportSink( new File( tempFolder, "export.rar" ) ) );
+    }
+
+    /**
+     * Adds the long and short library files to an export of the given sink and commits it. The files are added in the
+     * reverse order of their paths, so the archive must contain them in sorted order.
+     * 
+     * @param sink the sink to which the files are exported
+     * @throws IOException thrown if the export cannot be written
+     */
+    private void exportFiles(ArchiveExportSink sink) throws IOException {
+        try (ExportWriter writer = sink.openWriter()) {
+            writer.add( LONG_PATH, longFile );
+            writer.add( SHORT_PATH, shortFile );
+            writer.commit();
+        }
+    }
+
+    /**
+     * Verifies the name, size, type, magic, and checksum of the ustar header block at the given offset.
+     * 
+     * @param tar the uncompressed tar archive
+     * @param offset the offset of the header block
+     * @param name the expected content of the name field
+     * @param size the expected size of the entry content
+     * @param typeFlag the expected type of the entry
+     */
+    private static void assertHeader(byte[] tar, int offset, String name, long size, char typeFlag) {
+        byte[] header = Arrays.copyOfRange( tar, offset, offset + TAR_BLOCK_SIZE );
+        long checksum = 0;
+
+        assertEquals( name, readString( header, 0, 100 ) );
+        assertEquals( size, Long.parseLong( readString( header, 124, 12 ), 8 ) );
+        assertEquals( typeFlag, (char) header[156] );
+        assertEquals( "ustar", readString( header, 257, 6 ) );
+        assertEquals( "00", readString( header, 263, 2 ) );
+
+        for (int i = 0; i < header.length; i++) {
+            checksum += ((i >= 148) && (i < 156)) ? ' ' : (header[i] & 0xff);
+        }
+        assertEquals( checksum, Long.parseLong( readString( header, 148, 7 ), 8 ) );
+    }
+
+    /**
+     * Returns the NUL-terminated ASCII string in the given field of a header block.
+     * 
+     * @param header the header block
+     * @param offset the offset of the field
+     * @param length the length of the field
+     * @return String
+     */
+    private static String readString(byte[] header, int offset, int length) {
+        int end = offset;
+
+        while ((end < offset + length) && (header[end] != 0)) {
+            end++;
+        }
+        return new String( header, offset, end - offset, StandardCharsets.US_ASCII );
+    }
+
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.opentravel.otm.eitool.CircuitBreaker.State;
+
+/**
+ * Verifies the state transitions of the <code>CircuitBreaker</code>.
+ */
+public class CircuitBreakerTest {
+
+    private static final long LONG_OPEN_MILLIS = 60000;
+
+    /**
+     * The circuit must open when the failure threshold is reached, and reject calls while it is open.
+     */
+    @Test
+    public void testOpensAtThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker( 3, LONG_OPEN_MILLIS );
+
+        assertFalse( recordFailedCall( breaker ) );
+        assertFalse( recordFailedCall( breaker ) );
+        assertEquals( State.CLOSED, breaker.getState() );
+        assertEquals( 2, breaker.getConsecutiveFailures() );
+
+        assertTrue( recordFailedCall( breaker ) );
+        assertEquals( State.OPEN, breaker.getState() );
+        assertTrue( breaker.getRemainingOpenMillis() > 0 );
+        assertFalse( breaker.tryAcquire() );
+        assertEquals( State.OPEN, breaker.getState() );
+    }
+
+    /**
+     * A successful call must reset the count of consecutive failures.
+     */
+    @Test
+    public void testSuccessResetsFailures() {
+        CircuitBreaker breaker = new CircuitBreaker( 2, LONG_OPEN_MILLIS );
+
+        recordFailedCall( breaker );
+        assertTrue( breaker.tryAcquire() );
+        breaker.recordSuccess();
+        assertEquals( 0, breaker.getConsecutiveFailures() );
+
+        assertFalse( recordFailedCall( breaker ) );
+        assertEquals( State.CLOSED, breaker.getState() );
+    }
+
+    /**
+     * Once the open interval has elapsed, a single probe call must be permitted, and the circuit must close if the
+     * probe succeeds.
+     */
+    @Test
+    public void testProbeSuccessCloses() {
+        CircuitBreaker breaker = new CircuitBreaker( 1, 0 );
+
+        assertTrue( recordFailedCall( breaker ) );
+        assertEquals( 0, breaker.getRemainingOpenMillis() );
+
+        assertTrue( breaker.tryAcquire() );
+        assertEquals( State.HALF_OPEN, breaker.getState() );
+        assertFalse( breaker.tryAcquire() );
+
+        breaker.recordSuccess();
+        assertEquals( State.CLOSED, breaker.getState() );
+        assertTrue( breaker.tryAcquire() );
+        assertTrue( breaker.tryAcquire() );
+    }
+
+    /**
+     * A failed probe call must open the circuit again without reporting it as a newly opened circuit.
+     */
+    @Test
+    public void testProbeFailureReopens() {
+        CircuitBreaker breaker = new CircuitBreaker( 1, 0 );
+
+        assertTrue( recordFailedCall( breaker ) );
+        assertTrue( breaker.tryAcquire() );
+        assertEquals( State.HALF_OPEN, breaker.getState() );
+
+        assertFalse( breaker.recordFailure() );
+        assertEquals( State.OPEN, breaker.getState() );
+    }
+
+    /**
+     * An abandoned probe call must allow another probe without changing the state of the circuit.
+     */
+    @Test
+    public void testAbandonedProbe() {
+        CircuitBreaker breaker = new CircuitBreaker( 1, 0 );
+
+        recordFailedCall( breaker );
+        assertTrue( breaker.tryAcquire() );
+        assertFalse( breaker.tryAcquire() );
+
+        breaker.recordAbandoned();
+        assertEquals( State.HALF_OPEN, breaker.getState() );
+        assertTrue( breaker.tryAcquire() );
+    }
+
+    /**
+     * Acquires a call from the given circuit breaker and records its failure.
+     * 
+     * @param breaker the circuit breaker
+     * @return boolean true if the failure opened the circuit
+     */
+    private static boolean recordFailedCall(CircuitBreaker breaker) {
+        assertTrue( breaker.tryAcquire() );
+        return breaker.recordFailure();
+    }
+
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+import org.opentravel.schemacompiler.repository.impl.RepositoryItemImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Verifies that the <code>DownloadJournal</code> reloads the records of an earlier run and discards a record that
+ * was only partially written or corrupted when the process died.
+ */
+public class DownloadJournalTest {
+
+    private static final String BASE_NAMESPACE = "http://www.opentravel.org/ns/test";
+
+    @TempDir
+    File tempFolder;
+
+    private File journalFile;
+    private RepositoryItem item1;
+    private RepositoryItem item2;
+
+    /**
+     * Creates the repository items whose downloads are recorded.
+     */
+    @BeforeEach
+    public void setup() {
+        journalFile = new File( tempFolder, "workspace/export.journal" );
+        item1 = newItem( "Library1_1_0_0.otm", "1.0.0" );
+        item2 = newItem( "Library2_1_0_0.otm", "1.0.0" );
+    }
+
+    /**
+     * Downloads and staged files recorded by one journal must be loaded when the journal is reopened.
+     * 
+     * @throws IOException thrown if the journal cannot be written or read
+     */
+    @Test
+    public void testReloadRecords() throws IOException {
+        File sourceFile = newFile( "repository/" + item1.getFilename(), "library content" );
+        File destFile = newFile( "export/" + item1.getFilename(), "library content" );
+
+        try (DownloadJournal journal = new DownloadJournal( journalFile )) {
+            journal.recordDownload( item1 );
+            journal.recordDownload( item2 );
+            journal.recordDownload( item1 );
+            journal.recordStaged( item1, sourceFile );
+        }
+        try (DownloadJournal journal = new DownloadJournal( journalFile )) {
+            assertEquals( 2, journal.getDownloadCount() );
+            assertTrue( journal.isDownloaded( item1 ) );
+            assertTrue( journal.isDownloaded( item2 ) );
+            assertFalse( journal.isDownloaded( newItem( item1.getFilename(), "1.1.0" ) ) );
+            assertTrue( journal.isStaged( item1, sourceFile, destFile ) );
+            assertFalse( journal.isStaged( item2, sourceFile, destFile ) );
+        }
+    }
+
+    /**
+     * A record that was only partially written must be truncated on reopen, keeping the earlier records and allowing
+     * new records to be appended.
+     * 
+     * @throws IOException thrown if the journal cannot be written or read
+     */
+    @Test
+    public void testTornRecordTruncated() throws IOException {
+        long validLength;
+
+        try (DownloadJournal journal = new DownloadJournal( journalFile )) {
+            journal.recordDownload( item1 );
+        }
+        validLength = journalFile.length();
+        appendToJournal( "0badf00d D|" + BASE_NAMESPACE + "|Libr" );
+
+        try (DownloadJournal journal = new DownloadJournal( journalFile )) {
+            assertEquals( 1, journal.getDownloadCount() );
+            assertTrue( journal.isDownloaded( item1 ) );
+            assertEquals( validLength, journalFile.length() );
+            journal.recordDownload( item2 );
+        }
+        try (DownloadJournal journal = new DownloadJournal( journalFile )) {
+            assertEquals( 2, journal.getDownloadCount() );
+            assertTrue( journal.isDownloaded( item2 ) );
+        }
+    }
+
+    /**
+     * Loading must stop at the first complete record whose checksum does not match, discarding it and every record
+     * that follows it.
+     * 
+     * @throws IOException thrown if the journal cannot be written or read
+     */
+    @Test
+    public void testCorruptRecordTruncated() throws IOException {
+        String validRecord;
+        long validLength;
+
+        try (DownloadJournal journal = new DownloadJournal( journalFile )) {
+            journal.recordDownload( item1 );
+        }
+        validLength = journalFile.length();
+        validRecord = new String( Files.readAllBytes( journalFile.toPath() ), StandardCharsets.UTF_8 );
+        appendToJournal( "00000000 D|" + BASE_NAMESPACE + "|" + item2.getFilename() + "|1.0.0\n" + validRecord );
+
+        try (DownloadJournal journal = new DownloadJournal( journalFile )) {
+            assertEquals( 1, journal.getDownloadCount() );
+            assertFalse( journal.isDownloaded( item2 ) );
+            assertEquals( validLength, journalFile.length() );
+        }
+    }
+
+    /**
+     * A staged record must no longer match once the source file has changed or the staged file has been removed.
+     * 
+     * @throws IOException thrown if the journal or files cannot be written
+     */
+    @Test
+    public void testStagedFileChanged() throws IOException {
+        File sourceFile = newFile( "repository/" + item1.getFilename(), "library content" );
+        File destFile = newFile( "export/" + item1.getFilename(), "library content" );
+
+        try (DownloadJournal journal = new DownloadJournal( journalFile )) {
+            journal.recordStaged( item1, sourceFile );
+            assertTrue( journal.isStaged( item1, sourceFile, destFile ) );
+
+            Files.write( sourceFile.toPath(), "updated library content".getBytes( StandardCharsets.UTF_8 ) );
+            assertFalse( journal.isStaged( item1, sourceFile, destFile ) );
+
+            Files.copy( sourceFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+            journal.recordStaged( item1, sourceFile );
+            assertTrue( journal.isStaged( item1, sourceFile, destFile ) );
+
+            Files.delete( destFile.toPath() );
+            assertFalse( journal.isStaged( item1, sourceFile, destFile ) );
+        }
+    }
+
+    /**
+     * Deleting the journal must remove the journal file.
+     * 
+     * @throws IOException thrown if the journal cannot be written or deleted
+     */
+    @Test
+    public void testDelete() throws IOException {
+        DownloadJournal journal = new DownloadJournal( journalFile );
+
+        journal.recordDownload( item1 );
+        journal.delete();
+        assertFalse( journalFile.exists() );
+    }
+
+    /**
+     * Returns a repository item with the given filename and version.
+     * 
+     * @param filename the filename of the item
+     * @param version the version of the item
+     * @return RepositoryItem
+     */
+    private static RepositoryItem newItem(String filename, String version) {
+        RepositoryItemImpl item = new RepositoryItemImpl();
+
+        item.setBaseNamespace( BASE_NAMESPACE );
+        item.setFilename( filename );
+        item.setVersion( version );
+        return item;
+    }
+
+    /**
+     * Creates a file with the given path (relative to the temporary folder) and content.
+     * 
+     * @param path the relative path of the file
+     * @param content the content of the file
+     * @return File
+     * @throws IOException thrown if the file cannot be written
+     */
+    private File newFile(String path, String content) throws IOException {
+        File file = new File( tempFolder, path );
+
+        file.getParentFile().mkdirs();
+        Files.write( file.toPath(), content.getBytes( StandardCharsets.UTF_8 ) );
+        return file;
+    }
+
+    /**
+     * Appends raw content to the journal file, simulating a write that was interrupted or corrupted.
+     * 
+     * @param content the content to append
+     * @throws IOException thrown if the journal file cannot be written
+     */
+    private void appendToJournal(String content) throws IOException {
+        Files.write( journalFile.toPath(), content.getBytes( StandardCharsets.UTF_8 ), StandardOpenOption.APPEND );
+    }
+
+}
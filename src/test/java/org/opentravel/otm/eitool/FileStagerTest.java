@@ -0,0 +1,124 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentravel.otm.eitool.FileStager.StagingStrategy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Verifies the staging strategies of the <code>FileStager</code>, and in particular that restaging a file over a hard
+ * link from an earlier export never modifies the library file in the local repository.
+ */
+public class FileStagerTest {
+
+    private static final byte[] LIBRARY_CONTENT =
+        "<Library xmlns=\"http://www.OpenTravel.org/ns/OTA2/LibraryModel_v01_06\"/>\n"
+            .getBytes( StandardCharsets.UTF_8 );
+
+    @TempDir
+    File tempFolder;
+
+    private File repositoryFolder;
+    private File exportFolder;
+    private File sourceFile;
+    private File destFile;
+
+    /**
+     * Creates the repository and export folders and the library file to be staged.
+     * 
+     * @throws IOException thrown if the folders or library file cannot be created
+     */
+    @BeforeEach
+    public void setup() throws IOException {
+        repositoryFolder = new File( tempFolder, "repository" );
+        exportFolder = new File( tempFolder, "export" );
+        repositoryFolder.mkdirs();
+        exportFolder.mkdirs();
+        sourceFile = new File( repositoryFolder, "Library_1_0_0.otm" );
+        destFile = new File( exportFolder, "Library_1_0_0.otm" );
+        Files.write( sourceFile.toPath(), LIBRARY_CONTENT );
+    }
+
+    /**
+     * Restaging a hard-linked file with a zero-copy transfer must replace the link rather than write through it.
+     * 
+     * @throws IOException thrown if a file cannot be staged or read
+     */
+    @Test
+    public void testZeroCopyOverHardLinkPreservesSource() throws IOException {
+        new FileStager( StagingStrategy.HARD_LINK, repositoryFolder, exportFolder ).stage( sourceFile, destFile );
+        new FileStager( StagingStrategy.ZERO_COPY, repositoryFolder, exportFolder ).stage( sourceFile, destFile );
+
+        assertArrayEquals( LIBRARY_CONTENT, Files.readAllBytes( sourceFile.toPath() ) );
+        assertArrayEquals( LIBRARY_CONTENT, Files.readAllBytes( destFile.toPath() ) );
+        assertFalse( Files.isSameFile( sourceFile.toPath(), destFile.toPath() ) );
+    }
+
+    /**
+     * Restaging a hard-linked file with a heap copy must replace the link rather than write through it.
+     * 
+     * @throws IOException thrown if a file cannot be staged or read
+     */
+    @Test
+    public void testCopyOverHardLinkPreservesSource() throws IOException {
+        new FileStager( StagingStrategy.HARD_LINK, repositoryFolder, exportFolder ).stage( sourceFile, destFile );
+        new FileStager( StagingStrategy.COPY, repositoryFolder, exportFolder ).stage( sourceFile, destFile );
+
+        assertArrayEquals( LIBRARY_CONTENT, Files.readAllBytes( sourceFile.toPath() ) );
+        assertArrayEquals( LIBRARY_CONTENT, Files.readAllBytes( destFile.toPath() ) );
+        assertFalse( Files.isSameFile( sourceFile.toPath(), destFile.toPath() ) );
+    }
+
+    /**
+     * A zero-copy transfer replaces a larger existing file and is reported as transferred bytes, not linked bytes.
+     * 
+     * @throws IOException thrown if a file cannot be staged or read
+     */
+    @Test
+    public void testZeroCopyReplacesExistingFile() throws IOException {
+        FileStager stager = new FileStager( StagingStrategy.ZERO_COPY, repositoryFolder, exportFolder );
+
+        Files.write( destFile.toPath(), new byte[LIBRARY_CONTENT.length * 4] );
+        stager.stage( sourceFile, destFile );
+
+        assertArrayEquals( LIBRARY_CONTENT, Files.readAllBytes( destFile.toPath() ) );
+        assertEquals( LIBRARY_CONTENT.length, stager.getBytesTransferred() );
+        assertEquals( 0, stager.getBytesLinked() );
+    }
+
+    /**
+     * Hard-linked bytes are reported separately from bytes that were copied by a zero-copy transfer.
+     * 
+     * @throws IOException thrown if a file cannot be staged or read
+     */
+    @Test
+    public void testHardLinkBytesReportedSeparately() throws IOException {
+        FileStager stager = new FileStager( StagingStrategy.HARD_LINK, repositoryFolder, exportFolder );
+
+        stager.stage( sourceFile, destFile );
+
+        if (stager.getEffectiveStrategy() == StagingStrategy.HARD_LINK) {
+            assertEquals( LIBRARY_CONTENT.length, stager.getBytesLinked() );
+            assertEquals( 0, stager.getBytesTransferred() );
+
+        } else { // Hard links are not supported by the file system
+            assertEquals( 0, stager.getBytesLinked() );
+            assertEquals( LIBRARY_CONTENT.length, stager.getBytesTransferred() );
+        }
+        assertArrayEquals( LIBRARY_CONTENT, Files.readAllBytes( destFile.toPath() ) );
+    }
+
+}
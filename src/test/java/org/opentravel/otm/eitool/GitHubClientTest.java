@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that <code>GitHubClient</code> instances are shared by all exporters that access the same REST API.
+ */
+public class GitHubClientTest {
+
+    private static final String ENTERPRISE_API_URL = "https://github.example.com/api/v3";
+
+    /**
+     * The public GitHub API must be served by the default client, regardless of a trailing slash in its URL.
+     */
+    @Test
+    public void testDefaultInstance() {
+        assertSame( GitHubClient.getDefault(), GitHubClient.getInstance( GitHubClient.GITHUB_API_URL ) );
+        assertSame( GitHubClient.getDefault(), GitHubClient.getInstance( GitHubClient.GITHUB_API_URL + "/" ) );
+    }
+
+    /**
+     * Each GitHub-compatible API must be served by a single shared client for its normalized base URL.
+     */
+    @Test
+    public void testSharedInstance() {
+        GitHubClient client = GitHubClient.getInstance( ENTERPRISE_API_URL );
+
+        assertEquals( ENTERPRISE_API_URL, client.getApiUrl() );
+        assertSame( client, GitHubClient.getInstance( " " + ENTERPRISE_API_URL + "/ " ) );
+        assertNotSame( client, GitHubClient.getDefault() );
+        assertNotSame( client, GitHubClient.getInstance( "https://github.example.org/api/v3" ) );
+    }
+
+    /**
+     * URLs that are not valid HTTP or HTTPS URLs must be rejected.
+     */
+    @Test
+    public void testInvalidApiUrl() {
+        assertThrows( IllegalArgumentException.class, () -> GitHubClient.getInstance( "ftp://github.example.com" ) );
+        assertThrows( IllegalArgumentException.class, () -> GitHubClient.getInstance( "not a url" ) );
+    }
+
+}
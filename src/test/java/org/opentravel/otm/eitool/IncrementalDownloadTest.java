@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentravel.schemacompiler.repository.RemoteRepository;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+import org.opentravel.schemacompiler.repository.impl.RepositoryItemImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Verifies that an incremental export picks up a draft library whose content changed on the remote repository without
+ * a change to its version. The remote repository is simulated by a proxy that behaves like the OTM client: content is
+ * transferred to the local repository if the download is forced or the local copy differs from the remote content.
+ */
+public class IncrementalDownloadTest {
+
+    private static final byte[] ORIGINAL_CONTENT = "<Library>original</Library>\n".getBytes( StandardCharsets.UTF_8 );
+    private static final byte[] EDITED_CONTENT = "<Library>edited in place</Library>\n"
+        .getBytes( StandardCharsets.UTF_8 );
+
+    @TempDir
+    File tempFolder;
+
+    private File contentFile;
+    private byte[] remoteContent;
+    private List<Boolean> forceFlags = new ArrayList<>();
+    private int transferCount;
+    private RepositoryItem item;
+
+    /**
+     * Creates the draft library item whose content is downloaded by each run.
+     */
+    @BeforeEach
+    public void setup() {
+        RepositoryItemImpl draftItem = new RepositoryItemImpl();
+
+        draftItem.setBaseNamespace( "http://www.opentravel.org/ns/test" );
+        draftItem.setFilename( "Draft_1_0_0.otm" );
+        draftItem.setVersion( "1.0.0" );
+        item = draftItem;
+        contentFile = new File( tempFolder, "repository/" + item.getFilename() );
+        remoteContent = ORIGINAL_CONTENT;
+    }
+
+    /**
+     * Content that is edited on the remote repository under the same version must be downloaded by the next
+     * incremental run and reported as changed by the export manifest.
+     * 
+     * @throws Exception thrown if a download or the manifest check fails
+     */
+    @Test
+    public void testRemoteEditOfUnchangedVersion() throws Exception {
+        ExportManifest manifest = new ExportManifest( "test-" + UUID.randomUUID(), "otm-export", false );
+
+        runIncrementalDownload();
+        assertFalse( manifest.isUnchanged( item, contentFile ) );
+        manifest.update( item, contentFile );
+
+        runIncrementalDownload();
+        assertTrue( manifest.isUnchanged( item, contentFile ) );
+        assertEquals( 1, transferCount );
+
+        remoteContent = EDITED_CONTENT;
+        runIncrementalDownload();
+        assertArrayEquals( EDITED_CONTENT, Files.readAllBytes( contentFile.toPath() ) );
+        assertFalse( manifest.isUnchanged( item, contentFile ) );
+        assertEquals( 2, transferCount );
+        assertEquals( Arrays.asList( false, false, false ), forceFlags );
+    }
+
+    /**
+     * Runs the download phase of an incremental export for the draft library item.
+     * 
+     * @throws Exception thrown if the item cannot be downloaded
+     */
+    private void runIncrementalDownload() throws Exception {
+        try (ResilientRepositoryClient client = new ResilientRepositoryClient( newRemoteRepository() )) {
+            DownloadEngine engine = new DownloadEngine( client, 1, false );
+
+            client.setForceDownload( false );
+            engine.start( null );
+            engine.submit( item );
+            DownloadEngine.checkFailures( engine.awaitCompletion(), 1, null );
+        }
+    }
+
+    /**
+     * Returns a simulated remote repository that copies the current remote content to the local content file.
+     * 
+     * @return RemoteRepository
+     */
+    private RemoteRepository newRemoteRepository() {
+        return (RemoteRepository) Proxy.newProxyInstance( getClass().getClassLoader(),
+            new Class<?>[] { RemoteRepository.class }, (proxy, method, args) -> {
+                if (method.getName().equals( "downloadContent" )) {
+                    downloadContent( (Boolean) args[1] );
+                }
+                return null;
+            } );
+    }
+
+    /**
+     * Simulates the download of the item's content by the OTM client.
+     * 
+     * @param forceUpdate flag indicating whether the download was forced
+     * @throws IOException thrown if the local content file cannot be written
+     */
+    private synchronized void downloadContent(boolean forceUpdate) throws IOException {
+        forceFlags.add( forceUpdate );
+
+        if (forceUpdate || !contentFile.exists()
+            || !Arrays.equals( remoteContent, Files.readAllBytes( contentFile.toPath() ) )) {
+            contentFile.getParentFile().mkdirs();
+            Files.write( contentFile.toPath(), remoteContent );
+            transferCount++;
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Verifies that the <code>ParallelGzipOutputStream</code> produces a single standard gzip member whose framing, CRC
+ * and size trailer are correct, and whose blocks are chained through their preset dictionaries.
+ */
+public class ParallelGzipOutputStreamTest {
+
+    private static final int BLOCK_SIZE = 8 * 1024;
+
+    /**
+     * Data spanning many blocks (including a partial last block and single-byte writes) must survive a round trip
+     * through a standard gzip reader.
+     * 
+     * @throws IOException thrown if the data cannot be compressed or decompressed
+     */
+    @Test
+    public void testRoundTripMultipleBlocks() throws IOException {
+        byte[] data = newTestData( (BLOCK_SIZE * 20) + 123 );
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        try (ParallelGzipOutputStream out =
+            new ParallelGzipOutputStream( compressed, 4, Deflater.DEFAULT_COMPRESSION, BLOCK_SIZE )) {
+            out.write( data, 0, 1000 );
+            out.flush();
+
+            for (int i = 1000; i < 1010; i++) {
+                out.write( data[i] );
+            }
+            out.write( data, 1010, data.length - 1010 );
+        }
+        assertArrayEquals( data, decompress( compressed.toByteArray() ) );
+    }
+
+    /**
+     * The stream must begin with the gzip header and end with the little-endian CRC32 and size of the input.
+     * 
+     * @throws IOException thrown if the data cannot be compressed
+     */
+    @Test
+    public void testHeaderAndTrailer() throws IOException {
+        byte[] data = newTestData( (BLOCK_SIZE * 3) + 7 );
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        CRC32 crc = new CRC32();
+        byte[] gzip;
+
+        try (ParallelGzipOutputStream out =
+            new ParallelGzipOutputStream( compressed, 2, Deflater.DEFAULT_COMPRESSION, BLOCK_SIZE )) {
+            out.write( data );
+        }
+        gzip = compressed.toByteArray();
+        crc.update( data );
+
+        assertEquals( 0x1f, gzip[0] & 0xff );
+        assertEquals( 0x8b, gzip[1] & 0xff );
+        assertEquals( Deflater.DEFLATED, gzip[2] );
+        assertEquals( crc.getValue(), readInt( gzip, gzip.length - 8 ) );
+        assertEquals( data.length, readInt( gzip, gzip.length - 4 ) );
+    }
+
+    /**
+     * A stream that is closed without any data must still be a valid gzip member with an empty payload.
+     * 
+     * @throws IOException thrown if the stream cannot be written or read
+     */
+    @Test
+    public void testEmptyStream() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        byte[] gzip;
+
+        new ParallelGzipOutputStream( compressed, 2 ).close();
+        gzip = compressed.toByteArray();
+
+        assertEquals( 0, decompress( gzip ).length );
+        assertEquals( 0, readInt( gzip, gzip.length - 8 ) );
+        assertEquals( 0, readInt( gzip, gzip.length - 4 ) );
+    }
+
+    /**
+     * Repeated blocks of incompressible data must compress to little more than a single block, which is only possible
+     * if each block uses the end of the previous block as its dictionary.
+     * 
+     * @throws IOException thrown if the data cannot be compressed or decompressed
+     */
+    @Test
+    public void testDictionaryChaining() throws IOException {
+        byte[] randomBlock = new byte[BLOCK_SIZE];
+        byte[] data = new byte[BLOCK_SIZE * 32];
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        new Random( 42 ).nextBytes( randomBlock );
+
+        for (int i = 0; i < 32; i++) {
+            System.arraycopy( randomBlock, 0, data, i * BLOCK_SIZE, BLOCK_SIZE );
+        }
+        try (ParallelGzipOutputStream out =
+            new ParallelGzipOutputStream( compressed, 4, Deflater.DEFAULT_COMPRESSION, BLOCK_SIZE )) {
+            out.write( data );
+        }
+        assertArrayEquals( data, decompress( compressed.toByteArray() ) );
+        assertTrue( compressed.size() < (BLOCK_SIZE * 2), "Compressed size: " + compressed.size() );
+    }
+
+    /**
+     * The thread count and block size must be positive.
+     */
+    @Test
+    public void testInvalidArguments() {
+        assertThrows( IllegalArgumentException.class,
+            () -> new ParallelGzipOutputStream( new ByteArrayOutputStream(), 0 ) );
+        assertThrows( IllegalArgumentException.class,
+            () -> new ParallelGzipOutputStream( new ByteArrayOutputStream(), 1, Deflater.DEFAULT_COMPRESSION, 0 ) );
+    }
+
+    /**
+     * Writing to a stream that has been finished must fail.
+     * 
+     * @throws IOException thrown if the stream cannot be finished
+     */
+    @Test
+    public void testWriteAfterFinish() throws IOException {
+        try (ParallelGzipOutputStream out = new ParallelGzipOutputStream( new ByteArrayOutputStream(), 1 )) {
+            out.finish();
+            assertThrows( IOException.class, () -> out.write( 1 ) );
+        }
+    }
+
+    /**
+     * Aborting a stream must close the underlying stream without compressing the pending blocks or writing the
+     * trailer, and must leave the stream closed.
+     * 
+     * @throws IOException thrown if the stream cannot be written or aborted
+     */
+    @Test
+    public void testAbort() throws IOException {
+        byte[] data = newTestData( BLOCK_SIZE * 3 );
+        boolean[] underlyingClosed = new boolean[1];
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                underlyingClosed[0] = true;
+            }
+        };
+        ParallelGzipOutputStream out =
+            new ParallelGzipOutputStream( compressed, 2, Deflater.DEFAULT_COMPRESSION, BLOCK_SIZE );
+        int abortedLength;
+
+        out.write( data );
+        out.abort();
+        abortedLength = compressed.size();
+
+        assertTrue( underlyingClosed[0] );
+        assertThrows( IOException.class, () -> out.write( 1 ) );
+        assertThrows( IOException.class, () -> decompress( compressed.toByteArray() ) );
+
+        out.close();
+        assertEquals( abortedLength, compressed.size() );
+    }
+
+    /**
+     * Returns compressible test data of the given length that does not repeat within a single block.
+     * 
+     * @param length the number of bytes to return
+     * @return byte[]
+     */
+    private static byte[] newTestData(int length) {
+        Random random = new Random( length );
+        byte[] data = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) ('a' + random.nextInt( 8 ));
+        }
+        return data;
+    }
+
+    /**
+     * Decompresses the given gzip data using the standard gzip reader.
+     * 
+     * @param gzip the compressed data
+     * @return byte[]
+     * @throws IOException thrown if the data is not a valid gzip stream
+     */
+    private static byte[] decompress(byte[] gzip) throws IOException {
+        try (InputStream in = new GZIPInputStream( new ByteArrayInputStream( gzip ) )) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Returns the unsigned little-endian 32-bit value at the given offset.
+     * 
+     * @param data the data from which to read the value
+     * @param offset the offset of the value
+     * @return long
+     */
+    private static long readInt(byte[] data, int offset) {
+        return (data[offset] & 0xffL) | ((data[offset + 1] & 0xffL) << 8) | ((data[offset + 2] & 0xffL) << 16)
+            | ((data[offset + 3] & 0xffL) << 24);
+    }
+
+}
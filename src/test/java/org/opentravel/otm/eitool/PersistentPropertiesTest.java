@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Verifies that <code>PersistentProperties</code> replaces its file as a whole when it is saved, leaving no temporary
+ * files behind.
+ */
+public class PersistentPropertiesTest {
+
+    @TempDir
+    File tempFolder;
+
+    private File saveFile;
+
+    /**
+     * Assigns the location of the persistent file, in a folder that does not exist yet.
+     */
+    @BeforeEach
+    public void setup() {
+        saveFile = new File( tempFolder, "exports/owner/repo.manifest" );
+    }
+
+    /**
+     * Saved properties must be loaded by a new instance, and saving again must replace the earlier content.
+     * 
+     * @throws IOException thrown if the properties cannot be saved or loaded
+     */
+    @Test
+    public void testSaveReplacesFile() throws IOException {
+        PersistentProperties props = new PersistentProperties( saveFile );
+
+        props.setProperty( "Library1_1_0_0.otm", "first" );
+        props.setProperty( "Library2_1_0_0.otm", "second" );
+        props.saveProperties();
+
+        props = new PersistentProperties( saveFile );
+        assertEquals( "first", props.getProperty( "Library1_1_0_0.otm" ) );
+        assertEquals( "second", props.getProperty( "Library2_1_0_0.otm" ) );
+
+        props.remove( "Library1_1_0_0.otm" );
+        props.setProperty( "Library2_1_0_0.otm", "updated" );
+        props.saveProperties();
+
+        props = new PersistentProperties( saveFile );
+        assertNull( props.getProperty( "Library1_1_0_0.otm" ) );
+        assertEquals( "updated", props.getProperty( "Library2_1_0_0.otm" ) );
+        assertArrayEquals( new String[] { saveFile.getName() }, saveFile.getParentFile().list() );
+    }
+
+}
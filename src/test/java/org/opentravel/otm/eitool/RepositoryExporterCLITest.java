@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Verifies the argument parsing of the <code>RepositoryExporterCLI</code>. Only arguments that are rejected (or that
+ * display the usage) before an export is started are tested.
+ */
+public class RepositoryExporterCLITest {
+
+    private Map<String, String> environment;
+    private ByteArrayOutputStream output;
+
+    /**
+     * Creates an empty environment and captures the output of the command-line runner.
+     */
+    @BeforeEach
+    public void setup() {
+        environment = new HashMap<>();
+        output = new ByteArrayOutputStream();
+    }
+
+    /**
+     * The help option must display the usage and exit successfully.
+     */
+    @Test
+    public void testHelp() {
+        assertEquals( RepositoryExporterCLI.EXIT_SUCCESS, run( "--help" ) );
+        assertTrue( getOutput().startsWith( "Usage: otm_export_cli" ) );
+        assertFalse( getOutput().contains( "ERROR" ) );
+    }
+
+    /**
+     * Unrecognized options, positional arguments, and values for flag options must be rejected.
+     */
+    @Test
+    public void testUnrecognizedArguments() {
+        assertUsageError( "Unrecognized option: --colour", "--colour" );
+        assertUsageError( "Unexpected argument: export", "export" );
+        assertUsageError( "Unrecognized option: --plan=yes", "--plan=yes" );
+    }
+
+    /**
+     * An option that requires a value must be rejected if the value is missing.
+     */
+    @Test
+    public void testMissingValue() {
+        assertUsageError( "Missing value for option: --owner", "--owner" );
+    }
+
+    /**
+     * The organization and user options must not be used together.
+     */
+    @Test
+    public void testOrgAndUser() {
+        assertUsageError( "Options --org and --user cannot be used together.", "--org", "--user" );
+    }
+
+    /**
+     * Required options must be reported as missing unless they are provided by the environment.
+     */
+    @Test
+    public void testRequiredOptions() {
+        assertUsageError( "Missing required option: --owner (or " + RepositoryExporterCLI.ENV_OWNER + ")" );
+        assertUsageError( "Missing required option: --repo (or " + RepositoryExporterCLI.ENV_REPOSITORY + ")",
+            "--owner=opentravel" );
+
+        environment.put( RepositoryExporterCLI.ENV_OWNER, "opentravel" );
+        environment.put( RepositoryExporterCLI.ENV_REPOSITORY, "otm-export" );
+        assertUsageError(
+            "Missing required option: --token (or " + RepositoryExporterCLI.ENV_GITHUB_TOKEN + ")" );
+
+        environment.put( RepositoryExporterCLI.ENV_GITHUB_TOKEN, "  " );
+        assertUsageError(
+            "Missing required option: --token (or " + RepositoryExporterCLI.ENV_GITHUB_TOKEN + ")" );
+    }
+
+    /**
+     * Verifies that running with the given arguments fails with a usage error that reports the given message.
+     * 
+     * @param message the expected error message
+     * @param args the command-line arguments
+     */
+    private void assertUsageError(String message, String... args) {
+        assertEquals( RepositoryExporterCLI.EXIT_USAGE_ERROR, run( args ) );
+        assertTrue( getOutput().startsWith( "ERROR: " + message + System.lineSeparator() ), getOutput() );
+        assertTrue( getOutput().contains( "Usage: otm_export_cli" ) );
+    }
+
+    /**
+     * Runs the command-line runner with the given arguments and returns its exit status. Output from any earlier run
+     * is discarded.
+     * 
+     * @param args the command-line arguments
+     * @return int
+     */
+    private int run(String... args) {
+        PrintStream out = new PrintStream( output, true, StandardCharsets.UTF_8 );
+
+        output.reset();
+        return new RepositoryExporterCLI( environment, out ).run( args );
+    }
+
+    /**
+     * Returns the output that has been written by the command-line runner.
+     * 
+     * @return String
+     */
+    private String getOutput() {
+        return output.toString( StandardCharsets.UTF_8 );
+    }
+
+}
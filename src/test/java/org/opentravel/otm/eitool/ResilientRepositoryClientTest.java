@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2026 SkyTech Services, LLC. All rights reserved.
+ */
+
+package org.opentravel.otm.eitool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentravel.schemacompiler.repository.RemoteRepository;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.impl.RepositoryItemImpl;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies that a timed call to the remote repository that ignores the interrupt of its thread does not block the
+ * calling thread beyond the grace period, and that such calls cannot grow the number of call threads without bound.
+ */
+public class ResilientRepositoryClientTest {
+
+    private static final long MAX_WAIT_MILLIS = 15000;
+
+    private CountDownLatch release;
+    private AtomicInteger callCount;
+    private ResilientRepositoryClient client;
+
+    /**
+     * Creates a client whose downloads hang, ignoring interrupts, until they are released by the test.
+     */
+    @BeforeEach
+    public void setup() {
+        release = new CountDownLatch( 1 );
+        callCount = new AtomicInteger();
+        client = new ResilientRepositoryClient( newHangingRepository() );
+        client.setMaxAttempts( 1 );
+        client.setCallTimeoutMillis( 100 );
+        client.setMaxCallThreads( 1 );
+    }
+
+    /**
+     * Releases any hanging downloads and closes the client.
+     */
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        client.close();
+    }
+
+    /**
+     * A download that times out and ignores the interrupt must be reported as failed once the grace period has
+     * elapsed. A later call that times out while waiting for the only call thread must be abandoned without being made.
+     */
+    @Test
+    public void testHangingCallAbandoned() {
+        long startMillis = System.currentTimeMillis();
+
+        assertThrows( RepositoryException.class, () -> client.downloadContent( new RepositoryItemImpl(), null ) );
+        assertThrows( RepositoryException.class, () -> client.downloadContent( new RepositoryItemImpl(), null ) );
+        assertTrue( (System.currentTimeMillis() - startMillis) < MAX_WAIT_MILLIS );
+        assertEquals( 1, callCount.get() );
+    }
+
+    /**
+     * Returns a simulated remote repository whose downloads wait for the release latch and ignore interrupts.
+     * 
+     * @return RemoteRepository
+     */
+    private RemoteRepository newHangingRepository() {
+        return (RemoteRepository) Proxy.newProxyInstance( getClass().getClassLoader(),
+            new Class<?>[] { RemoteRepository.class }, (proxy, method, args) -> {
+                if (method.getName().equals( "downloadContent" )) {
+                    callCount.incrementAndGet();
+                    awaitReleaseUninterruptibly();
+                }
+                return null;
+            } );
+    }
+
+    /**
+     * Waits for the release latch, ignoring any interrupts (as a blocking socket read would).
+     */
+    private void awaitReleaseUninterruptibly() {
+        boolean released = false;
+
+        while (!released) {
+            try {
+                released = release.await( MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS );
+
+            } catch (InterruptedException e) {
+                // Ignore - simulates a call that does not respond to the interrupt
+            }
+        }
+    }
+
+}